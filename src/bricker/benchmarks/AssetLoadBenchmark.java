@@ -0,0 +1,150 @@
+package bricker.benchmarks;
+
+import bricker.rendering.TextureAtlas;
+import bricker.utils.AssetBundle;
+import bricker.utils.AssetBundleBuilder;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * AssetLoadBenchmark class measures the cold start of loading the game assets file by file against loading them
+ * from a pre-decoded asset bundle.
+ * The benchmark first builds a bundle of the assets directory. It then starts a fresh JVM for every measured
+ * load, so each load pays the class loading and first-use costs of a real launch, and prints the median time of
+ * decoding every image and sound from its file and of mapping the bundle and making every image and sound from it.
+ * Usage: java bricker.benchmarks.AssetLoadBenchmark [assets directory]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AssetLoadBenchmark {
+    private static final String DEFAULT_ASSETS_DIRECTORY = "assets";
+    private static final String FILES_MODE = "files";
+    private static final String BUNDLE_MODE = "bundle";
+    private static final int COLD_RUNS = 5;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    /**
+     * Default constructor for the AssetLoadBenchmark class.
+     */
+    public AssetLoadBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark, or a single measured load when started by the benchmark in a fresh JVM.
+     *
+     * @param args the assets directory, or the mode and source of a single measured load.
+     * @throws Exception if the assets cannot be loaded or a measured load fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2) {
+            long start = System.nanoTime();
+            int loaded = args[0].equals(FILES_MODE) ? loadFiles(Paths.get(args[1])) :
+                    loadBundle(Paths.get(args[1]));
+            System.out.println((System.nanoTime() - start) + " " + loaded);
+            return;
+        }
+        Path assetsDirectory = Paths.get(args.length == 1 ? args[0] : DEFAULT_ASSETS_DIRECTORY);
+        Path bundleFile = Files.createTempFile("bricker", ".bundle");
+        try {
+            AssetBundleBuilder builder = new AssetBundleBuilder();
+            int assets = builder.addDirectory(assetsDirectory);
+            builder.write(bundleFile);
+            System.out.printf("%d assets, bundle of %d bytes%n", assets, Files.size(bundleFile));
+            double filesMillis = coldLoad(FILES_MODE, assetsDirectory.toString());
+            double bundleMillis = coldLoad(BUNDLE_MODE, bundleFile.toString());
+            System.out.printf("file by file: %.1fms, bundle: %.1fms, speedup %.1fx (median of %d cold runs)%n",
+                    filesMillis, bundleMillis, filesMillis / bundleMillis, COLD_RUNS);
+        } finally {
+            Files.deleteIfExists(bundleFile);
+        }
+    }
+
+    /**
+     * Measures loads of the assets, each in a fresh JVM.
+     *
+     * @param mode   the way the assets are loaded.
+     * @param source the assets directory or the bundle file.
+     * @return the median load time in milliseconds.
+     * @throws Exception if a load fails.
+     */
+    private static double coldLoad(String mode, String source) throws Exception {
+        long[] times = new long[COLD_RUNS];
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        for (int run = 0; run < COLD_RUNS; run++) {
+            Process process = new ProcessBuilder(java, "-Djava.awt.headless=true", "-cp",
+                    System.getProperty("java.class.path"), AssetLoadBenchmark.class.getName(), mode, source)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line = output.readLine();
+                if (process.waitFor() != 0 || line == null) {
+                    throw new IOException("The " + mode + " load failed");
+                }
+                times[run] = Long.parseLong(line.split(" ")[0]);
+            }
+        }
+        Arrays.sort(times);
+        return times[COLD_RUNS / 2] / NANOS_IN_MILLI;
+    }
+
+    /**
+     * Decodes every image and sound of the assets directory from its file.
+     *
+     * @param assetsDirectory the assets directory.
+     * @return the number of loaded assets.
+     * @throws Exception if an asset cannot be decoded.
+     */
+    private static int loadFiles(Path assetsDirectory) throws Exception {
+        int loaded = 0;
+        File[] files = assetsDirectory.toFile().listFiles();
+        if (files == null) {
+            throw new IOException("Not a directory: " + assetsDirectory);
+        }
+        for (File file : files) {
+            String name = file.getName().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+                TextureAtlas.readImage(file.getPath());
+                loaded++;
+            } else if (name.endsWith(".wav")) {
+                try (AudioInputStream sound = AudioSystem.getAudioInputStream(file)) {
+                    sound.readAllBytes();
+                }
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Maps the bundle and makes every image and sound in it.
+     *
+     * @param bundleFile the bundle file.
+     * @return the number of loaded assets.
+     * @throws Exception if the bundle cannot be read.
+     */
+    private static int loadBundle(Path bundleFile) throws Exception {
+        AssetBundle bundle = AssetBundle.open(bundleFile);
+        int loaded = 0;
+        for (String path : bundle.paths()) {
+            if (bundle.containsImage(path)) {
+                bundle.readImage(path, false);
+            } else {
+                try (AudioInputStream sound = bundle.openSound(path)) {
+                    sound.readAllBytes();
+                }
+            }
+            loaded++;
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,123 @@
+package bricker.benchmarks;
+
+import bricker.rendering.TextureAtlas;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AtlasRenderBenchmark class measures the rendering throughput of the game sprites headlessly, drawing from
+ * separate images against drawing from a texture atlas.
+ * A frame draws a board of bricks, a crowd of pucks and a few paddles and hearts into an offscreen image, in the
+ * interleaved order of the game's layers, once with every sprite drawn from its own image the way a plain image
+ * renderable draws it, and once with every sprite drawn from its region of the atlas. The frames per second of
+ * both are printed for growing numbers of sprites.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AtlasRenderBenchmark {
+    private static final int[] BRICK_COUNTS = {500, 2000, 8000};
+    private static final int FRAME_WIDTH = 1280;
+    private static final int FRAME_HEIGHT = 720;
+    private static final int SPRITE_WIDTH = 40;
+    private static final int SPRITE_HEIGHT = 15;
+    private static final int WARMUP_FRAMES = 30;
+    private static final int MEASURED_FRAMES = 60;
+    private static final String[] OPAQUE_IMAGES = {"assets/brick.png"};
+    private static final String[] TRANSPARENT_IMAGES = {"assets/mockBall.png", "assets/paddle.png",
+            "assets/heart.png", "assets/ball.png"};
+
+    /**
+     * Default constructor for the AtlasRenderBenchmark class.
+     */
+    public AtlasRenderBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the frames per second of both ways of drawing.
+     *
+     * @param args the command line arguments, ignored.
+     * @throws IOException if an asset cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        int spriteCount = OPAQUE_IMAGES.length + TRANSPARENT_IMAGES.length;
+        BufferedImage[] separateImages = new BufferedImage[spriteCount];
+        Renderable[] atlasRegions = new Renderable[spriteCount];
+        TextureAtlas atlas = new TextureAtlas(1024);
+        for (int i = 0; i < spriteCount; i++) {
+            boolean isTransparent = i >= OPAQUE_IMAGES.length;
+            String path = isTransparent ? TRANSPARENT_IMAGES[i - OPAQUE_IMAGES.length] : OPAQUE_IMAGES[i];
+            separateImages[i] = TextureAtlas.toArgb(TextureAtlas.readImage(path), isTransparent);
+            atlas.add(path, isTransparent);
+        }
+        atlas.pack();
+        for (int i = 0; i < spriteCount; i++) {
+            boolean isTransparent = i >= OPAQUE_IMAGES.length;
+            String path = isTransparent ? TRANSPARENT_IMAGES[i - OPAQUE_IMAGES.length] : OPAQUE_IMAGES[i];
+            atlasRegions[i] = atlas.region(path, isTransparent);
+        }
+        BufferedImage frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        System.out.printf("atlas %dx%d with %d sprites%n", atlas.getAtlasImage().getWidth(),
+                atlas.getAtlasImage().getHeight(), atlas.size());
+        System.out.println("sprites    separate(fps)  atlas(fps)     speedup");
+        for (int bricks : BRICK_COUNTS) {
+            int sprites = bricks * 2;
+            double separateFps = measure(frame, sprites, spriteCount, (graphics, sprite, x, y) ->
+                    graphics.drawImage(separateImages[sprite], x, y, SPRITE_WIDTH, SPRITE_HEIGHT, null));
+            Vector2 dimensions = new Vector2(SPRITE_WIDTH, SPRITE_HEIGHT);
+            double atlasFps = measure(frame, sprites, spriteCount, (graphics, sprite, x, y) ->
+                    atlasRegions[sprite].render(graphics, new Vector2(x, y), dimensions, 0, false, false, 1));
+            System.out.printf("%-10d %-14.1f %-14.1f %.2f%n", sprites, separateFps, atlasFps,
+                    atlasFps / separateFps);
+        }
+    }
+
+    /**
+     * SpriteDrawer interface draws a single sprite into a frame.
+     */
+    private interface SpriteDrawer {
+        /**
+         * Draws a sprite at the specified position.
+         *
+         * @param graphics the graphics of the frame.
+         * @param sprite   the index of the sprite image.
+         * @param x        the left edge of the sprite.
+         * @param y        the top edge of the sprite.
+         */
+        void draw(Graphics2D graphics, int sprite, int x, int y);
+    }
+
+    /**
+     * Measures the frames per second of drawing the specified number of sprites per frame.
+     *
+     * @param frame       the offscreen frame image.
+     * @param sprites     the number of sprites drawn per frame.
+     * @param spriteCount the number of different sprite images.
+     * @param drawer      the way a sprite is drawn.
+     * @return the measured frames per second.
+     */
+    private static double measure(BufferedImage frame, int sprites, int spriteCount, SpriteDrawer drawer) {
+        int columns = FRAME_WIDTH / SPRITE_WIDTH;
+        long start = 0;
+        for (int round = 0; round < WARMUP_FRAMES + MEASURED_FRAMES; round++) {
+            if (round == WARMUP_FRAMES) {
+                start = System.nanoTime();
+            }
+            Graphics2D graphics = frame.createGraphics();
+            for (int i = 0; i < sprites; i++) {
+                int x = (i % columns) * SPRITE_WIDTH;
+                int y = (i / columns * SPRITE_HEIGHT) % FRAME_HEIGHT;
+                // alternating sprites, like bricks drawn between the moving objects of other layers
+                drawer.draw(graphics, i % spriteCount, x, y);
+            }
+            graphics.dispose();
+        }
+        return MEASURED_FRAMES / ((System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,69 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.BoardGenerator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoardGenerationBenchmark class measures how the generation of the brick strategies of a large board scales with
+ * the number of threads.
+ * The same seeded board is generated in fork-join pools of growing parallelism, and the best time of each pool is
+ * printed together with the speedup over a single thread. Every generated board is compared with the board of the
+ * single thread, so the benchmark also checks that the generation is deterministic.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BoardGenerationBenchmark {
+    private static final int BOARD_SIDE = 1000;
+    private static final long SEED = 42L;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Default constructor for the BoardGenerationBenchmark class.
+     */
+    public BoardGenerationBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the generation time of each parallelism.
+     *
+     * @param args the command line arguments, ignored.
+     * @throws Exception if a generation fails.
+     */
+    public static void main(String[] args) throws Exception {
+        BoardGenerator generator = new BoardGenerator(SEED);
+        int[] expected = generator.generate(BOARD_SIDE, BOARD_SIDE);
+        int processors = Runtime.getRuntime().availableProcessors();
+        int[] parallelisms = Arrays.stream(new int[]{1, 2, 4, processors}).distinct().sorted().toArray();
+        double singleThreadMillis = 0;
+        System.out.println("threads    best(ms)   speedup    identical");
+        for (int parallelism : parallelisms) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            long best = Long.MAX_VALUE;
+            boolean identical = true;
+            try {
+                for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    int[] plans = pool.submit(() -> generator.generate(BOARD_SIDE, BOARD_SIDE)).get();
+                    long elapsed = System.nanoTime() - start;
+                    identical &= Arrays.equals(expected, plans);
+                    if (round >= WARMUP_ROUNDS) {
+                        best = Math.min(best, elapsed);
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+            double millis = best / (double) TimeUnit.MILLISECONDS.toNanos(1);
+            if (parallelism == 1) {
+                singleThreadMillis = millis;
+            }
+            System.out.printf("%-10d %-10.2f %-10.2f %b%n", parallelism, millis, singleThreadMillis / millis,
+                    identical);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.BoardGenerator;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.DoubleBehaviorStrategy;
+import bricker.brick_strategies.StrategyFactory;
+import bricker.gameobjects.Brick;
+import bricker.main.BrickBoardBuilder;
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessGame;
+import bricker.utils.GameTunables;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static bricker.utils.Constant.BASIC_STRATEGY;
+import static bricker.utils.Constant.DOUBLE_BEHAVIOR_STRATEGY;
+
+/**
+ * BoardInitBenchmark class measures how long it takes to set up the bricks of boards of growing sizes, comparing
+ * the current board initialization with the one it replaced.
+ * For every board size, three times are printed:
+ * - the current path: the strategy plans are generated by a BoardGenerator, the bricks are built by a
+ * BrickBoardBuilder, and every brick is added to the game.
+ * - the previous path: every brick computes its position, allocates its dimensions, draws its strategy from a new
+ * StrategyFactory, and is added to the game.
+ * - a whole new game started headless with the board, which includes the current path.
+ * Both paths add their bricks to the collection of an initialized headless game, and the bricks are removed again
+ * between rounds. Each time is the median of several rounds after a warm-up.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BoardInitBenchmark {
+    private static final int[] BOARD_SIDES = {8, 50, 100, 200, 300};
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final Vector2 TOP_LEFT = new Vector2(10, 10);
+    private static final int BOARD_WIDTH = 680;
+    private static final int BRICK_HEIGHT = 15;
+    private static final int BRICK_PADDING = 2;
+    private static final long BOARD_SEED = 1L;
+
+    /*
+     * The number of strategies the previous path drew a non-basic strategy from.
+     */
+    private static final int PREVIOUS_BEHAVIOR_COUNT = 5;
+
+    /**
+     * Default constructor for the BoardInitBenchmark class.
+     */
+    public BoardInitBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the initialization times of each board size.
+     *
+     * @param args the command line arguments, ignored.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        GameTunables probeTunables = new GameTunables();
+        probeTunables.setBoardSeed(BOARD_SEED);
+        probeTunables.setGovernorTargetMicros(0);
+        CollectionProbe probe = new CollectionProbe(probeTunables);
+        HeadlessGame probeGame = new HeadlessGame(probe, BrickerGameManager.defaultWindowDimensions(),
+                probeTunables.getPhysicsRate());
+        probeGame.start();
+        GameObjectCollection gameObjects = probe.collection();
+
+        System.out.printf("%-10s %10s %12s %12s %9s %12s%n", "board", "bricks", "current(ms)", "previous(ms)",
+                "speedup", "newGame(ms)");
+        for (int side : BOARD_SIDES) {
+            double currentMillis = median(() -> initCurrent(side, probe, gameObjects));
+            double previousMillis = median(() -> initPrevious(side, probe, gameObjects));
+            double newGameMillis = median(() -> startNewGame(side));
+            System.out.printf("%-10s %10d %12.2f %12.2f %8.1fx %12.2f%n", side + "x" + side, side * side,
+                    currentMillis, previousMillis, previousMillis / currentMillis, newGameMillis);
+        }
+    }
+
+    /**
+     * Sets up the bricks of a board the way the game does now, and removes them again.
+     *
+     * @param side        the number of rows and columns of the board.
+     * @param manager     the game the strategies act on.
+     * @param gameObjects the collection the bricks are added to.
+     * @return the time the setup took in nanoseconds, without the removal.
+     */
+    private static long initCurrent(int side, BrickerGameManager manager, GameObjectCollection gameObjects) {
+        long start = System.nanoTime();
+        BrickBoardBuilder builder = new BrickBoardBuilder(side, side, TOP_LEFT, BOARD_WIDTH, BRICK_HEIGHT,
+                BRICK_PADDING);
+        StrategyFactory strategyFactory = new StrategyFactory(manager, new Counter(side * side));
+        int[] plans = new BoardGenerator(BOARD_SEED).generate(side, side);
+        Brick[] bricks = builder.build(null, index -> strategyFactory.buildFromPlan(plans[index]));
+        for (Brick brick : bricks) {
+            gameObjects.addGameObject(brick, Layer.STATIC_OBJECTS);
+        }
+        long elapsed = System.nanoTime() - start;
+        removeAll(bricks, gameObjects);
+        return elapsed;
+    }
+
+    /**
+     * Sets up the bricks of a board the way the game did before the board builder, and removes them again.
+     *
+     * @param side        the number of rows and columns of the board.
+     * @param manager     the game the strategies act on.
+     * @param gameObjects the collection the bricks are added to.
+     * @return the time the setup took in nanoseconds, without the removal.
+     */
+    private static long initPrevious(int side, BrickerGameManager manager, GameObjectCollection gameObjects) {
+        long start = System.nanoTime();
+        Random rand = new Random(BOARD_SEED);
+        Counter brickCount = new Counter(side * side);
+        GameObject[] bricks = new GameObject[side * side];
+        int brickWidth = (BOARD_WIDTH - BRICK_PADDING * (side - 1)) / side;
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                float brickX = TOP_LEFT.x() + j * (brickWidth + BRICK_PADDING);
+                float brickY = TOP_LEFT.y() + i * (BRICK_HEIGHT + BRICK_PADDING);
+                StrategyFactory strategyFactory = new StrategyFactory(manager, brickCount);
+                CollisionStrategy strategy = rand.nextBoolean() ? strategyFactory.buildRenderer(BASIC_STRATEGY) :
+                        previousStrategy(rand.nextInt(PREVIOUS_BEHAVIOR_COUNT), strategyFactory, manager,
+                                brickCount, rand);
+                GameObject brick = new Brick(new Vector2(brickX, brickY), new Vector2(brickWidth, BRICK_HEIGHT),
+                        null, strategy);
+                gameObjects.addGameObject(brick, Layer.STATIC_OBJECTS);
+                bricks[i * side + j] = brick;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        removeAll(bricks, gameObjects);
+        return elapsed;
+    }
+
+    /**
+     * Builds a strategy the way the previous path did: a double behavior combined two normal behaviors, each drawn
+     * through a StrategyFactory of its own.
+     *
+     * @param index           the drawn strategy index.
+     * @param strategyFactory the factory of the brick.
+     * @param manager         the game the strategies act on.
+     * @param brickCount      the Counter of the bricks on the board.
+     * @param rand            the random numbers of the board.
+     * @return the strategy of the brick.
+     */
+    private static CollisionStrategy previousStrategy(int index, StrategyFactory strategyFactory,
+                                                      BrickerGameManager manager, Counter brickCount, Random rand) {
+        if (index != DOUBLE_BEHAVIOR_STRATEGY) {
+            return strategyFactory.buildRenderer(index);
+        }
+        CollisionStrategy first = new StrategyFactory(manager, brickCount).buildRenderer(
+                rand.nextInt(DOUBLE_BEHAVIOR_STRATEGY));
+        CollisionStrategy second = new StrategyFactory(manager, brickCount).buildRenderer(
+                rand.nextInt(DOUBLE_BEHAVIOR_STRATEGY));
+        return new DoubleBehaviorStrategy(brickCount, first, second);
+    }
+
+    /**
+     * Starts a new headless game with a board of the specified size.
+     *
+     * @param side the number of rows and columns of the board.
+     * @return the time the start took in nanoseconds.
+     */
+    private static long startNewGame(int side) {
+        GameTunables tunables = new GameTunables();
+        tunables.setBoardSeed(BOARD_SEED);
+        tunables.setGovernorTargetMicros(0);
+        tunables.setBoardRows(side);
+        tunables.setBoardCols(side);
+        BrickerGameManager gameManager = new BrickerGameManager("board init",
+                BrickerGameManager.defaultWindowDimensions(), tunables);
+        gameManager.setDiagnosticsEnabled(false);
+        HeadlessGame game = new HeadlessGame(gameManager, BrickerGameManager.defaultWindowDimensions(),
+                tunables.getPhysicsRate());
+        long start = System.nanoTime();
+        game.start();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Removes the bricks of a round from the game.
+     *
+     * @param bricks      the bricks to remove.
+     * @param gameObjects the collection holding the bricks.
+     */
+    private static void removeAll(GameObject[] bricks, GameObjectCollection gameObjects) {
+        for (GameObject brick : bricks) {
+            gameObjects.removeGameObject(brick, Layer.STATIC_OBJECTS);
+        }
+    }
+
+    /**
+     * Runs a measured operation for the warm-up and measured rounds and returns its median time.
+     *
+     * @param operation the operation, returning its own time in nanoseconds.
+     * @return the median time in milliseconds.
+     */
+    private static double median(Round operation) {
+        long[] times = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long elapsed = operation.run();
+            if (round >= WARMUP_ROUNDS) {
+                times[round - WARMUP_ROUNDS] = elapsed;
+            }
+        }
+        Arrays.sort(times);
+        return times[MEASURED_ROUNDS / 2] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Round interface is a single measured round of the benchmark.
+     */
+    private interface Round {
+        /**
+         * Runs the round.
+         *
+         * @return the measured time of the round in nanoseconds.
+         */
+        long run();
+    }
+
+    /**
+     * CollectionProbe class is a game that exposes its game object collection, so the bricks of both paths are
+     * added to the collection of a real game.
+     */
+    private static class CollectionProbe extends BrickerGameManager {
+        /**
+         * Constructs a CollectionProbe driven by the specified tunables.
+         *
+         * @param tunables the GameTunables of the game.
+         */
+        CollectionProbe(GameTunables tunables) {
+            super("board init probe", BrickerGameManager.defaultWindowDimensions(), tunables);
+            setDiagnosticsEnabled(false);
+        }
+
+        /**
+         * Gets the game object collection of the game.
+         *
+         * @return the game objects.
+         */
+        GameObjectCollection collection() {
+            return gameObjects();
+        }
+    }
+}
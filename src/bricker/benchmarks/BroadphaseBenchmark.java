@@ -0,0 +1,137 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.physics.SweepAndPrune;
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BroadphaseBenchmark class measures how finding the colliding pairs among moving pucks scales with their number.
+ * Puck-sized objects fly across the board and bounce off its edges, and after every step their overlapping pairs
+ * are found both by the sweep and prune broadphase and by checking every pair. The average time per step and the
+ * number of checked pairs of both are printed, together with the overlapping pairs and the new contacts reported
+ * by the sweep and prune broadphase per step.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BroadphaseBenchmark {
+    private static final int[] OBJECT_COUNTS = {100, 1000, 4000};
+    private static final float OBJECT_SIZE = 15;
+    private static final float SPEED = 300;
+    private static final float STEP_TIME = 1f / 120;
+    private static final int WARMUP_STEPS = 200;
+    private static final int MEASURED_STEPS = 500;
+    private static final long SEED = 42L;
+
+    /**
+     * Default constructor for the BroadphaseBenchmark class.
+     */
+    public BroadphaseBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the broadphase times of each number of objects.
+     *
+     * @param args the command line arguments, ignored.
+     */
+    public static void main(String[] args) {
+        Vector2 board = BrickerGameManager.defaultWindowDimensions();
+        System.out.println("objects    sap(us)    sapPairs      allPairs(us)  allPairs      overlaps   contacts");
+        for (int count : OBJECT_COUNTS) {
+            SplittableRandom random = new SplittableRandom(SEED);
+            GameObject[] objects = new GameObject[count];
+            long[] contacts = new long[1];
+            SweepAndPrune sweepAndPrune = new SweepAndPrune((first, second, normal) -> contacts[0]++);
+            for (int i = 0; i < count; i++) {
+                objects[i] = new GameObject(new Vector2((float) random.nextDouble(board.x() - OBJECT_SIZE),
+                        (float) random.nextDouble(board.y() - OBJECT_SIZE)),
+                        new Vector2(OBJECT_SIZE, OBJECT_SIZE), null);
+                double angle = random.nextDouble(2 * Math.PI);
+                objects[i].setVelocity(new Vector2((float) Math.cos(angle), (float) Math.sin(angle)).mult(SPEED));
+                sweepAndPrune.add(objects[i]);
+            }
+
+            long sapNanos = 0;
+            long sapPairs = 0;
+            long allPairsNanos = 0;
+            long allOverlaps = 0;
+            long measuredContacts = 0;
+            for (int step = 0; step < WARMUP_STEPS + MEASURED_STEPS; step++) {
+                move(objects, board);
+                long overlapsBefore = contacts[0];
+                long start = System.nanoTime();
+                sweepAndPrune.step();
+                long sapElapsed = System.nanoTime() - start;
+                start = System.nanoTime();
+                long overlaps = countAllPairOverlaps(objects);
+                long allPairsElapsed = System.nanoTime() - start;
+                if (step >= WARMUP_STEPS) {
+                    sapNanos += sapElapsed;
+                    sapPairs += sweepAndPrune.getLastCandidatePairs();
+                    allPairsNanos += allPairsElapsed;
+                    allOverlaps += overlaps;
+                    measuredContacts += contacts[0] - overlapsBefore;
+                }
+            }
+            long allPairs = (long) count * (count - 1) / 2;
+            System.out.printf("%-10d %-10.1f %-13d %-13.1f %-13d %-10d %d%n", count,
+                    toMicros(sapNanos / (double) MEASURED_STEPS), sapPairs / MEASURED_STEPS,
+                    toMicros(allPairsNanos / (double) MEASURED_STEPS), allPairs, allOverlaps / MEASURED_STEPS,
+                    measuredContacts / MEASURED_STEPS);
+        }
+    }
+
+    /**
+     * Moves the objects by a step and bounces them off the edges of the board.
+     *
+     * @param objects the objects to move.
+     * @param board   the dimensions of the board.
+     */
+    private static void move(GameObject[] objects, Vector2 board) {
+        for (GameObject object : objects) {
+            object.update(STEP_TIME);
+            Vector2 topLeft = object.getTopLeftCorner();
+            Vector2 velocity = object.getVelocity();
+            if ((topLeft.x() < 0 && velocity.x() < 0) || (topLeft.x() > board.x() - OBJECT_SIZE && velocity.x() > 0)) {
+                object.setVelocity(new Vector2(-velocity.x(), velocity.y()));
+            } else if ((topLeft.y() < 0 && velocity.y() < 0) ||
+                    (topLeft.y() > board.y() - OBJECT_SIZE && velocity.y() > 0)) {
+                object.setVelocity(new Vector2(velocity.x(), -velocity.y()));
+            }
+        }
+    }
+
+    /**
+     * Counts the overlapping pairs by checking every pair of objects.
+     *
+     * @param objects the objects to check.
+     * @return the number of overlapping pairs.
+     */
+    private static long countAllPairOverlaps(GameObject[] objects) {
+        long overlaps = 0;
+        for (int i = 0; i < objects.length; i++) {
+            Vector2 first = objects[i].getTopLeftCorner();
+            for (int j = i + 1; j < objects.length; j++) {
+                Vector2 second = objects[j].getTopLeftCorner();
+                if (Math.abs(first.x() - second.x()) < OBJECT_SIZE && Math.abs(first.y() - second.y()) < OBJECT_SIZE) {
+                    overlaps++;
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     *
+     * @param nanos the time in nanoseconds.
+     * @return the time in microseconds.
+     */
+    private static double toMicros(double nanos) {
+        return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,151 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessGame;
+import bricker.perf.TimeHistogram;
+import bricker.utils.GameTunables;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EndlessSoakBenchmark class plays an endless board headless for hours of game time and checks that the heap and
+ * the tick time stay flat while new brick rows keep coming in.
+ * The game is played by the automatic paddle player with a fixed board seed, as fast as it can be stepped. After
+ * every report interval of game time, the heap is collected and a line is printed with the heap left after the
+ * collection, the median and 99th percentile tick time of the interval, the number of rows brought in and the live
+ * object counts. At the end, the retained heap and the median tick time of the last interval are compared with the
+ * first one, and the run fails with a non-zero exit code when either grew past its limit.
+ * Usage: java bricker.benchmarks.EndlessSoakBenchmark [--hours=game hours] [--reportMinutes=game minutes]
+ * [--pushSeconds=seconds] [--maxHeapGrowthMB=megabytes] [--maxTickGrowth=fraction]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class EndlessSoakBenchmark {
+    private static final double DEFAULT_HOURS = 2;
+    private static final int DEFAULT_REPORT_MINUTES = 10;
+    private static final int DEFAULT_PUSH_SECONDS = 5;
+    private static final long DEFAULT_MAX_HEAP_GROWTH_MB = 8;
+    private static final double DEFAULT_MAX_TICK_GROWTH = 0.25;
+    private static final long BOARD_SEED = 1L;
+    private static final int WARMUP_TICKS = 5000;
+    private static final long BUCKET_WIDTH_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+    private static final long SECONDS_IN_MINUTE = 60;
+    private static final long SECONDS_IN_HOUR = 3600;
+    private static final long MINUTES_IN_HOUR = 60;
+    private static final int GROWTH_EXIT_CODE = 1;
+
+    /**
+     * Default constructor for the EndlessSoakBenchmark class.
+     */
+    public EndlessSoakBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the soak benchmark and prints a report line per interval, followed by the growth over the run.
+     *
+     * @param args the command line arguments, as described in the class documentation.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("bricker.autopilot", "true");
+        double hours = DEFAULT_HOURS;
+        int reportMinutes = DEFAULT_REPORT_MINUTES;
+        int pushSeconds = DEFAULT_PUSH_SECONDS;
+        long maxHeapGrowthMB = DEFAULT_MAX_HEAP_GROWTH_MB;
+        double maxTickGrowth = DEFAULT_MAX_TICK_GROWTH;
+        for (String arg : args) {
+            if (arg.startsWith("--hours=")) {
+                hours = Double.parseDouble(arg.substring("--hours=".length()));
+            } else if (arg.startsWith("--reportMinutes=")) {
+                reportMinutes = Integer.parseInt(arg.substring("--reportMinutes=".length()));
+            } else if (arg.startsWith("--pushSeconds=")) {
+                pushSeconds = Integer.parseInt(arg.substring("--pushSeconds=".length()));
+            } else if (arg.startsWith("--maxHeapGrowthMB=")) {
+                maxHeapGrowthMB = Long.parseLong(arg.substring("--maxHeapGrowthMB=".length()));
+            } else if (arg.startsWith("--maxTickGrowth=")) {
+                maxTickGrowth = Double.parseDouble(arg.substring("--maxTickGrowth=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        GameTunables tunables = new GameTunables();
+        tunables.setBoardSeed(BOARD_SEED);
+        tunables.setGovernorTargetMicros(0);
+        tunables.setEndlessBoard(true);
+        tunables.setBoardPushSeconds(pushSeconds);
+        BrickerGameManager gameManager = new BrickerGameManager("endless soak",
+                BrickerGameManager.defaultWindowDimensions(), tunables);
+        HeadlessGame game = new HeadlessGame(gameManager, BrickerGameManager.defaultWindowDimensions(),
+                tunables.getPhysicsRate());
+        game.start();
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            game.tick();
+        }
+
+        long ticksPerReport = reportMinutes * SECONDS_IN_MINUTE * tunables.getPhysicsRate();
+        long reports = Math.max(1, Math.round(hours * SECONDS_IN_HOUR * tunables.getPhysicsRate() /
+                ticksPerReport));
+        TimeHistogram tickTimes = new TimeHistogram(BUCKET_WIDTH_NANOS, MAX_TRACKED_NANOS);
+        long firstRetainedBytes = -1;
+        long firstMedianNanos = -1;
+        long retainedBytes = 0;
+        long medianNanos = 0;
+        System.out.printf("%-10s %14s %10s %10s %9s %8s %7s %7s %6s%n", "game time", "retained(MB)", "p50(us)",
+                "p99(us)", "newRows", "bricks", "pucks", "hearts", "games");
+        for (long report = 1; report <= reports; report++) {
+            tickTimes.reset();
+            for (long i = 0; i < ticksPerReport; i++) {
+                long tickStart = System.nanoTime();
+                game.tick();
+                tickTimes.record(System.nanoTime() - tickStart);
+            }
+            retainedBytes = retainedHeapBytes();
+            medianNanos = tickTimes.percentile(0.5);
+            if (firstRetainedBytes < 0) {
+                firstRetainedBytes = retainedBytes;
+                firstMedianNanos = medianNanos;
+            }
+            System.out.printf("%-10s %14.1f %10d %10d %9d %8d %7d %7d %6d%n",
+                    formatGameTime(report * reportMinutes), retainedBytes / (double) BYTES_IN_MEGABYTE,
+                    TimeUnit.NANOSECONDS.toMicros(medianNanos),
+                    TimeUnit.NANOSECONDS.toMicros(tickTimes.percentile(0.99)), gameManager.getRecycledRows(),
+                    tunables.getBrickCount(), tunables.getPuckCount(), tunables.getHeartCount(),
+                    game.getGamesEnded());
+        }
+
+        double heapGrowthMB = (retainedBytes - firstRetainedBytes) / (double) BYTES_IN_MEGABYTE;
+        double tickGrowth = firstMedianNanos > 0 ? (medianNanos - firstMedianNanos) / (double) firstMedianNanos : 0;
+        System.out.printf("retained heap growth %+.1fMB (limit %dMB), median tick growth %+.0f%% (limit %.0f%%)%n",
+                heapGrowthMB, maxHeapGrowthMB, tickGrowth * 100, maxTickGrowth * 100);
+        if (heapGrowthMB > maxHeapGrowthMB || tickGrowth > maxTickGrowth) {
+            System.out.println("NOT FLAT");
+            System.exit(GROWTH_EXIT_CODE);
+        }
+        System.out.println("flat");
+    }
+
+    /**
+     * Collects the heap and measures the heap left in use after the collection.
+     *
+     * @return the retained heap in bytes.
+     */
+    private static long retainedHeapBytes() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Formats a game time given in minutes as hours and minutes.
+     *
+     * @param minutes the game time in minutes.
+     * @return the formatted game time.
+     */
+    private static String formatGameTime(long minutes) {
+        return String.format("%dh%02dm", minutes / MINUTES_IN_HOUR, minutes % MINUTES_IN_HOUR);
+    }
+}
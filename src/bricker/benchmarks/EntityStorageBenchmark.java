@@ -0,0 +1,199 @@
+package bricker.benchmarks;
+
+import bricker.ecs.BoundsSystem;
+import bricker.ecs.Component;
+import bricker.ecs.EntitySystem;
+import bricker.ecs.EntityWorld;
+import bricker.ecs.FixedPointMotionSystem;
+import bricker.ecs.MotionSystem;
+import bricker.ecs.ViewSyncSystem;
+import bricker.main.BrickerGameManager;
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EntityStorageBenchmark class measures how moving falling objects scales with their number when they are kept as
+ * game objects and when they are kept in the dense arrays of the entity-component-system storage.
+ * Heart-sized objects fall down the board, and every object that leaves the board is replaced by a new one at the
+ * top, so their number stays the same. Each step moves every object and removes the ones that left, first as game
+ * objects updating themselves, then as entities walked by the motion and bounds systems, and last as entities that
+ * also move a game object drawing them, which is how the game keeps its falling hearts, and last as entities moved
+ * in fixed point, which is how the fixed-point physics mode keeps them. The average time per step of each storage
+ * is printed.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class EntityStorageBenchmark {
+    private static final int[] OBJECT_COUNTS = {1000, 10_000, 50_000};
+    private static final float OBJECT_SIZE = 15;
+    private static final float MIN_SPEED = 50;
+    private static final float MAX_SPEED = 200;
+    private static final int STEPS_PER_SECOND = 120;
+    private static final float STEP_TIME = 1f / STEPS_PER_SECOND;
+    private static final int WARMUP_STEPS = 300;
+    private static final int MEASURED_STEPS = 600;
+    private static final long SEED = 42L;
+
+    /**
+     * Default constructor for the EntityStorageBenchmark class.
+     */
+    public EntityStorageBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the step times of each storage and number of objects.
+     *
+     * @param args the command line arguments, ignored.
+     */
+    public static void main(String[] args) {
+        Vector2 board = BrickerGameManager.defaultWindowDimensions();
+        System.out.println("objects    gameObjects(us)  entities(us)  entitiesWithViews(us)  fixedPointEntities(us)");
+        for (int count : OBJECT_COUNTS) {
+            double objectMicros = measureGameObjects(count, board);
+            double entityMicros = measureEntities(count, board, false, false);
+            double viewMicros = measureEntities(count, board, true, false);
+            double fixedMicros = measureEntities(count, board, false, true);
+            System.out.printf("%-10d %-16.1f %-13.1f %-22.1f %.1f%n", count, objectMicros, entityMicros, viewMicros,
+                    fixedMicros);
+        }
+    }
+
+    /**
+     * Measures falling objects kept as game objects, removed like the dynamic object lifecycle removes objects
+     * tracked in a list.
+     *
+     * @param count the number of objects.
+     * @param board the dimensions of the board.
+     * @return the average step time in microseconds.
+     */
+    private static double measureGameObjects(int count, Vector2 board) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<GameObject> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            objects.add(createObject(random, board, (float) random.nextDouble(board.y())));
+        }
+        long elapsed = 0;
+        for (int step = 0; step < WARMUP_STEPS + MEASURED_STEPS; step++) {
+            long start = System.nanoTime();
+            for (GameObject object : objects) {
+                object.update(STEP_TIME);
+            }
+            int removed = 0;
+            for (int i = objects.size() - 1; i >= 0; i--) {
+                Vector2 center = objects.get(i).getCenter();
+                if (center.x() < 0 || center.x() > board.x() || center.y() < 0 || center.y() > board.y()) {
+                    int last = objects.size() - 1;
+                    objects.set(i, objects.get(last));
+                    objects.remove(last);
+                    removed++;
+                }
+            }
+            for (int i = 0; i < removed; i++) {
+                objects.add(createObject(random, board, 0));
+            }
+            if (step >= WARMUP_STEPS) {
+                elapsed += System.nanoTime() - start;
+            }
+        }
+        return toMicros(elapsed / (double) MEASURED_STEPS);
+    }
+
+    /**
+     * Measures falling objects kept as entities.
+     *
+     * @param count     the number of objects.
+     * @param board     the dimensions of the board.
+     * @param withViews whether every entity also moves a game object drawing it.
+     * @param isFixed   whether the entities are moved in fixed point.
+     * @return the average step time in microseconds.
+     */
+    private static double measureEntities(int count, Vector2 board, boolean withViews, boolean isFixed) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        EntityWorld world = new EntityWorld();
+        EntitySystem motionSystem = isFixed ? new FixedPointMotionSystem(STEPS_PER_SECOND) : new MotionSystem();
+        EntitySystem[] systems = withViews ? new EntitySystem[]{motionSystem, new ViewSyncSystem()} :
+                new EntitySystem[]{motionSystem};
+        EntitySystem boundsSystem = new BoundsSystem(board.x(), board.y());
+        List<Component> componentList = new ArrayList<>(List.of(Component.TRANSFORM, Component.VELOCITY,
+                Component.COLLIDER));
+        if (withViews) {
+            componentList.add(Component.VIEW);
+        }
+        if (isFixed) {
+            componentList.add(Component.FIXED_POINT);
+        }
+        Component[] components = componentList.toArray(new Component[0]);
+        for (int i = 0; i < count; i++) {
+            createEntity(world, random, board, (float) random.nextDouble(board.y()), components, withViews);
+        }
+        long elapsed = 0;
+        for (int step = 0; step < WARMUP_STEPS + MEASURED_STEPS; step++) {
+            long start = System.nanoTime();
+            for (EntitySystem system : systems) {
+                system.run(world, STEP_TIME);
+            }
+            boundsSystem.run(world, STEP_TIME);
+            int removed = world.removeMarked(view -> { });
+            for (int i = 0; i < removed; i++) {
+                createEntity(world, random, board, 0, components, withViews);
+            }
+            if (step >= WARMUP_STEPS) {
+                elapsed += System.nanoTime() - start;
+            }
+        }
+        return toMicros(elapsed / (double) MEASURED_STEPS);
+    }
+
+    /**
+     * Creates a falling game object at a random x coordinate.
+     *
+     * @param random the random source.
+     * @param board  the dimensions of the board.
+     * @param y      the y coordinate of the object's center.
+     * @return the created object.
+     */
+    private static GameObject createObject(SplittableRandom random, Vector2 board, float y) {
+        GameObject object = new GameObject(Vector2.ZERO, new Vector2(OBJECT_SIZE, OBJECT_SIZE), null);
+        object.setCenter(new Vector2((float) random.nextDouble(board.x()), y));
+        object.setVelocity(Vector2.DOWN.mult((float) random.nextDouble(MIN_SPEED, MAX_SPEED)));
+        return object;
+    }
+
+    /**
+     * Creates a falling entity at a random x coordinate.
+     *
+     * @param world      the world to create the entity in.
+     * @param random     the random source.
+     * @param board      the dimensions of the board.
+     * @param y          the y coordinate of the entity's center.
+     * @param components the components of the entity.
+     * @param withView   whether the entity moves a game object drawing it.
+     */
+    private static void createEntity(EntityWorld world, SplittableRandom random, Vector2 board, float y,
+                                     Component[] components, boolean withView) {
+        int entity = world.create(components);
+        float x = (float) random.nextDouble(board.x());
+        world.setPosition(entity, x, y);
+        world.setVelocity(entity, 0, (float) random.nextDouble(MIN_SPEED, MAX_SPEED));
+        world.setCollider(entity, OBJECT_SIZE, OBJECT_SIZE);
+        if (withView) {
+            world.setView(entity, new GameObject(Vector2.ZERO, new Vector2(OBJECT_SIZE, OBJECT_SIZE), null));
+        }
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     *
+     * @param nanos the time in nanoseconds.
+     * @return the time in microseconds.
+     */
+    private static double toMicros(double nanos) {
+        return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
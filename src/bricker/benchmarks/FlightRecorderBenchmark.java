@@ -0,0 +1,72 @@
+package bricker.benchmarks;
+
+import bricker.perf.FlightEvent;
+import bricker.perf.FlightRecorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FlightRecorderBenchmark class measures the cost of recording a gameplay event with the flight recorder, and the
+ * share of a frame it takes at the default physics rate.
+ * Events are recorded into a temporary recording many times around its ring, and the best time per event of the
+ * measured rounds is printed together with the share of a frame taken by a frame record and a burst of gameplay
+ * events per frame.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FlightRecorderBenchmark {
+    private static final int RECORDS = 1 << 16;
+    private static final int EVENTS_PER_ROUND = 10_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int FRAMES_PER_SECOND = 120;
+    private static final int[] EVENTS_PER_FRAME = {1, 10, 100};
+
+    /**
+     * Default constructor for the FlightRecorderBenchmark class.
+     */
+    public FlightRecorderBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the cost of an event and its share of a frame.
+     *
+     * @param args the command line arguments, ignored.
+     * @throws IOException if the temporary recording cannot be created.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Files.createTempFile("bricker-flight", ".rec");
+        try {
+            FlightRecorder recorder = new FlightRecorder(path, RECORDS);
+            FlightRecorder.install(recorder);
+            FlightEvent[] events = FlightEvent.values();
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < EVENTS_PER_ROUND; i++) {
+                    recorder.setTick(i);
+                    FlightRecorder.recordEvent(events[i % events.length], i, -i, i, -i);
+                }
+                long elapsed = System.nanoTime() - start;
+                if (round >= WARMUP_ROUNDS) {
+                    best = Math.min(best, elapsed);
+                }
+            }
+            FlightRecorder.install(null);
+
+            double nanosPerEvent = best / (double) EVENTS_PER_ROUND;
+            double frameNanos = TimeUnit.SECONDS.toNanos(1) / (double) FRAMES_PER_SECOND;
+            System.out.printf("%.1f ns per event, %d records written%n", nanosPerEvent, recorder.getWrittenRecords());
+            System.out.println("events/frame   overhead at " + FRAMES_PER_SECOND + " fps");
+            for (int eventsPerFrame : EVENTS_PER_FRAME) {
+                System.out.printf("%-14d %.4f%%%n", eventsPerFrame, 100 * nanosPerEvent * eventsPerFrame / frameNanos);
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package bricker.benchmarks;
+
+import bricker.gameobjects.ObjectKind;
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessGame;
+import bricker.rendering.ImageDiff;
+import bricker.rendering.OffscreenRenderer;
+import bricker.utils.GameTunables;
+import danogl.collisions.Layer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GoldenImageCheck class catches rendering regressions by comparing rendered frames of the game scenarios with
+ * stored golden images.
+ * Every scenario is played headless with a fixed board seed, so its games are the same in every run, and its frames
+ * at fixed ticks are drawn offscreen and compared pixel by pixel with the golden images of the same scenario and
+ * tick. A mismatching frame is written next to its golden image together with a diff image marking the mismatching
+ * pixels in red, and the check fails with a non-zero exit code. A frame without a golden image fails the check as
+ * well, since it could not be compared; running with --record writes the frames of the run as the new golden images.
+ * Usage: java bricker.benchmarks.GoldenImageCheck [--record] [--golden=directory] [--tolerance=channel delta]
+ * [scenario labels...]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class GoldenImageCheck {
+    private static final String DEFAULT_GOLDEN_DIRECTORY = "golden";
+    private static final int DEFAULT_TOLERANCE = 2;
+    private static final long BOARD_SEED = 1L;
+    private static final int[] CHECKED_TICKS = {0, 60, 300};
+    private static final int[] LAYERS = {Layer.BACKGROUND, Layer.STATIC_OBJECTS, Layer.DEFAULT,
+            ObjectKind.MOVING_LAYER, Layer.FOREGROUND, Layer.UI};
+    private static final String IMAGE_FORMAT = "png";
+    private static final int MISMATCH_EXIT_CODE = 1;
+
+    /**
+     * Default constructor for the GoldenImageCheck class.
+     */
+    public GoldenImageCheck() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Renders the requested scenarios and compares them with the golden images.
+     *
+     * @param args the options and the labels of the scenarios to check, all scenarios when none is given.
+     * @throws IOException if an image cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("bricker.autopilot", "true");
+        boolean isRecording = false;
+        Path goldenDirectory = Paths.get(DEFAULT_GOLDEN_DIRECTORY);
+        int tolerance = DEFAULT_TOLERANCE;
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--record")) {
+                isRecording = true;
+            } else if (arg.startsWith("--golden=")) {
+                goldenDirectory = Paths.get(arg.substring("--golden=".length()));
+            } else if (arg.startsWith("--tolerance=")) {
+                tolerance = Integer.parseInt(arg.substring("--tolerance=".length()));
+            } else {
+                scenarios.add(Scenario.fromLabel(arg));
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.addAll(List.of(Scenario.values()));
+        }
+
+        Files.createDirectories(goldenDirectory);
+        int failures = 0;
+        for (Scenario scenario : scenarios) {
+            failures += check(scenario, goldenDirectory, tolerance, isRecording);
+        }
+        if (isRecording) {
+            System.out.println("Golden images written to " + goldenDirectory);
+        } else if (failures > 0) {
+            System.out.println(failures + " frames differ from or have no golden images in " + goldenDirectory +
+                    "; run with --record to store missing golden images");
+            System.exit(MISMATCH_EXIT_CODE);
+        }
+    }
+
+    /**
+     * Plays a scenario headless and checks or records its frames at the checked ticks.
+     *
+     * @param scenario        the scenario to check.
+     * @param goldenDirectory the directory of the golden images.
+     * @param tolerance       the largest tolerated difference of a single color channel.
+     * @param isRecording     whether the frames are recorded as the golden images instead of checked.
+     * @return the number of frames that differ from their golden images or have none.
+     * @throws IOException if an image cannot be read or written.
+     */
+    private static int check(Scenario scenario, Path goldenDirectory, int tolerance, boolean isRecording)
+            throws IOException {
+        GameTunables tunables = scenario.createTunables(BOARD_SEED);
+        BrickerGameManager gameManager = new BrickerGameManager(scenario.getLabel(),
+                BrickerGameManager.defaultWindowDimensions(), tunables);
+        HeadlessGame game = new HeadlessGame(gameManager, BrickerGameManager.defaultWindowDimensions(),
+                tunables.getPhysicsRate());
+        game.setGameSetup(scenario::setUp);
+        game.start();
+        OffscreenRenderer renderer = new OffscreenRenderer(BrickerGameManager.defaultWindowDimensions(), LAYERS);
+
+        int failures = 0;
+        int tick = 0;
+        for (int checkedTick : CHECKED_TICKS) {
+            for (; tick < checkedTick; tick++) {
+                game.tick();
+            }
+            BufferedImage frame = renderer.render(gameManager.gameObjects(), gameManager.camera());
+            String name = scenario.getLabel() + "-" + checkedTick;
+            Path goldenPath = goldenDirectory.resolve(name + "." + IMAGE_FORMAT);
+            if (isRecording) {
+                ImageIO.write(frame, IMAGE_FORMAT, goldenPath.toFile());
+                continue;
+            }
+            if (!Files.exists(goldenPath)) {
+                failures++;
+                System.out.printf("%-28s NO GOLDEN IMAGE%n", name);
+                continue;
+            }
+            ImageDiff diff = new ImageDiff(frame, ImageIO.read(goldenPath.toFile()), tolerance);
+            if (diff.isMatch()) {
+                System.out.printf("%-28s ok%n", name);
+            } else {
+                failures++;
+                ImageIO.write(frame, IMAGE_FORMAT, goldenDirectory.resolve(name + "-actual." + IMAGE_FORMAT)
+                        .toFile());
+                ImageIO.write(diff.getDiffImage(), IMAGE_FORMAT,
+                        goldenDirectory.resolve(name + "-diff." + IMAGE_FORMAT).toFile());
+                System.out.printf("%-28s DIFFERS in %d pixels, max channel delta %d%n", name,
+                        diff.getMismatchedPixels(), diff.getMaxChannelDelta());
+            }
+        }
+        return failures;
+    }
+}
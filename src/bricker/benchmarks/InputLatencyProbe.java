@@ -0,0 +1,85 @@
+package bricker.benchmarks;
+
+import bricker.gameobjects.Paddle;
+import bricker.input.BufferedKeyInput;
+import bricker.perf.TimeHistogram;
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InputLatencyProbe class drives the buffered keyboard input with synthetic key events and measures the time
+ * from each key press to the paddle moving.
+ * A separate thread plays the role of the AWT event thread and presses and releases the arrow keys at random
+ * times, while the main thread runs logic steps at a fixed rate, applying the buffered events at the start of each
+ * step as the game does. The latency percentiles are printed at the end.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class InputLatencyProbe {
+    private static final int STEPS_PER_SECOND = 120;
+    private static final int KEY_PRESSES = 200;
+    private static final int MAX_KEY_GAP_MILLIS = 40;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    /**
+     * Default constructor for the InputLatencyProbe class.
+     */
+    public InputLatencyProbe() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the probe and prints the input latency percentiles.
+     *
+     * @param args the command line arguments, ignored.
+     * @throws InterruptedException if the probe is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        BufferedKeyInput keyInput = new BufferedKeyInput();
+        Vector2 windowDimensions = new Vector2(700, 470);
+        Paddle paddle = new Paddle(new Vector2(300, windowDimensions.y()), new Vector2(100, 15), null, keyInput,
+                windowDimensions);
+
+        Thread eventThread = new Thread(() -> pressKeys(keyInput));
+        eventThread.start();
+        float stepTime = 1f / STEPS_PER_SECOND;
+        long stepNanos = TimeUnit.SECONDS.toNanos(1) / STEPS_PER_SECOND;
+        while (eventThread.isAlive()) {
+            long stepStart = System.nanoTime();
+            keyInput.applyPendingEvents();
+            paddle.update(stepTime);
+            long remaining = stepNanos - (System.nanoTime() - stepStart);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        }
+
+        TimeHistogram latency = keyInput.getLatencyHistogram();
+        System.out.printf("presses=%d p50=%.2fms p99=%.2fms max=%.2fms%n", latency.count(),
+                latency.percentile(0.5) / NANOS_IN_MILLI, latency.percentile(0.99) / NANOS_IN_MILLI,
+                latency.max() / NANOS_IN_MILLI);
+    }
+
+    /**
+     * Presses and releases the arrow keys at random times, alternating between left and right.
+     *
+     * @param keyInput the input receiving the synthetic key events.
+     */
+    private static void pressKeys(BufferedKeyInput keyInput) {
+        Random random = new Random();
+        try {
+            for (int i = 0; i < KEY_PRESSES; i++) {
+                int keyCode = i % 2 == 0 ? KeyEvent.VK_LEFT : KeyEvent.VK_RIGHT;
+                keyInput.pushKey(keyCode, true, System.nanoTime());
+                Thread.sleep(1 + random.nextInt(MAX_KEY_GAP_MILLIS));
+                keyInput.pushKey(keyCode, false, System.nanoTime());
+                Thread.sleep(1 + random.nextInt(MAX_KEY_GAP_MILLIS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
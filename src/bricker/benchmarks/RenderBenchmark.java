@@ -0,0 +1,120 @@
+package bricker.benchmarks;
+
+import bricker.gameobjects.ObjectKind;
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessGame;
+import bricker.rendering.OffscreenRenderer;
+import bricker.utils.GameTunables;
+import danogl.collisions.Layer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RenderBenchmark class measures the cost of drawing frames of the game scenarios, on machines without a display.
+ * Every scenario is played headless with a fixed board seed, and after every tick its frame is drawn offscreen.
+ * The benchmark reports the average time of a frame and how it splits between the layers: the background, the
+ * bricks, the dynamic objects (ball, paddles and walls), the moving objects (pucks and falling hearts) and the UI
+ * (lives counter and hearts). The camera transform is part of every world layer, so its cost shows in the camera
+ * scenario.
+ * Usage: java bricker.benchmarks.RenderBenchmark [--frames=count] [scenario labels...]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class RenderBenchmark {
+    private static final int DEFAULT_FRAMES = 1000;
+    private static final int WARMUP_FRAMES = 200;
+    private static final long BOARD_SEED = 1L;
+    private static final int[] LAYERS = {Layer.BACKGROUND, Layer.STATIC_OBJECTS, Layer.DEFAULT,
+            ObjectKind.MOVING_LAYER, Layer.FOREGROUND, Layer.UI};
+    private static final String[] LAYER_NAMES = {"background", "bricks", "dynamic", "moving", "foreground", "ui"};
+    private static final Scenario[] DEFAULT_SCENARIOS = {Scenario.DEFAULT_BOARD, Scenario.LARGE_BOARD,
+            Scenario.CAMERA_LARGE_BOARD, Scenario.HEART_RAIN};
+
+    /**
+     * Default constructor for the RenderBenchmark class.
+     */
+    public RenderBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the render benchmark on the requested scenarios.
+     *
+     * @param args the options and the labels of the scenarios to draw, the board scenarios when none is given.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("bricker.autopilot", "true");
+        int frames = DEFAULT_FRAMES;
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--frames=")) {
+                frames = Integer.parseInt(arg.substring("--frames=".length()));
+            } else {
+                scenarios.add(Scenario.fromLabel(arg));
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.addAll(List.of(DEFAULT_SCENARIOS));
+        }
+
+        System.out.printf("%-18s %10s", "scenario", "ms/frame");
+        for (String layerName : LAYER_NAMES) {
+            System.out.printf(" %11s", layerName + "(ms)");
+        }
+        System.out.println();
+        for (Scenario scenario : scenarios) {
+            run(scenario, frames);
+        }
+    }
+
+    /**
+     * Plays a scenario headless, draws a frame after every tick and prints the average frame and layer times.
+     *
+     * @param scenario the scenario to draw.
+     * @param frames   the number of measured frames.
+     */
+    private static void run(Scenario scenario, int frames) {
+        GameTunables tunables = scenario.createTunables(BOARD_SEED);
+        BrickerGameManager gameManager = new BrickerGameManager(scenario.getLabel(),
+                BrickerGameManager.defaultWindowDimensions(), tunables);
+        HeadlessGame game = new HeadlessGame(gameManager, BrickerGameManager.defaultWindowDimensions(),
+                tunables.getPhysicsRate());
+        game.setGameSetup(scenario::setUp);
+        game.start();
+        OffscreenRenderer renderer = new OffscreenRenderer(BrickerGameManager.defaultWindowDimensions(), LAYERS);
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            game.tick();
+            renderer.render(gameManager.gameObjects(), gameManager.camera());
+        }
+
+        long[] layerTotals = new long[LAYERS.length];
+        long frameTotal = 0;
+        for (int i = 0; i < frames; i++) {
+            game.tick();
+            long start = System.nanoTime();
+            renderer.render(gameManager.gameObjects(), gameManager.camera());
+            frameTotal += System.nanoTime() - start;
+            for (int layer = 0; layer < LAYERS.length; layer++) {
+                layerTotals[layer] += renderer.getLayerNanos(layer);
+            }
+        }
+        System.out.printf("%-18s %10.3f", scenario.getLabel(), toMillis(frameTotal / (double) frames));
+        for (long layerTotal : layerTotals) {
+            System.out.printf(" %11.3f", toMillis(layerTotal / (double) frames));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds.
+     *
+     * @param nanos the time in nanoseconds.
+     * @return the time in milliseconds.
+     */
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,126 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.utils.GameTunables;
+
+/**
+ * Scenario enum lists the end-to-end scenarios of the macro benchmark suite. Each scenario sets the board size
+ * and strategy distribution of its games, and may release pucks or turn the camera on at the start of every game.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum Scenario {
+    /**
+     * The default 7x8 board.
+     */
+    DEFAULT_BOARD("default", 0, null, 0, false),
+
+    /**
+     * A 200x200 board.
+     */
+    LARGE_BOARD("board200x200", 200, null, 0, false),
+
+    /**
+     * The default board with a thousand pucks released at the start of every game.
+     */
+    THOUSAND_PUCKS("pucks1000", 0, null, 1000, false),
+
+    /**
+     * A 100x100 board played with the camera following the ball for the whole game.
+     */
+    CAMERA_LARGE_BOARD("cameraLargeBoard", 100, null, 0, true),
+
+    /**
+     * A 40x40 board where every brick releases a heart when it breaks.
+     */
+    HEART_RAIN("heartRain", 40, "basic=0,puck=0,extraPaddle=0,camera=0,extraLife=1,double=0", 0, false);
+
+    private final String label;
+    private final int boardSide;
+    private final String strategyWeights;
+    private final int startPucks;
+    private final boolean isCameraOn;
+
+    /**
+     * Constructs a Scenario.
+     *
+     * @param label           the label of the scenario in reports and baselines.
+     * @param boardSide       the number of brick rows and columns, or 0 for the default board.
+     * @param strategyWeights the strategy weights of the board, or null for the default distribution.
+     * @param startPucks      the number of pucks released at the start of every game.
+     * @param isCameraOn      whether the camera follows the ball for the whole game.
+     */
+    Scenario(String label, int boardSide, String strategyWeights, int startPucks, boolean isCameraOn) {
+        this.label = label;
+        this.boardSide = boardSide;
+        this.strategyWeights = strategyWeights;
+        this.startPucks = startPucks;
+        this.isCameraOn = isCameraOn;
+    }
+
+    /**
+     * Gets the label of the scenario in reports and baselines.
+     *
+     * @return the label of the scenario.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Creates the tunables of a game of this scenario, with a fixed board seed so every run plays the same
+     * board. The frame-budget governor is off, since its measures depend on the speed of the machine.
+     *
+     * @param boardSeed the seed of the board.
+     * @return the tunables of the scenario.
+     */
+    public GameTunables createTunables(long boardSeed) {
+        GameTunables tunables = new GameTunables();
+        tunables.setBoardSeed(boardSeed);
+        tunables.setGovernorTargetMicros(0);
+        if (boardSide > 0) {
+            tunables.setBoardRows(boardSide);
+            tunables.setBoardCols(boardSide);
+        }
+        if (strategyWeights != null) {
+            tunables.setStrategyWeights(strategyWeights);
+        }
+        if (startPucks > 0) {
+            tunables.setPucksPerBrick(startPucks);
+        }
+        if (isCameraOn) {
+            tunables.setCameraCollisions(Integer.MAX_VALUE);
+        }
+        return tunables;
+    }
+
+    /**
+     * Sets up a game of this scenario right after it is initialized.
+     *
+     * @param gameManager the initialized game.
+     */
+    public void setUp(BrickerGameManager gameManager) {
+        if (startPucks > 0) {
+            gameManager.createPucks(BrickerGameManager.defaultWindowDimensions().mult(0.5f));
+        }
+        if (isCameraOn) {
+            gameManager.createCamera();
+        }
+    }
+
+    /**
+     * Finds the scenario with the specified label.
+     *
+     * @param label the label of the scenario.
+     * @return the scenario with the label.
+     * @throws IllegalArgumentException if no scenario has the label.
+     */
+    public static Scenario fromLabel(String label) {
+        for (Scenario scenario : values()) {
+            if (scenario.label.equals(label)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + label);
+    }
+}
@@ -0,0 +1,268 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessGame;
+import bricker.perf.TimeHistogram;
+import bricker.utils.GameTunables;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScenarioBenchmark class runs the end-to-end scenarios of the game headless and compares them against stored
+ * baselines.
+ * Every scenario plays a fixed number of ticks after a warm-up, with the automatic paddle player and a fixed board
+ * seed, and reports its ticks per second, 99th percentile tick time, bytes allocated per tick and peak heap. The
+ * results are compared with the baselines file, and the run fails with a non-zero exit code when a scenario
+ * regressed past the threshold: fewer ticks per second, or a higher p99 tick time, allocation or peak heap.
+ * A scenario without a baseline for every result fails the run as well, since it could not be checked; running
+ * with --record writes the results of the run as the new baselines.
+ * Usage: java bricker.benchmarks.ScenarioBenchmark [--record] [--baselines=path] [--ticks=count]
+ * [--threshold=fraction] [scenario labels...]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class ScenarioBenchmark {
+    private static final String DEFAULT_BASELINES_PATH = "scenario-baselines.properties";
+    private static final int DEFAULT_TICKS = 3000;
+    private static final double DEFAULT_THRESHOLD = 0.15;
+    private static final long BOARD_SEED = 1L;
+    private static final int WARMUP_TICKS = 500;
+    private static final long BUCKET_WIDTH_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+    private static final int REGRESSION_EXIT_CODE = 1;
+    private static final int MISSING_BASELINE_EXIT_CODE = 2;
+
+    /*
+     * The names of the results in the baselines file, after the scenario label.
+     */
+    private static final String TICKS_PER_SECOND = ".ticksPerSecond";
+    private static final String P99_MICROS = ".p99Micros";
+    private static final String BYTES_PER_TICK = ".bytesPerTick";
+    private static final String PEAK_HEAP_MB = ".peakHeapMB";
+
+    /**
+     * Default constructor for the ScenarioBenchmark class.
+     */
+    public ScenarioBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the requested scenarios and compares them against the baselines.
+     *
+     * @param args the options and the labels of the scenarios to run, all scenarios when none is given.
+     * @throws IOException if the baselines cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("bricker.autopilot", "true");
+        boolean isRecording = false;
+        Path baselinesPath = Paths.get(DEFAULT_BASELINES_PATH);
+        int ticks = DEFAULT_TICKS;
+        double threshold = DEFAULT_THRESHOLD;
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--record")) {
+                isRecording = true;
+            } else if (arg.startsWith("--baselines=")) {
+                baselinesPath = Paths.get(arg.substring("--baselines=".length()));
+            } else if (arg.startsWith("--ticks=")) {
+                ticks = Integer.parseInt(arg.substring("--ticks=".length()));
+            } else if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+            } else {
+                scenarios.add(Scenario.fromLabel(arg));
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.addAll(List.of(Scenario.values()));
+        }
+
+        Properties baselines = new Properties();
+        if (Files.exists(baselinesPath)) {
+            try (InputStream input = Files.newInputStream(baselinesPath)) {
+                baselines.load(input);
+            }
+        }
+        int regressions = 0;
+        List<String> missingBaselines = new ArrayList<>();
+        System.out.printf("%-18s %12s %10s %14s %10s  %s%n", "scenario", "ticks/s", "p99(us)", "bytes/tick",
+                "peak(MB)", "vs baseline");
+        for (Scenario scenario : scenarios) {
+            Properties results = run(scenario, ticks);
+            List<String> regressed = compare(scenario.getLabel(), results, baselines, threshold);
+            boolean hasBaseline = hasBaseline(scenario.getLabel(), baselines);
+            if (!hasBaseline) {
+                missingBaselines.add(scenario.getLabel());
+            }
+            System.out.printf("%-18s %12s %10s %14s %10s  %s%n", scenario.getLabel(),
+                    results.getProperty(scenario.getLabel() + TICKS_PER_SECOND),
+                    results.getProperty(scenario.getLabel() + P99_MICROS),
+                    results.getProperty(scenario.getLabel() + BYTES_PER_TICK),
+                    results.getProperty(scenario.getLabel() + PEAK_HEAP_MB),
+                    !hasBaseline ? "NO BASELINE" :
+                            regressed.isEmpty() ? "ok" : "REGRESSED " + String.join(", ", regressed));
+            regressions += regressed.size();
+            if (isRecording) {
+                baselines.putAll(results);
+            }
+        }
+        if (isRecording) {
+            try (OutputStream output = Files.newOutputStream(baselinesPath)) {
+                baselines.store(output, "Bricker scenario baselines");
+            }
+            System.out.println("Baselines written to " + baselinesPath);
+        } else if (regressions > 0) {
+            System.out.println(regressions + " regressions past " + Math.round(threshold * 100) + "%");
+            System.exit(REGRESSION_EXIT_CODE);
+        } else if (!missingBaselines.isEmpty()) {
+            System.out.println("No baseline in " + baselinesPath + " for " + String.join(", ", missingBaselines) +
+                    "; run with --record on the reference machine to store them");
+            System.exit(MISSING_BASELINE_EXIT_CODE);
+        }
+    }
+
+    /**
+     * Plays a scenario headless and measures it.
+     *
+     * @param scenario the scenario to play.
+     * @param ticks    the number of measured ticks.
+     * @return the results of the scenario, keyed like the baselines.
+     */
+    private static Properties run(Scenario scenario, int ticks) {
+        GameTunables tunables = scenario.createTunables(BOARD_SEED);
+        BrickerGameManager gameManager = new BrickerGameManager(scenario.getLabel(),
+                BrickerGameManager.defaultWindowDimensions(), tunables);
+        HeadlessGame game = new HeadlessGame(gameManager, BrickerGameManager.defaultWindowDimensions(),
+                tunables.getPhysicsRate());
+        game.setGameSetup(scenario::setUp);
+        game.start();
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            game.tick();
+        }
+
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+        TimeHistogram tickTimes = new TimeHistogram(BUCKET_WIDTH_NANOS, MAX_TRACKED_NANOS);
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            long tickStart = System.nanoTime();
+            game.tick();
+            tickTimes.record(System.nanoTime() - tickStart);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+
+        String label = scenario.getLabel();
+        Properties results = new Properties();
+        results.setProperty(label + TICKS_PER_SECOND,
+                String.valueOf(Math.round(ticks / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)))));
+        results.setProperty(label + P99_MICROS,
+                String.valueOf(TimeUnit.NANOSECONDS.toMicros(tickTimes.percentile(0.99))));
+        results.setProperty(label + BYTES_PER_TICK, String.valueOf(allocated < 0 ? -1 : allocated / ticks));
+        results.setProperty(label + PEAK_HEAP_MB, String.valueOf(peakHeap / BYTES_IN_MEGABYTE));
+        return results;
+    }
+
+    /**
+     * Compares the results of a scenario with its baselines.
+     *
+     * @param label     the label of the scenario.
+     * @param results   the results of the scenario.
+     * @param baselines the stored baselines.
+     * @param threshold the largest tolerated relative regression.
+     * @return the names of the regressed results, empty if none regressed or there is no baseline.
+     */
+    private static List<String> compare(String label, Properties results, Properties baselines,
+                                        double threshold) {
+        List<String> regressed = new ArrayList<>();
+        if (isWorse(label + TICKS_PER_SECOND, results, baselines, threshold, false)) {
+            regressed.add("ticks/s");
+        }
+        if (isWorse(label + P99_MICROS, results, baselines, threshold, true)) {
+            regressed.add("p99");
+        }
+        if (isWorse(label + BYTES_PER_TICK, results, baselines, threshold, true)) {
+            regressed.add("bytes/tick");
+        }
+        if (isWorse(label + PEAK_HEAP_MB, results, baselines, threshold, true)) {
+            regressed.add("peak heap");
+        }
+        return regressed;
+    }
+
+    /**
+     * Checks whether the baselines hold every result of a scenario.
+     *
+     * @param label     the label of the scenario.
+     * @param baselines the stored baselines.
+     * @return true if every result of the scenario has a baseline, false otherwise.
+     */
+    private static boolean hasBaseline(String label, Properties baselines) {
+        return baselines.containsKey(label + TICKS_PER_SECOND) && baselines.containsKey(label + P99_MICROS) &&
+                baselines.containsKey(label + BYTES_PER_TICK) && baselines.containsKey(label + PEAK_HEAP_MB);
+    }
+
+    /**
+     * Checks whether a single result regressed past the threshold compared with its baseline.
+     *
+     * @param key           the key of the result.
+     * @param results       the results of the run.
+     * @param baselines     the stored baselines.
+     * @param threshold     the largest tolerated relative regression.
+     * @param isLowerBetter whether lower values of the result are better.
+     * @return true if the result regressed, false if it did not or has no baseline.
+     */
+    private static boolean isWorse(String key, Properties results, Properties baselines, double threshold,
+                                   boolean isLowerBetter) {
+        String baselineValue = baselines.getProperty(key);
+        if (baselineValue == null) {
+            return false;
+        }
+        double baseline = Double.parseDouble(baselineValue);
+        double result = Double.parseDouble(results.getProperty(key));
+        if (baseline < 0 || result < 0) {
+            return false;
+        }
+        return isLowerBetter ? result > baseline * (1 + threshold) : result < baseline * (1 - threshold);
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread, when the JVM can measure it.
+     *
+     * @return the allocated bytes, or -1 if the JVM cannot measure them.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,156 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.BoardGenerator;
+import bricker.brick_strategies.StrategyWeights;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static bricker.utils.Constant.BASIC_STRATEGY;
+import static bricker.utils.Constant.DOUBLE_BEHAVIOR_STRATEGY;
+
+/**
+ * StrategySamplingBenchmark class checks and measures the alias table sampling of brick strategies.
+ * It first checks statistically, with a chi-square goodness-of-fit test, that large boards generated from the
+ * default and from a skewed distribution follow the probabilities of their plans, and that the coin flip and
+ * re-roll sampling the game used before produces the same distribution as the default weights. It then times the
+ * old sampling against the alias table, and the generation of a huge board.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class StrategySamplingBenchmark {
+    private static final int CHECK_SIDE = 2000;
+    private static final int HUGE_SIDE = 4000;
+    private static final int TIMED_ROUNDS = 5;
+    private static final long SEED = 7L;
+
+    /*
+     * The standard normal quantile of the 0.001 significance level of the chi-square test.
+     */
+    private static final double CRITICAL_Z = 3.09;
+    private static final int SPECIAL_STRATEGIES_NUM = DOUBLE_BEHAVIOR_STRATEGY + 1;
+
+    /**
+     * Default constructor for the StrategySamplingBenchmark class.
+     */
+    public StrategySamplingBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the statistical checks and the timings and prints their results.
+     *
+     * @param args the command line arguments, ignored.
+     */
+    public static void main(String[] args) {
+        boolean passed = true;
+        BoardGenerator defaultGenerator = new BoardGenerator(SEED);
+        passed &= check("default weights", defaultGenerator,
+                defaultGenerator.generate(CHECK_SIDE, CHECK_SIDE));
+        BoardGenerator skewedGenerator = new BoardGenerator(SEED, StrategyWeights.parse(
+                "basic=1,puck=8,extraPaddle=0,camera=2,extraLife=1,double=4,nested=0.6"));
+        passed &= check("skewed weights", skewedGenerator, skewedGenerator.generate(CHECK_SIDE, CHECK_SIDE));
+        passed &= check("legacy sampling", defaultGenerator, legacyBoard(CHECK_SIDE * CHECK_SIDE));
+        System.out.println(passed ? "all distributions match" : "DISTRIBUTION MISMATCH");
+
+        int bricks = HUGE_SIDE * HUGE_SIDE;
+        long legacyNanos = Long.MAX_VALUE;
+        long generatorNanos = Long.MAX_VALUE;
+        for (int round = 0; round < TIMED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            legacyBoard(bricks);
+            legacyNanos = Math.min(legacyNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            defaultGenerator.generate(HUGE_SIDE, HUGE_SIDE);
+            generatorNanos = Math.min(generatorNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%dx%d board: legacy %.1fms (%.2f ns/brick), alias %.1fms (%.2f ns/brick)%n",
+                HUGE_SIDE, HUGE_SIDE, legacyNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                legacyNanos / (double) bricks, generatorNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                generatorNanos / (double) bricks);
+    }
+
+    /**
+     * Tests whether the plans of a board follow the distribution of a generator and prints the result.
+     *
+     * @param label     the label of the check.
+     * @param generator the generator whose distribution is expected.
+     * @param plans     the plans of the board.
+     * @return true if the board passed the test, false otherwise.
+     */
+    private static boolean check(String label, BoardGenerator generator, int[] plans) {
+        int[] outcomePlans = generator.getOutcomePlans();
+        double[] probabilities = generator.getOutcomeProbabilities();
+        Map<Integer, Integer> outcomeIndices = new HashMap<>();
+        for (int i = 0; i < outcomePlans.length; i++) {
+            outcomeIndices.put(outcomePlans[i], i);
+        }
+        long[] observed = new long[outcomePlans.length];
+        int unexpected = 0;
+        for (int plan : plans) {
+            Integer index = outcomeIndices.get(plan);
+            if (index == null) {
+                unexpected++;
+            } else {
+                observed[index]++;
+            }
+        }
+        double chiSquare = 0;
+        for (int i = 0; i < observed.length; i++) {
+            double expected = probabilities[i] * plans.length;
+            chiSquare += (observed[i] - expected) * (observed[i] - expected) / expected;
+        }
+        int degrees = observed.length - 1;
+        double critical = degrees * Math.pow(1 - 2.0 / (9 * degrees) +
+                CRITICAL_Z * Math.sqrt(2.0 / (9 * degrees)), 3);
+        boolean passed = unexpected == 0 && chiSquare <= critical;
+        System.out.printf("%-16s outcomes=%-4d chi2=%-10.1f critical=%-8.1f unexpected=%-6d %s%n", label,
+                observed.length, chiSquare, critical, unexpected, passed ? "ok" : "FAILED");
+        return passed;
+    }
+
+    /**
+     * Samples plans the way the game did before the alias table: a coin flip for basic bricks, then a uniform
+     * special strategy, re-rolling the behaviors of double behaviors.
+     *
+     * @param count the number of plans to sample.
+     * @return the sampled plans.
+     */
+    private static int[] legacyBoard(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] plans = new int[count];
+        for (int i = 0; i < count; i++) {
+            plans[i] = legacyPlan(random);
+        }
+        return plans;
+    }
+
+    /**
+     * Samples a single plan the way the game did before the alias table.
+     *
+     * @param random the random generator to draw from.
+     * @return the sampled plan.
+     */
+    private static int legacyPlan(SplittableRandom random) {
+        if (random.nextBoolean()) {
+            return BoardGenerator.plan(BASIC_STRATEGY);
+        }
+        int index = random.nextInt(SPECIAL_STRATEGIES_NUM);
+        if (index != DOUBLE_BEHAVIOR_STRATEGY) {
+            return BoardGenerator.plan(index);
+        }
+        int first = random.nextInt(DOUBLE_BEHAVIOR_STRATEGY);
+        int second = random.nextInt(SPECIAL_STRATEGIES_NUM);
+        if (second != DOUBLE_BEHAVIOR_STRATEGY) {
+            return BoardGenerator.plan(first, second);
+        }
+        second = random.nextInt(DOUBLE_BEHAVIOR_STRATEGY);
+        int third = random.nextInt(SPECIAL_STRATEGIES_NUM);
+        if (third == DOUBLE_BEHAVIOR_STRATEGY) {
+            third = random.nextInt(DOUBLE_BEHAVIOR_STRATEGY);
+        }
+        return BoardGenerator.plan(first, second, third);
+    }
+}
@@ -0,0 +1,81 @@
+package bricker.benchmarks;
+
+import bricker.main.VectorizedEnvironment;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VectorizedEnvironmentBenchmark class measures how stepping many headless games in lockstep scales with the number
+ * of threads.
+ * The same seeded games are stepped with random actions by environments of growing parallelism, and the game ticks
+ * per second of each environment are printed together with the speedup over a single thread.
+ * Usage: java bricker.benchmarks.VectorizedEnvironmentBenchmark [--games=count] [--steps=count]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class VectorizedEnvironmentBenchmark {
+    private static final int DEFAULT_GAMES = 16;
+    private static final int DEFAULT_STEPS = 2000;
+    private static final int WARMUP_STEPS = 300;
+    private static final int TICKS_PER_STEP = 4;
+    private static final int MAX_PUCKS = 32;
+    private static final long SEED = 1L;
+    private static final int ACTIONS = 3;
+
+    /**
+     * Default constructor for the VectorizedEnvironmentBenchmark class.
+     */
+    public VectorizedEnvironmentBenchmark() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Runs the benchmark and prints the ticks per second of each parallelism.
+     *
+     * @param args the options of the run.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int games = DEFAULT_GAMES;
+        int steps = DEFAULT_STEPS;
+        for (String arg : args) {
+            if (arg.startsWith("--games=")) {
+                games = Integer.parseInt(arg.substring("--games=".length()));
+            } else if (arg.startsWith("--steps=")) {
+                steps = Integer.parseInt(arg.substring("--steps=".length()));
+            }
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        int[] parallelisms = Arrays.stream(new int[]{1, 2, 4, processors}).distinct().sorted().toArray();
+        double singleThreadTicksPerSecond = 0;
+        System.out.println("threads    ticks/s      speedup");
+        for (int parallelism : parallelisms) {
+            try (VectorizedEnvironment environment = new VectorizedEnvironment(games,
+                    Scenario.DEFAULT_BOARD::createTunables, SEED, MAX_PUCKS, TICKS_PER_STEP, parallelism)) {
+                SplittableRandom random = new SplittableRandom(SEED);
+                int[] actions = new int[games];
+                environment.reset();
+                long start = 0;
+                for (int step = 0; step < WARMUP_STEPS + steps; step++) {
+                    if (step == WARMUP_STEPS) {
+                        start = System.nanoTime();
+                    }
+                    for (int i = 0; i < games; i++) {
+                        actions[i] = random.nextInt(ACTIONS) - 1;
+                    }
+                    environment.step(actions);
+                }
+                long elapsed = System.nanoTime() - start;
+                double ticksPerSecond = (double) steps * TICKS_PER_STEP * games /
+                        (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+                if (parallelism == 1) {
+                    singleThreadTicksPerSecond = ticksPerSecond;
+                }
+                System.out.printf("%-10d %-12.0f %.2f%n", parallelism, ticksPerSecond,
+                        ticksPerSecond / singleThreadTicksPerSecond);
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package bricker.brick_strategies;
+
+import bricker.utils.AliasTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static bricker.utils.Constant.*;
+
+/**
+ * BoardGenerator class decides the collision strategy of every brick of a Bricker board, in parallel and
+ * deterministically.
+ * The board is split into chunks of rows, and each chunk draws its strategies from its own SplittableRandom,
+ * split from a root generator seeded with the board seed in chunk order. The chunks are then generated on a
+ * parallel stream, and since a chunk's random numbers do not depend on which thread generates it or when, the
+ * same seed always produces the same board, whatever the number of threads.
+ * The strategy of a brick is produced as a compact plan, which StrategyFactory turns into a CollisionStrategy:
+ * the number of behaviors in the low bits, followed by the strategy code of each behavior.
+ * The distribution is given by StrategyWeights. Every plan it can produce, from the basic strategy to a double
+ * behavior nesting another one, is an outcome of a single alias table, so the strategy of a brick is sampled in
+ * constant time with a single random number, however deep its double behaviors are.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BoardGenerator {
+    /**
+     * The number of bits holding the behavior count or a single strategy code in a plan.
+     */
+    public static final int PLAN_FIELD_BITS = 3;
+
+    /**
+     * The mask of a single field of a plan.
+     */
+    public static final int PLAN_FIELD_MASK = (1 << PLAN_FIELD_BITS) - 1;
+
+    /**
+     * The maximum number of behaviors a single brick can combine.
+     */
+    public static final int MAX_PLAN_BEHAVIORS = 3;
+
+    /*
+     * The number of rows generated from a single random generator.
+     */
+    private static final int ROWS_PER_CHUNK = 8;
+
+    /*
+     * Mixed into the board seed to seed the rows of an endless board apart from the chunks of the board.
+     */
+    private static final long ROW_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final int[] outcomePlans;
+    private final double[] outcomeProbabilities;
+    private final AliasTable outcomes;
+
+    /**
+     * Constructs a BoardGenerator for the specified seed, drawing from the default distribution.
+     *
+     * @param seed the seed of the board.
+     */
+    public BoardGenerator(long seed) {
+        this(seed, StrategyWeights.DEFAULT);
+    }
+
+    /**
+     * Constructs a BoardGenerator for the specified seed and distribution.
+     *
+     * @param seed    the seed of the board.
+     * @param weights the distribution of the strategies.
+     */
+    public BoardGenerator(long seed, StrategyWeights weights) {
+        this.seed = seed;
+        List<Integer> plans = new ArrayList<>();
+        List<Double> probabilities = new ArrayList<>();
+        addOutcomes(weights, plans, probabilities);
+        this.outcomePlans = plans.stream().mapToInt(Integer::intValue).toArray();
+        this.outcomeProbabilities = probabilities.stream().mapToDouble(Double::doubleValue).toArray();
+        this.outcomes = new AliasTable(outcomeProbabilities);
+    }
+
+    /**
+     * Gets every plan the generator can produce.
+     *
+     * @return the possible plans, in the order of getOutcomeProbabilities.
+     */
+    public int[] getOutcomePlans() {
+        return outcomePlans.clone();
+    }
+
+    /**
+     * Gets the probability of every plan the generator can produce.
+     *
+     * @return the probability of each plan, in the order of getOutcomePlans.
+     */
+    public double[] getOutcomeProbabilities() {
+        return outcomeProbabilities.clone();
+    }
+
+    /**
+     * Generates the strategy plans of all bricks of a board.
+     *
+     * @param rows the number of brick rows.
+     * @param cols the number of bricks in a row.
+     * @return the plan of each brick in row-major order.
+     */
+    public int[] generate(int rows, int cols) {
+        int[] plans = new int[rows * cols];
+        int chunks = (rows + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkRandoms[chunk] = root.split();
+        }
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom random = chunkRandoms[chunk];
+            int end = Math.min(rows, (chunk + 1) * ROWS_PER_CHUNK) * cols;
+            for (int i = chunk * ROWS_PER_CHUNK * cols; i < end; i++) {
+                plans[i] = outcomePlans[outcomes.sample(random)];
+            }
+        });
+        return plans;
+    }
+
+    /**
+     * Creates the random generator the rows brought into an endless board are drawn from. It is seeded from the
+     * board seed, so the same seed always brings in the same rows, but apart from the generators of the chunks.
+     *
+     * @return the random generator of the rows.
+     */
+    public SplittableRandom createRowRandom() {
+        return new SplittableRandom(seed ^ ROW_SEED_MIX);
+    }
+
+    /**
+     * Generates the strategy plans of a range of bricks, such as a single row brought into an endless board.
+     *
+     * @param random the random generator the plans are drawn from.
+     * @param plans  the array the plans are written to.
+     * @param from   the index of the first plan to write.
+     * @param to     the index after the last plan to write.
+     */
+    public void generate(SplittableRandom random, int[] plans, int from, int to) {
+        for (int i = from; i < to; i++) {
+            plans[i] = outcomePlans[outcomes.sample(random)];
+        }
+    }
+
+    /**
+     * Lists every plan of a distribution that has a positive probability, together with its probability.
+     *
+     * @param weights       the distribution of the strategies.
+     * @param plans         the list the plans are added to.
+     * @param probabilities the list the probabilities of the plans are added to.
+     */
+    private static void addOutcomes(StrategyWeights weights, List<Integer> plans, List<Double> probabilities) {
+        double total = weights.normalWeight() + weights.getWeight(DOUBLE_BEHAVIOR_STRATEGY) +
+                weights.getWeight(BASIC_STRATEGY);
+        addOutcome(plans, probabilities, plan(BASIC_STRATEGY), weights.getWeight(BASIC_STRATEGY) / total);
+        for (int first = 0; first < DOUBLE_BEHAVIOR_STRATEGY; first++) {
+            addOutcome(plans, probabilities, plan(first), weights.getWeight(first) / total);
+        }
+        double doubleChance = weights.getWeight(DOUBLE_BEHAVIOR_STRATEGY) / total;
+        if (doubleChance == 0) {
+            return;
+        }
+        double normalWeight = weights.normalWeight();
+        double nestedChance = weights.getNestedDoubleChance();
+        for (int first = 0; first < DOUBLE_BEHAVIOR_STRATEGY; first++) {
+            double firstChance = doubleChance * weights.getWeight(first) / normalWeight;
+            for (int second = 0; second < DOUBLE_BEHAVIOR_STRATEGY; second++) {
+                double secondChance = firstChance * weights.getWeight(second) / normalWeight;
+                addOutcome(plans, probabilities, plan(first, second), secondChance * (1 - nestedChance));
+                for (int third = 0; third < DOUBLE_BEHAVIOR_STRATEGY; third++) {
+                    addOutcome(plans, probabilities, plan(first, second, third),
+                            secondChance * nestedChance * weights.getWeight(third) / normalWeight);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a plan to the outcomes if its probability is positive.
+     *
+     * @param plans         the list of plans.
+     * @param probabilities the list of probabilities.
+     * @param plan          the plan.
+     * @param probability   the probability of the plan.
+     */
+    private static void addOutcome(List<Integer> plans, List<Double> probabilities, int plan, double probability) {
+        if (probability > 0) {
+            plans.add(plan);
+            probabilities.add(probability);
+        }
+    }
+
+    /**
+     * Encodes a single behavior as a plan.
+     *
+     * @param strategy the strategy code of the behavior.
+     * @return the plan of the behavior.
+     */
+    public static int plan(int strategy) {
+        return 1 | strategy << PLAN_FIELD_BITS;
+    }
+
+    /**
+     * Encodes a double behavior as a plan.
+     *
+     * @param first  the strategy code of the first behavior.
+     * @param second the strategy code of the second behavior.
+     * @return the plan combining the behaviors.
+     */
+    public static int plan(int first, int second) {
+        return 2 | first << PLAN_FIELD_BITS | second << (PLAN_FIELD_BITS * 2);
+    }
+
+    /**
+     * Encodes a double behavior whose second behavior is itself a double behavior as a plan.
+     *
+     * @param first  the strategy code of the first behavior.
+     * @param second the strategy code of the second behavior.
+     * @param third  the strategy code of the third behavior.
+     * @return the plan combining the behaviors.
+     */
+    public static int plan(int first, int second, int third) {
+        return 3 | first << PLAN_FIELD_BITS | second << (PLAN_FIELD_BITS * 2) | third << (PLAN_FIELD_BITS * 3);
+    }
+
+    /**
+     * Gets the number of behaviors of a plan.
+     *
+     * @param plan the plan.
+     * @return the number of behaviors, between 1 and MAX_PLAN_BEHAVIORS.
+     */
+    public static int behaviorCount(int plan) {
+        return plan & PLAN_FIELD_MASK;
+    }
+
+    /**
+     * Gets the strategy code of a single behavior of a plan.
+     *
+     * @param plan  the plan.
+     * @param index the index of the behavior.
+     * @return the strategy code of the behavior.
+     */
+    public static int behavior(int plan, int index) {
+        return (plan >>> (PLAN_FIELD_BITS * (index + 1))) & PLAN_FIELD_MASK;
+    }
+}
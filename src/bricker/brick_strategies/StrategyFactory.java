@@ -3,8 +3,6 @@ package bricker.brick_strategies;
 import bricker.main.BrickerGameManager;
 import danogl.util.Counter;
 
-import java.util.Random;
-
 import static bricker.utils.Constant.*;
 
 /**
@@ -12,23 +10,20 @@ import static bricker.utils.Constant.*;
  * It provides methods for building different collision strategies used in the Bricker game.
  * The strategies include Pack Strategy, Extra Paddle Strategy, Change Camera Strategy,
  * Extra Life Strategy, Double Behavior Strategy, and Basic Collision Strategy.
- * The factory also handles the creation of double behavior strategies by combining two different strategies.
- * It ensures that the double behavior strategy is not created indefinitely by setting a maximum count.
+ * Double behavior strategies are built from the plans made by the BoardGenerator, which already picked every
+ * behavior they combine, so the factory itself draws no random numbers.
  * StrategyFactory relies on the BrickerGameManager and a Counter to manage game state and behavior.
- * Additionally, this class defines constants related to strategy indices and behavior counts.
  *
  * @author Rotem Aharoni and Dana Bar Zakay
  */
 public class StrategyFactory {
-    /**
-     * The maximum count for double behavior strategies to prevent indefinite creation.
-     */
-    private static final int MAX_DOUBLE_BEHAVIOR_COUNT = 3;
-
     private final BrickerGameManager brickerGameManager;
 
     private final Counter brickCount;
 
+    private final CollisionStrategy[] sharedStrategies =
+            new CollisionStrategy[1 << (BoardGenerator.PLAN_FIELD_BITS * (BoardGenerator.MAX_PLAN_BEHAVIORS + 1))];
+
     /**
      * Constructs a StrategyFactory object with the specified BrickerGameManager and Counter.
      *
@@ -41,13 +36,13 @@ public class StrategyFactory {
     }
 
     /**
-     * Builds and returns a CollisionStrategy based on the provided index and count of strategies.
+     * Builds and returns the CollisionStrategy of a single behavior. Double behaviors are built from plans by
+     * buildFromPlan.
      *
-     * @param index         the index representing the desired strategy
-     * @param countStrategy the count of strategies used to create double behavior strategies
+     * @param index the index representing the desired strategy
      * @return a CollisionStrategy instance based on the specified index
      */
-    public CollisionStrategy buildRenderer(int index, int countStrategy) {
+    public CollisionStrategy buildRenderer(int index) {
         switch (index) {
             case PACK_STRATEGY:
                 return new PuckStrategy(brickerGameManager, brickCount);
@@ -57,31 +52,43 @@ public class StrategyFactory {
                 return new ChangeCameraStrategy(brickerGameManager, brickCount);
             case EXTRA_LIFE_STRATEGY:
                 return new ExtraLifeStrategy(brickerGameManager, brickCount);
-            case DOUBLE_BEHAVIOR_STRATEGY:
-                CollisionStrategy behavior1 = brickerGameManager.selectNormalStrategyBehavior(brickCount);
-                countStrategy++;
-                CollisionStrategy behavior2 = doubleBehaviourStrategy(countStrategy);
-                return new DoubleBehaviorStrategy(brickCount, behavior1, behavior2);
             default:
                 return new BasicCollisionStrategy(brickerGameManager, brickCount);
         }
     }
 
     /**
-     * Creates and returns a double behavior strategy based on a random index and count of strategies.
+     * Builds and returns the CollisionStrategy described by a plan made by the BoardGenerator.
+     * A plan with several behaviors becomes a chain of double behavior strategies, each combining one behavior
+     * with the rest of the chain.
      *
-     * @param countStrategy the count of strategies used to create double behavior strategies
-     * @return a CollisionStrategy instance representing a double behavior strategy
+     * @param plan the plan of the brick's strategy
+     * @return a CollisionStrategy instance based on the specified plan
      */
-    public CollisionStrategy doubleBehaviourStrategy(int countStrategy) {
-        Random rand = new Random();
-        int index = rand.nextInt(DOUBLE_BEHAVIOR_STRATEGY + 1);
-        if (index != DOUBLE_BEHAVIOR_STRATEGY) {
-            return buildRenderer(index, countStrategy + 1);
+    public CollisionStrategy buildFromPlan(int plan) {
+        int count = BoardGenerator.behaviorCount(plan);
+        CollisionStrategy strategy = buildRenderer(BoardGenerator.behavior(plan, count - 1));
+        for (int i = count - 2; i >= 0; i--) {
+            CollisionStrategy behavior = buildRenderer(BoardGenerator.behavior(plan, i));
+            strategy = new DoubleBehaviorStrategy(brickCount, behavior, strategy);
         }
-        if (countStrategy < MAX_DOUBLE_BEHAVIOR_COUNT) {
-            return buildRenderer(index, countStrategy + 1);
+        return strategy;
+    }
+
+    /**
+     * Returns the CollisionStrategy described by a plan, building it only the first time the plan is asked for.
+     * The strategies hold no state of their own brick, so every brick of the same plan shares one strategy, and
+     * bricks recycled for arbitrarily many rows never need more strategies than there are plans.
+     *
+     * @param plan the plan of the brick's strategy
+     * @return the shared CollisionStrategy instance of the plan
+     */
+    public CollisionStrategy sharedFromPlan(int plan) {
+        CollisionStrategy strategy = sharedStrategies[plan];
+        if (strategy == null) {
+            strategy = buildFromPlan(plan);
+            sharedStrategies[plan] = strategy;
         }
-        return brickerGameManager.selectNormalStrategyBehavior(brickCount);
+        return strategy;
     }
 }
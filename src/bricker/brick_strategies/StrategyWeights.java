@@ -0,0 +1,149 @@
+package bricker.brick_strategies;
+
+import java.util.Arrays;
+
+import static bricker.utils.Constant.*;
+
+/**
+ * StrategyWeights class holds the distribution the collision strategies of new bricks are drawn from.
+ * Every strategy has a relative weight: the basic strategy, the four normal behaviors and the double behavior. The
+ * behaviors a double behavior combines are drawn by the weights of the normal behaviors, and its second behavior
+ * is itself a double behavior with the nested double chance, up to the maximum depth.
+ * The weights are written as a comma separated list of name=value entries, for example
+ * "basic=5,puck=1,extraPaddle=1,camera=1,extraLife=1,double=1,nested=0.2"; entries that are left out keep their
+ * default value. The default weights are the distribution the game always used: half of the bricks are basic and
+ * the rest are spread evenly over the special strategies.
+ * StrategyWeights objects are immutable.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class StrategyWeights {
+    /*
+     * The name of each strategy in the written form, indexed by strategy code.
+     */
+    private static final String[] STRATEGY_NAMES = {"puck", "extraPaddle", "camera", "extraLife", "double",
+            "basic"};
+    private static final String NESTED_NAME = "nested";
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String VALUE_SEPARATOR = "=";
+
+    /**
+     * The distribution the game always used.
+     */
+    public static final StrategyWeights DEFAULT = new StrategyWeights(new double[]{1, 1, 1, 1, 1, 5}, 0.2);
+
+    private final double[] weights;
+    private final double nestedDoubleChance;
+
+    /**
+     * Constructs StrategyWeights with the specified weights.
+     *
+     * @param weights            the weight of each strategy, indexed by strategy code.
+     * @param nestedDoubleChance the chance that the second behavior of a double behavior is a double behavior.
+     * @throws IllegalArgumentException if a weight is negative, all weights are zero, double behaviors have no
+     *                                  normal behavior to combine or the chance is not between 0 and 1.
+     */
+    public StrategyWeights(double[] weights, double nestedDoubleChance) {
+        if (weights.length != STRATEGY_NAMES.length) {
+            throw new IllegalArgumentException("Expected " + STRATEGY_NAMES.length + " weights");
+        }
+        this.weights = weights.clone();
+        this.nestedDoubleChance = nestedDoubleChance;
+        double total = 0;
+        for (double weight : this.weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Negative strategy weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The strategy weights must not all be zero");
+        }
+        if (this.weights[DOUBLE_BEHAVIOR_STRATEGY] > 0 && normalWeight() <= 0) {
+            throw new IllegalArgumentException("Double behaviors need a normal behavior with a positive weight");
+        }
+        if (!(nestedDoubleChance >= 0 && nestedDoubleChance <= 1)) {
+            throw new IllegalArgumentException("The nested double chance must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Parses weights written as name=value entries, keeping the default value of the entries left out.
+     *
+     * @param text the written weights.
+     * @return the parsed StrategyWeights.
+     * @throws IllegalArgumentException if an entry is malformed or the weights are invalid.
+     */
+    public static StrategyWeights parse(String text) {
+        double[] weights = DEFAULT.weights.clone();
+        double nestedDoubleChance = DEFAULT.nestedDoubleChance;
+        for (String entry : text.split(ENTRY_SEPARATOR)) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] nameAndValue = entry.split(VALUE_SEPARATOR);
+            if (nameAndValue.length != 2) {
+                throw new IllegalArgumentException("Malformed strategy weight: " + entry);
+            }
+            String name = nameAndValue[0].trim();
+            double value = Double.parseDouble(nameAndValue[1].trim());
+            if (name.equals(NESTED_NAME)) {
+                nestedDoubleChance = value;
+                continue;
+            }
+            int strategy = Arrays.asList(STRATEGY_NAMES).indexOf(name);
+            if (strategy < 0) {
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+            }
+            weights[strategy] = value;
+        }
+        return new StrategyWeights(weights, nestedDoubleChance);
+    }
+
+    /**
+     * Gets the relative weight of a strategy.
+     *
+     * @param strategy the strategy code.
+     * @return the weight of the strategy.
+     */
+    public double getWeight(int strategy) {
+        return weights[strategy];
+    }
+
+    /**
+     * Gets the chance that the second behavior of a double behavior is itself a double behavior.
+     *
+     * @return the nested double chance.
+     */
+    public double getNestedDoubleChance() {
+        return nestedDoubleChance;
+    }
+
+    /**
+     * Gets the total weight of the normal behaviors a double behavior combines.
+     *
+     * @return the total weight of the normal behaviors.
+     */
+    public double normalWeight() {
+        double sum = 0;
+        for (int strategy = 0; strategy < DOUBLE_BEHAVIOR_STRATEGY; strategy++) {
+            sum += weights[strategy];
+        }
+        return sum;
+    }
+
+    /**
+     * Writes the weights in the form parse reads.
+     *
+     * @return the written weights.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int strategy = 0; strategy < STRATEGY_NAMES.length; strategy++) {
+            text.append(STRATEGY_NAMES[strategy]).append(VALUE_SEPARATOR).append(weights[strategy])
+                    .append(ENTRY_SEPARATOR);
+        }
+        return text.append(NESTED_NAME).append(VALUE_SEPARATOR).append(nestedDoubleChance).toString();
+    }
+}
@@ -0,0 +1,256 @@
+package bricker.ecs;
+
+import danogl.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * Archetype class stores the entities that have exactly the same components, each component in dense arrays with
+ * one entry per entity, so a system walks the entities of an archetype linearly without following references.
+ * Only the arrays of the archetype's own components are allocated. The entities are packed at the start of the
+ * arrays: removing an entity moves the last entity into its row.
+ * The arrays are read and written directly by the systems of this package, and they are replaced when the archetype
+ * grows, so they must not be kept across the addition of an entity.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class Archetype {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int mask;
+    int count = 0;
+    int[] entities = new int[INITIAL_CAPACITY];
+    float[] x;
+    float[] y;
+    float[] velocityX;
+    float[] velocityY;
+    float[] halfWidth;
+    float[] halfHeight;
+    int[] ticksLeft;
+    int[] inputDirection;
+    float[] inputSpeed;
+    GameObject[] views;
+    int[] fixedX;
+    int[] fixedY;
+    int[] fixedVelocityX;
+    int[] fixedVelocityY;
+
+    /**
+     * Constructs an empty Archetype of the specified components.
+     *
+     * @param mask the mask of the components of the archetype.
+     */
+    Archetype(int mask) {
+        this.mask = mask;
+        if (has(Component.TRANSFORM)) {
+            x = new float[INITIAL_CAPACITY];
+            y = new float[INITIAL_CAPACITY];
+        }
+        if (has(Component.VELOCITY)) {
+            velocityX = new float[INITIAL_CAPACITY];
+            velocityY = new float[INITIAL_CAPACITY];
+        }
+        if (has(Component.COLLIDER)) {
+            halfWidth = new float[INITIAL_CAPACITY];
+            halfHeight = new float[INITIAL_CAPACITY];
+        }
+        if (has(Component.LIFETIME)) {
+            ticksLeft = new int[INITIAL_CAPACITY];
+        }
+        if (has(Component.INPUT)) {
+            inputDirection = new int[INITIAL_CAPACITY];
+            inputSpeed = new float[INITIAL_CAPACITY];
+        }
+        if (has(Component.VIEW)) {
+            views = new GameObject[INITIAL_CAPACITY];
+        }
+        if (has(Component.FIXED_POINT)) {
+            fixedX = new int[INITIAL_CAPACITY];
+            fixedY = new int[INITIAL_CAPACITY];
+            fixedVelocityX = new int[INITIAL_CAPACITY];
+            fixedVelocityY = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Gets the mask of the components of the archetype.
+     *
+     * @return the component mask.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Checks whether the entities of the archetype have the specified component.
+     *
+     * @param component the component to check.
+     * @return true if the archetype has the component, false otherwise.
+     */
+    public boolean has(Component component) {
+        return (mask & component.bit()) != 0;
+    }
+
+    /**
+     * Checks whether the entities of the archetype have all the components of a mask.
+     *
+     * @param requiredMask the mask of the required components.
+     * @return true if the archetype has every required component, false otherwise.
+     */
+    public boolean hasAll(int requiredMask) {
+        return (mask & requiredMask) == requiredMask;
+    }
+
+    /**
+     * Gets the number of entities of the archetype.
+     *
+     * @return the number of entities.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds an entity with zeroed components at the end of the archetype.
+     *
+     * @param entity the id of the entity.
+     * @return the row of the entity.
+     */
+    int add(int entity) {
+        if (count == entities.length) {
+            grow(count * 2);
+        }
+        int row = count++;
+        entities[row] = entity;
+        return row;
+    }
+
+    /**
+     * Removes the entity at the specified row by moving the last entity into its place and clearing the
+     * components of the last row.
+     *
+     * @param row the row of the entity to remove.
+     * @return the id of the entity moved into the row, or -1 if the removed entity was the last one.
+     */
+    int removeAt(int row) {
+        int last = --count;
+        int moved = -1;
+        if (row != last) {
+            moved = entities[last];
+            copyRow(last, row);
+        }
+        clearRow(last);
+        return moved;
+    }
+
+    /**
+     * Copies every component of one row into another row.
+     *
+     * @param from the row to copy from.
+     * @param to   the row to copy to.
+     */
+    private void copyRow(int from, int to) {
+        entities[to] = entities[from];
+        if (x != null) {
+            x[to] = x[from];
+            y[to] = y[from];
+        }
+        if (velocityX != null) {
+            velocityX[to] = velocityX[from];
+            velocityY[to] = velocityY[from];
+        }
+        if (halfWidth != null) {
+            halfWidth[to] = halfWidth[from];
+            halfHeight[to] = halfHeight[from];
+        }
+        if (ticksLeft != null) {
+            ticksLeft[to] = ticksLeft[from];
+        }
+        if (inputDirection != null) {
+            inputDirection[to] = inputDirection[from];
+            inputSpeed[to] = inputSpeed[from];
+        }
+        if (views != null) {
+            views[to] = views[from];
+        }
+        if (fixedX != null) {
+            fixedX[to] = fixedX[from];
+            fixedY[to] = fixedY[from];
+            fixedVelocityX[to] = fixedVelocityX[from];
+            fixedVelocityY[to] = fixedVelocityY[from];
+        }
+    }
+
+    /**
+     * Zeroes every component of a row that is no longer used, and drops its reference to a game object.
+     *
+     * @param row the row to clear.
+     */
+    private void clearRow(int row) {
+        if (x != null) {
+            x[row] = 0;
+            y[row] = 0;
+        }
+        if (velocityX != null) {
+            velocityX[row] = 0;
+            velocityY[row] = 0;
+        }
+        if (halfWidth != null) {
+            halfWidth[row] = 0;
+            halfHeight[row] = 0;
+        }
+        if (ticksLeft != null) {
+            ticksLeft[row] = 0;
+        }
+        if (inputDirection != null) {
+            inputDirection[row] = 0;
+            inputSpeed[row] = 0;
+        }
+        if (views != null) {
+            views[row] = null;
+        }
+        if (fixedX != null) {
+            fixedX[row] = 0;
+            fixedY[row] = 0;
+            fixedVelocityX[row] = 0;
+            fixedVelocityY[row] = 0;
+        }
+    }
+
+    /**
+     * Grows the arrays of the archetype's components to the specified capacity.
+     *
+     * @param capacity the new capacity of the arrays.
+     */
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        if (x != null) {
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+        }
+        if (velocityX != null) {
+            velocityX = Arrays.copyOf(velocityX, capacity);
+            velocityY = Arrays.copyOf(velocityY, capacity);
+        }
+        if (halfWidth != null) {
+            halfWidth = Arrays.copyOf(halfWidth, capacity);
+            halfHeight = Arrays.copyOf(halfHeight, capacity);
+        }
+        if (ticksLeft != null) {
+            ticksLeft = Arrays.copyOf(ticksLeft, capacity);
+        }
+        if (inputDirection != null) {
+            inputDirection = Arrays.copyOf(inputDirection, capacity);
+            inputSpeed = Arrays.copyOf(inputSpeed, capacity);
+        }
+        if (views != null) {
+            views = Arrays.copyOf(views, capacity);
+        }
+        if (fixedX != null) {
+            fixedX = Arrays.copyOf(fixedX, capacity);
+            fixedY = Arrays.copyOf(fixedY, capacity);
+            fixedVelocityX = Arrays.copyOf(fixedVelocityX, capacity);
+            fixedVelocityY = Arrays.copyOf(fixedVelocityY, capacity);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package bricker.ecs;
+
+/**
+ * BoundsSystem class marks every entity that left the board for removal. An entity with a collider has left once
+ * its whole bounding box is outside the board, and any other entity once its center is.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BoundsSystem implements EntitySystem {
+    private final float width;
+    private final float height;
+
+    /**
+     * Constructs a BoundsSystem for a board of the specified size, whose top-left corner is at the origin.
+     *
+     * @param width  the width of the board.
+     * @param height the height of the board.
+     */
+    public BoundsSystem(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Marks the entities outside the board.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds.
+     */
+    @Override
+    public void run(EntityWorld world, float deltaTime) {
+        for (int a = 0; a < world.archetypeCount(); a++) {
+            Archetype archetype = world.getArchetype(a);
+            if (!archetype.has(Component.TRANSFORM)) {
+                continue;
+            }
+            float[] x = archetype.x;
+            float[] y = archetype.y;
+            float[] halfWidth = archetype.has(Component.COLLIDER) ? archetype.halfWidth : null;
+            float[] halfHeight = archetype.has(Component.COLLIDER) ? archetype.halfHeight : null;
+            for (int i = 0; i < archetype.count; i++) {
+                float extentX = halfWidth != null ? halfWidth[i] : 0;
+                float extentY = halfHeight != null ? halfHeight[i] : 0;
+                if (x[i] + extentX < 0 || x[i] - extentX > width || y[i] + extentY < 0 ||
+                        y[i] - extentY > height) {
+                    world.markForRemoval(archetype.entities[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package bricker.ecs;
+
+/**
+ * Component enum lists the components an entity of the entity world can have. The components of an entity decide
+ * its archetype, and each archetype keeps every one of its components in dense arrays, one entry per entity.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum Component {
+    /**
+     * The center of the entity.
+     */
+    TRANSFORM,
+
+    /**
+     * The velocity of the entity, in pixels per second.
+     */
+    VELOCITY,
+
+    /**
+     * The half extents of the entity's bounding box around its center.
+     */
+    COLLIDER,
+
+    /**
+     * The number of logic steps left before the entity is removed.
+     */
+    LIFETIME,
+
+    /**
+     * The horizontal direction the entity is steered in, and the speed it moves at in that direction.
+     */
+    INPUT,
+
+    /**
+     * The game object drawing the entity and colliding with the rest of the game.
+     */
+    VIEW,
+
+    /**
+     * Marks an entity whose transform and velocity are also kept in fixed point, and moved in fixed point instead
+     * of in floating point.
+     */
+    FIXED_POINT;
+
+    /**
+     * Gets the bit of the component in an archetype mask.
+     *
+     * @return the bit of the component.
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Builds the archetype mask of the specified components.
+     *
+     * @param components the components of the archetype.
+     * @return the mask with the bits of the components set.
+     */
+    public static int maskOf(Component... components) {
+        int mask = 0;
+        for (Component component : components) {
+            mask |= component.bit();
+        }
+        return mask;
+    }
+}
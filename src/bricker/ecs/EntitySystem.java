@@ -0,0 +1,18 @@
+package bricker.ecs;
+
+/**
+ * EntitySystem interface is implemented by the systems that run the behavior of the entities of an entity world.
+ * A system walks the dense arrays of every archetype that has the components it needs, from the first row to the
+ * last, and marks the entities it removes instead of removing them on the way.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public interface EntitySystem {
+    /**
+     * Runs the system over the entities of the world for a single logic step.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds.
+     */
+    void run(EntityWorld world, float deltaTime);
+}
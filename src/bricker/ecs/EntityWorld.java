@@ -0,0 +1,339 @@
+package bricker.ecs;
+
+import bricker.physics.FixedPoint;
+import danogl.GameObject;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * EntityWorld class holds the entities of the entity-component-system storage, grouped into archetypes by their
+ * components. An entity is an int id, and its components live in the dense arrays of its archetype, at the row the
+ * world keeps for the id. Ids of removed entities are reused by later entities.
+ * Systems mark entities for removal while they walk the archetypes, and the marked entities are removed together
+ * afterwards, so no archetype changes under a walking system.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class EntityWorld {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int FREE = -1;
+
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private int[] entityArchetypes = new int[INITIAL_CAPACITY];
+    private int[] entityRows = new int[INITIAL_CAPACITY];
+    private boolean[] isMarked = new boolean[INITIAL_CAPACITY];
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int nextId = 0;
+    private int[] markedIds = new int[INITIAL_CAPACITY];
+    private int markedCount = 0;
+    private int size = 0;
+    private final List<GameObject> views = new AbstractList<>() {
+        /**
+         * Gets the view at the specified index, counting the rows of the archetypes with views in their order.
+         *
+         * @param index the index of the view.
+         * @return the view at the index.
+         * @throws IndexOutOfBoundsException if the index is not below the number of views.
+         */
+        @Override
+        public GameObject get(int index) {
+            int row = index;
+            for (Archetype archetype : archetypes) {
+                if (archetype.views == null) {
+                    continue;
+                }
+                if (row < archetype.count) {
+                    return archetype.views[row];
+                }
+                row -= archetype.count;
+            }
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size());
+        }
+
+        /**
+         * Counts the entities with a view.
+         *
+         * @return the number of views.
+         */
+        @Override
+        public int size() {
+            int viewCount = 0;
+            for (Archetype archetype : archetypes) {
+                if (archetype.views != null) {
+                    viewCount += archetype.count;
+                }
+            }
+            return viewCount;
+        }
+    };
+
+    /**
+     * Default constructor for the EntityWorld class.
+     */
+    public EntityWorld() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Creates an entity with the specified components, all zeroed.
+     *
+     * @param components the components of the entity.
+     * @return the id of the entity.
+     */
+    public int create(Component... components) {
+        int archetypeIndex = archetypeIndex(Component.maskOf(components));
+        int entity = freeCount > 0 ? freeIds[--freeCount] : newId();
+        entityArchetypes[entity] = archetypeIndex;
+        entityRows[entity] = archetypes.get(archetypeIndex).add(entity);
+        size++;
+        return entity;
+    }
+
+    /**
+     * Removes an entity at once. Must not be called while a system walks the archetypes.
+     *
+     * @param entity the id of the entity.
+     * @return the view of the entity, or null if it has none.
+     */
+    public GameObject destroy(int entity) {
+        Archetype archetype = archetypes.get(entityArchetypes[entity]);
+        int row = entityRows[entity];
+        GameObject view = archetype.views != null ? archetype.views[row] : null;
+        int moved = archetype.removeAt(row);
+        if (moved >= 0) {
+            entityRows[moved] = row;
+        }
+        entityArchetypes[entity] = FREE;
+        isMarked[entity] = false;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeCount++] = entity;
+        size--;
+        return view;
+    }
+
+    /**
+     * Marks an entity to be removed by the next call to removeMarked. Marking an entity twice has no effect.
+     *
+     * @param entity the id of the entity.
+     */
+    public void markForRemoval(int entity) {
+        if (isMarked[entity]) {
+            return;
+        }
+        isMarked[entity] = true;
+        if (markedCount == markedIds.length) {
+            markedIds = Arrays.copyOf(markedIds, markedIds.length * 2);
+        }
+        markedIds[markedCount++] = entity;
+    }
+
+    /**
+     * Removes the entities marked for removal that were not destroyed since.
+     *
+     * @param onRemoved receives the view of every removed entity that has one.
+     * @return the number of removed entities.
+     */
+    public int removeMarked(Consumer<GameObject> onRemoved) {
+        int removed = 0;
+        for (int i = 0; i < markedCount; i++) {
+            if (!isMarked[markedIds[i]]) {
+                // destroyed directly after it was marked
+                continue;
+            }
+            removed++;
+            GameObject view = destroy(markedIds[i]);
+            if (view != null) {
+                onRemoved.accept(view);
+            }
+        }
+        markedCount = 0;
+        return removed;
+    }
+
+    /**
+     * Checks whether an id belongs to a live entity.
+     *
+     * @param entity the id to check.
+     * @return true if the entity is live, false otherwise.
+     */
+    public boolean isAlive(int entity) {
+        return entity >= 0 && entity < nextId && entityArchetypes[entity] != FREE;
+    }
+
+    /**
+     * Gets the number of live entities.
+     *
+     * @return the number of entities.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a read-only live view of the game objects of the entities with a view, archetype by archetype in the
+     * order of their rows. Removing an entity moves the last entity of its archetype into its place, so the view
+     * can be walked backwards while entities are removed.
+     *
+     * @return the views of the entities.
+     */
+    public List<GameObject> views() {
+        return views;
+    }
+
+    /**
+     * Gets the number of archetypes the entities were ever grouped into.
+     *
+     * @return the number of archetypes.
+     */
+    public int archetypeCount() {
+        return archetypes.size();
+    }
+
+    /**
+     * Gets an archetype of the world.
+     *
+     * @param index the index of the archetype, below archetypeCount.
+     * @return the archetype.
+     */
+    public Archetype getArchetype(int index) {
+        return archetypes.get(index);
+    }
+
+    /**
+     * Sets the center of an entity with a transform, also in fixed point if the entity is kept in fixed point.
+     *
+     * @param entity the id of the entity.
+     * @param x      the x coordinate of the center.
+     * @param y      the y coordinate of the center.
+     */
+    public void setPosition(int entity, float x, float y) {
+        Archetype archetype = archetypes.get(entityArchetypes[entity]);
+        archetype.x[entityRows[entity]] = x;
+        archetype.y[entityRows[entity]] = y;
+        if (archetype.fixedX != null) {
+            archetype.fixedX[entityRows[entity]] = FixedPoint.fromFloat(x);
+            archetype.fixedY[entityRows[entity]] = FixedPoint.fromFloat(y);
+        }
+    }
+
+    /**
+     * Sets the velocity of an entity with a velocity, also in fixed point if the entity is kept in fixed point.
+     *
+     * @param entity    the id of the entity.
+     * @param velocityX the x coordinate of the velocity.
+     * @param velocityY the y coordinate of the velocity.
+     */
+    public void setVelocity(int entity, float velocityX, float velocityY) {
+        Archetype archetype = archetypes.get(entityArchetypes[entity]);
+        archetype.velocityX[entityRows[entity]] = velocityX;
+        archetype.velocityY[entityRows[entity]] = velocityY;
+        if (archetype.fixedVelocityX != null) {
+            archetype.fixedVelocityX[entityRows[entity]] = FixedPoint.fromFloat(velocityX);
+            archetype.fixedVelocityY[entityRows[entity]] = FixedPoint.fromFloat(velocityY);
+        }
+    }
+
+    /**
+     * Sets the bounding box of an entity with a collider.
+     *
+     * @param entity the id of the entity.
+     * @param width  the width of the bounding box.
+     * @param height the height of the bounding box.
+     */
+    public void setCollider(int entity, float width, float height) {
+        Archetype archetype = archetypes.get(entityArchetypes[entity]);
+        archetype.halfWidth[entityRows[entity]] = width / 2;
+        archetype.halfHeight[entityRows[entity]] = height / 2;
+    }
+
+    /**
+     * Sets the number of logic steps left before an entity with a lifetime is removed.
+     *
+     * @param entity    the id of the entity.
+     * @param ticksLeft the number of steps left.
+     */
+    public void setLifetime(int entity, int ticksLeft) {
+        archetypes.get(entityArchetypes[entity]).ticksLeft[entityRows[entity]] = ticksLeft;
+    }
+
+    /**
+     * Sets the steering of an entity with an input.
+     *
+     * @param entity    the id of the entity.
+     * @param direction -1 to move left, 1 to move right, or 0 to stay in place.
+     * @param speed     the horizontal speed of the entity while it moves.
+     */
+    public void setInput(int entity, int direction, float speed) {
+        Archetype archetype = archetypes.get(entityArchetypes[entity]);
+        archetype.inputDirection[entityRows[entity]] = direction;
+        archetype.inputSpeed[entityRows[entity]] = speed;
+    }
+
+    /**
+     * Sets the game object drawing an entity with a view.
+     *
+     * @param entity the id of the entity.
+     * @param view   the game object of the entity.
+     */
+    public void setView(int entity, GameObject view) {
+        archetypes.get(entityArchetypes[entity]).views[entityRows[entity]] = view;
+    }
+
+    /**
+     * Gets the x coordinate of the center of an entity with a transform.
+     *
+     * @param entity the id of the entity.
+     * @return the x coordinate of the center.
+     */
+    public float getX(int entity) {
+        return archetypes.get(entityArchetypes[entity]).x[entityRows[entity]];
+    }
+
+    /**
+     * Gets the y coordinate of the center of an entity with a transform.
+     *
+     * @param entity the id of the entity.
+     * @return the y coordinate of the center.
+     */
+    public float getY(int entity) {
+        return archetypes.get(entityArchetypes[entity]).y[entityRows[entity]];
+    }
+
+    /**
+     * Finds the archetype of the specified components, creating it if no entity had them before.
+     *
+     * @param mask the mask of the components.
+     * @return the index of the archetype.
+     */
+    private int archetypeIndex(int mask) {
+        for (int i = 0; i < archetypes.size(); i++) {
+            if (archetypes.get(i).getMask() == mask) {
+                return i;
+            }
+        }
+        archetypes.add(new Archetype(mask));
+        return archetypes.size() - 1;
+    }
+
+    /**
+     * Allocates an id that was never used, growing the per-entity arrays when they are full.
+     *
+     * @return the new id.
+     */
+    private int newId() {
+        if (nextId == entityArchetypes.length) {
+            int capacity = nextId * 2;
+            entityArchetypes = Arrays.copyOf(entityArchetypes, capacity);
+            entityRows = Arrays.copyOf(entityRows, capacity);
+            isMarked = Arrays.copyOf(isMarked, capacity);
+        }
+        return nextId++;
+    }
+}
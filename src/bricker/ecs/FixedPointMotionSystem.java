@@ -0,0 +1,54 @@
+package bricker.ecs;
+
+import bricker.physics.FixedPoint;
+
+/**
+ * FixedPointMotionSystem class moves every entity kept in fixed point by its fixed-point velocity over the step,
+ * using only integer operations, and then shows the new fixed-point center in the floating point transform read by
+ * the other systems.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FixedPointMotionSystem implements EntitySystem {
+    private static final int REQUIRED_MASK = Component.maskOf(Component.TRANSFORM, Component.VELOCITY,
+            Component.FIXED_POINT);
+
+    private final int stepsPerSecond;
+
+    /**
+     * Constructs a FixedPointMotionSystem for a game running the specified number of logic steps per second.
+     *
+     * @param stepsPerSecond the number of logic steps per second.
+     */
+    public FixedPointMotionSystem(int stepsPerSecond) {
+        this.stepsPerSecond = stepsPerSecond;
+    }
+
+    /**
+     * Moves the fixed-point entities by a single logic step. The step time is given by the steps per second.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds, ignored.
+     */
+    @Override
+    public void run(EntityWorld world, float deltaTime) {
+        for (int a = 0; a < world.archetypeCount(); a++) {
+            Archetype archetype = world.getArchetype(a);
+            if (!archetype.hasAll(REQUIRED_MASK)) {
+                continue;
+            }
+            int[] fixedX = archetype.fixedX;
+            int[] fixedY = archetype.fixedY;
+            int[] fixedVelocityX = archetype.fixedVelocityX;
+            int[] fixedVelocityY = archetype.fixedVelocityY;
+            float[] x = archetype.x;
+            float[] y = archetype.y;
+            for (int i = 0; i < archetype.count; i++) {
+                fixedX[i] += FixedPoint.stepDisplacement(fixedVelocityX[i], stepsPerSecond);
+                fixedY[i] += FixedPoint.stepDisplacement(fixedVelocityY[i], stepsPerSecond);
+                x[i] = FixedPoint.toFloat(fixedX[i]);
+                y[i] = FixedPoint.toFloat(fixedY[i]);
+            }
+        }
+    }
+}
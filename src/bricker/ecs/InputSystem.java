@@ -0,0 +1,40 @@
+package bricker.ecs;
+
+/**
+ * InputSystem class sets the horizontal velocity of every steered entity from the direction it is steered in and
+ * its speed, the way a paddle follows its input.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class InputSystem implements EntitySystem {
+    private static final int REQUIRED_MASK = Component.maskOf(Component.INPUT, Component.VELOCITY);
+
+    /**
+     * Default constructor for the InputSystem class.
+     */
+    public InputSystem() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Sets the horizontal velocity of the steered entities.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds.
+     */
+    @Override
+    public void run(EntityWorld world, float deltaTime) {
+        for (int a = 0; a < world.archetypeCount(); a++) {
+            Archetype archetype = world.getArchetype(a);
+            if (!archetype.hasAll(REQUIRED_MASK)) {
+                continue;
+            }
+            int[] direction = archetype.inputDirection;
+            float[] speed = archetype.inputSpeed;
+            float[] velocityX = archetype.velocityX;
+            for (int i = 0; i < archetype.count; i++) {
+                velocityX[i] = direction[i] * speed[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package bricker.ecs;
+
+/**
+ * LifetimeSystem class counts down the steps left to every entity with a lifetime, and marks the entities whose
+ * lifetime ran out for removal.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class LifetimeSystem implements EntitySystem {
+    /**
+     * Default constructor for the LifetimeSystem class.
+     */
+    public LifetimeSystem() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Counts down the lifetimes and marks the expired entities.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds.
+     */
+    @Override
+    public void run(EntityWorld world, float deltaTime) {
+        for (int a = 0; a < world.archetypeCount(); a++) {
+            Archetype archetype = world.getArchetype(a);
+            if (!archetype.has(Component.LIFETIME)) {
+                continue;
+            }
+            int[] ticksLeft = archetype.ticksLeft;
+            for (int i = 0; i < archetype.count; i++) {
+                if (--ticksLeft[i] <= 0) {
+                    world.markForRemoval(archetype.entities[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package bricker.ecs;
+
+/**
+ * MotionSystem class moves every entity with a transform and a velocity by its velocity over the step, except for
+ * the entities kept in fixed point, which the FixedPointMotionSystem moves.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class MotionSystem implements EntitySystem {
+    private static final int REQUIRED_MASK = Component.maskOf(Component.TRANSFORM, Component.VELOCITY);
+
+    /**
+     * Default constructor for the MotionSystem class.
+     */
+    public MotionSystem() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Moves the entities by their velocities.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds.
+     */
+    @Override
+    public void run(EntityWorld world, float deltaTime) {
+        for (int a = 0; a < world.archetypeCount(); a++) {
+            Archetype archetype = world.getArchetype(a);
+            if (!archetype.hasAll(REQUIRED_MASK) || archetype.has(Component.FIXED_POINT)) {
+                continue;
+            }
+            float[] x = archetype.x;
+            float[] y = archetype.y;
+            float[] velocityX = archetype.velocityX;
+            float[] velocityY = archetype.velocityY;
+            for (int i = 0; i < archetype.count; i++) {
+                x[i] += velocityX[i] * deltaTime;
+                y[i] += velocityY[i] * deltaTime;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package bricker.ecs;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * ViewSyncSystem class moves the game object of every entity with a view to the entity's center, so the engine
+ * draws it and checks its collisions where the entity is.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class ViewSyncSystem implements EntitySystem {
+    private static final int REQUIRED_MASK = Component.maskOf(Component.TRANSFORM, Component.VIEW);
+
+    /**
+     * Default constructor for the ViewSyncSystem class.
+     */
+    public ViewSyncSystem() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Moves the views to the centers of their entities.
+     *
+     * @param world     the world holding the entities.
+     * @param deltaTime the time of the step in seconds.
+     */
+    @Override
+    public void run(EntityWorld world, float deltaTime) {
+        for (int a = 0; a < world.archetypeCount(); a++) {
+            Archetype archetype = world.getArchetype(a);
+            if (!archetype.hasAll(REQUIRED_MASK)) {
+                continue;
+            }
+            float[] x = archetype.x;
+            float[] y = archetype.y;
+            GameObject[] views = archetype.views;
+            for (int i = 0; i < archetype.count; i++) {
+                views[i].setCenter(new Vector2(x[i], y[i]));
+            }
+        }
+    }
+}
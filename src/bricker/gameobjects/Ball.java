@@ -1,22 +1,42 @@
 package bricker.gameobjects;
 
+import bricker.perf.CollisionProfiler;
+import bricker.physics.FixedPointMotion;
+import bricker.physics.Interpolatable;
+import bricker.physics.SweptCollisionDetector;
+import bricker.utils.CollisionTrigger;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
+import java.util.function.BooleanSupplier;
+
 /**
  * Ball class represents a ball GameObject in the Bricker game.
  * It extends the GameObject class and adds functionality specific to the behavior of a game ball.
  * This class includes a collision counter and a collision sound. The collision counter is incremented each
  * time the ball collides with another GameObject, and the collision sound is played on each collision.
+ * When a SweptCollisionDetector is set, the ball is stopped at the first obstacle along its path on each step,
+ * so fast balls and long steps do not tunnel through thin objects. The distance the ball did not travel after the
+ * stop is carried to the next step and travelled along the velocity the bounce left, so the ball keeps its speed.
+ * When a FixedPointMotion is set, the ball moves in fixed point, so its path is the same on every machine.
  *
  * @author Rotem Aharoni and Dana Bar Zakay
  */
-public class Ball extends GameObject {
-    private int collisionCounter = 0;
+public class Ball extends GameObject implements Interpolatable {
+    /*
+     * How deep the ball is placed into an obstacle it hit during a swept step, so the engine detects the overlap.
+     */
+    private static final float CONTACT_DEPTH = 1f;
+    private final CollisionTrigger collisionTrigger = new CollisionTrigger();
     private final Sound collisionSound;
+    private SweptCollisionDetector sweptCollisionDetector;
+    private BooleanSupplier soundGate;
+    private FixedPointMotion fixedPointMotion;
+    private Vector2 previousCenter;
+    private float carriedDistance = 0;
 
     /**
      * Constructs a Ball object with the specified top-left corner, dimensions, renderable, and collision
@@ -25,7 +45,7 @@ public class Ball extends GameObject {
      * @param topLeftCorner  the Vector2 representing the top-left corner position of the ball.
      * @param dimensions     the Vector2 representing the dimensions of the ball.
      * @param renderable     the Renderable object for rendering the ball.
-     * @param collisionSound the Sound object for playing collision sounds.
+     * @param collisionSound the Sound object for playing collision sounds, or null for a silent ball.
      */
     public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound collisionSound) {
         super(topLeftCorner, dimensions, renderable);
@@ -38,13 +58,99 @@ public class Ball extends GameObject {
      * @return the current collision counter value.
      */
     public int getCollisionCounter() {
-        return collisionCounter;
+        return collisionTrigger.getCollisionCount();
+    }
+
+    /**
+     * Gets the trigger counting the ball's collisions, used to schedule effects that end after a number of
+     * collisions.
+     *
+     * @return the CollisionTrigger of the ball.
+     */
+    public CollisionTrigger getCollisionTrigger() {
+        return collisionTrigger;
+    }
+
+    /**
+     * Gets the center of the ball at the start of its last update, used to interpolate its rendering.
+     *
+     * @return the center of the ball before its last update.
+     */
+    @Override
+    public Vector2 getPreviousCenter() {
+        return previousCenter != null ? previousCenter : getCenter();
+    }
+
+    /**
+     * Discards the previous position of the ball, so a ball that was placed at a new position is not rendered
+     * as moving there, and does not travel the distance left over from its last stop at an obstacle.
+     */
+    public void snapPreviousCenter() {
+        previousCenter = getCenter();
+        carriedDistance = 0;
+    }
+
+    /**
+     * Sets the detector used for continuous collision detection of this ball.
+     *
+     * @param sweptCollisionDetector the SweptCollisionDetector to sweep the ball with, or null to disable it.
+     */
+    public void setSweptCollisionDetector(SweptCollisionDetector sweptCollisionDetector) {
+        this.sweptCollisionDetector = sweptCollisionDetector;
     }
 
     /**
-     * Handles the behavior when the ball collides with another GameObject.
-     * Increments the collision counter, reflects the velocity based on the collision normal,
-     * and plays the collision sound.
+     * Sets the fixed-point motion moving the ball in the fixed-point physics mode.
+     *
+     * @param fixedPointMotion the FixedPointMotion of the ball, or null to move it in floating point.
+     */
+    public void setFixedPointMotion(FixedPointMotion fixedPointMotion) {
+        this.fixedPointMotion = fixedPointMotion;
+    }
+
+    /**
+     * Sets the gate asked before every collision sound, so sounds can be throttled when the game is under load.
+     *
+     * @param soundGate returns whether the collision sound may be played, or null to always play it.
+     */
+    public void setSoundGate(BooleanSupplier soundGate) {
+        this.soundGate = soundGate;
+    }
+
+    /**
+     * Updates the ball's position and, when continuous collision detection is enabled, pulls it back to the
+     * first obstacle it touched along the step. The distance left over from a pull back in the last step is
+     * travelled first, along the current velocity, which the bounce off the obstacle reflected.
+     *
+     * @param deltaTime the time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        Vector2 startCenter = getCenter();
+        previousCenter = startCenter;
+        if (fixedPointMotion != null) {
+            fixedPointMotion.update(this, deltaTime, super::update);
+        } else {
+            super.update(deltaTime);
+        }
+        if (sweptCollisionDetector == null) {
+            return;
+        }
+        if (carriedDistance > 0 && getVelocity().magnitude() > 0) {
+            setCenter(getCenter().add(getVelocity().normalized().mult(carriedDistance)));
+        }
+        carriedDistance = 0;
+        Vector2 displacement = getCenter().subtract(startCenter);
+        float timeOfImpact = sweptCollisionDetector.timeOfImpact(this, startCenter, displacement);
+        if (timeOfImpact < SweptCollisionDetector.NO_IMPACT) {
+            setCenter(startCenter.add(displacement.mult(timeOfImpact))
+                    .add(displacement.normalized().mult(CONTACT_DEPTH)));
+            carriedDistance = Math.max(0, displacement.magnitude() * (1 - timeOfImpact) - CONTACT_DEPTH);
+        }
+    }
+
+    /**
+     * Handles the behavior when the ball collides with another GameObject by bouncing off it.
      *
      * @param other     the other GameObject involved in the collision.
      * @param collision the Collision object representing the collision details.
@@ -52,9 +158,25 @@ public class Ball extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        collisionCounter++;
-        Vector2 newVel = getVelocity().flipped(collision.getNormal());
+        bounce(other, collision.getNormal());
+    }
+
+    /**
+     * Bounces the ball off another GameObject it started to touch, whether the engine or the sweep and prune
+     * broadphase found the contact. Increments the collision counter, reflects the velocity based on the contact
+     * normal, plays the collision sound unless the sound gate holds it back, and reports the collision to the
+     * collision profiler.
+     *
+     * @param other  the other GameObject involved in the collision.
+     * @param normal the normal of the contact.
+     */
+    public void bounce(GameObject other, Vector2 normal) {
+        CollisionProfiler.recordCollision(this, other);
+        Vector2 newVel = getVelocity().flipped(normal);
         setVelocity(newVel);
-        collisionSound.play();
+        if (collisionSound != null && (soundGate == null || soundGate.getAsBoolean())) {
+            collisionSound.play();
+        }
+        collisionTrigger.onCollision();
     }
 }
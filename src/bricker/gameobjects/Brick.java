@@ -1,6 +1,7 @@
 package bricker.gameobjects;
 
 import bricker.brick_strategies.CollisionStrategy;
+import bricker.perf.CollisionProfiler;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -12,12 +13,14 @@ import danogl.util.Vector2;
  * when the brick collides with another GameObject.
  * This class also maintains a flag indicating whether the brick is destroyed to prevent multiple collisions
  * from triggering the collision strategy multiple times.
+ * A destroyed brick can be recycled with a new strategy, so an endless board reuses its bricks for new rows.
  *
  * @author Rotem Aharoni and Dana Bar Zakay
  */
 public class Brick extends GameObject {
-    private final CollisionStrategy collisionStrategy;
+    private CollisionStrategy collisionStrategy;
     private Boolean isDestroyed = false;
+    private int boardIndex = -1;
 
     /**
      * Constructs a Brick object with the specified top-left corner, dimensions, renderable, and collision
@@ -35,10 +38,39 @@ public class Brick extends GameObject {
         this.collisionStrategy = collisionStrategy;
     }
 
+    /**
+     * Gets the row-major index of the brick on the board.
+     *
+     * @return the board index of the brick, or -1 if it is not part of a board.
+     */
+    public int getBoardIndex() {
+        return boardIndex;
+    }
+
+    /**
+     * Sets the row-major index of the brick on the board.
+     *
+     * @param boardIndex the board index of the brick.
+     */
+    public void setBoardIndex(int boardIndex) {
+        this.boardIndex = boardIndex;
+    }
+
+    /**
+     * Recycles the brick with a new collision strategy, so it can be hit again once it is added back to the game.
+     *
+     * @param collisionStrategy the CollisionStrategy of the recycled brick.
+     */
+    public void recycle(CollisionStrategy collisionStrategy) {
+        this.collisionStrategy = collisionStrategy;
+        isDestroyed = false;
+    }
+
     /**
      * Handles the behavior when the brick collides with another GameObject.
      * Invokes the collision strategy only if the brick is not already destroyed.
      * Marks the brick as destroyed to prevent multiple collisions triggering the strategy.
+     * The collision is also reported to the collision profiler.
      *
      * @param other     the other GameObject involved in the collision.
      * @param collision the Collision object representing the collision details.
@@ -46,6 +78,7 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        CollisionProfiler.recordCollision(this, other);
         if (!isDestroyed) {
             collisionStrategy.onCollision(this, other);
             isDestroyed = true;
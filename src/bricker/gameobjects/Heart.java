@@ -1,5 +1,7 @@
 package bricker.gameobjects;
 
+import bricker.perf.CollisionProfiler;
+import bricker.physics.Interpolatable;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -11,12 +13,14 @@ import static bricker.utils.Constant.PADDLE_TAG_NAME;
  * Heart class represents a heart GameObject in the Bricker game.
  * It extends the GameObject class and includes functionality specific to heart objects.
  * This class maintains a flag indicating whether the heart is taken, and it overrides collision-related
- * methods to specify collision conditions with other GameObjects.
+ * methods to specify collision conditions with other GameObjects. A falling heart remembers its center before
+ * every move, so its rendering can be interpolated.
  *
  * @author Rotem Aharoni and Dana Bar Zakay
  */
-public class Heart extends GameObject {
+public class Heart extends GameObject implements Interpolatable {
     private Boolean isHeartTaken = false;
+    private Vector2 previousCenter;
 
     /**
      * Constructs a Heart object with the specified top-left corner, dimensions, and renderable.
@@ -29,6 +33,28 @@ public class Heart extends GameObject {
         super(topLeftCorner, dimensions, renderable);
     }
 
+    /**
+     * Gets the center of the heart before its last move, used to interpolate its rendering.
+     *
+     * @return the center of the heart before its last move.
+     */
+    @Override
+    public Vector2 getPreviousCenter() {
+        return previousCenter != null ? previousCenter : getCenter();
+    }
+
+    /**
+     * Moves the heart to a new center, remembering its center from before the move. A falling heart is moved by
+     * the entity systems, which set its center once per logic step.
+     *
+     * @param center the new center of the heart.
+     */
+    @Override
+    public void setCenter(Vector2 center) {
+        previousCenter = getCenter();
+        super.setCenter(center);
+    }
+
     /**
      * Determines whether the heart should collide with another GameObject.
      * Overrides the base method to allow collision only with objects having the PADDLE_TAG_NAME tag.
@@ -53,6 +79,7 @@ public class Heart extends GameObject {
     /**
      * Handles the behavior when the heart collides with another GameObject.
      * Marks the heart as taken when a collision occurs.
+     * The collision is also reported to the collision profiler.
      *
      * @param other     the other GameObject involved in the collision.
      * @param collision the Collision object representing the collision details.
@@ -60,6 +87,7 @@ public class Heart extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        CollisionProfiler.recordCollision(this, other);
         isHeartTaken = true;
     }
 }
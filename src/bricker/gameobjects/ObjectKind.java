@@ -0,0 +1,63 @@
+package bricker.gameobjects;
+
+import danogl.collisions.Layer;
+
+/**
+ * ObjectKind enum lists the kinds of dynamic objects that are spawned during the Bricker game and removed again
+ * once they leave the board, together with the layer each kind lives in and whether the kind is moved by the engine
+ * or by the entity-component-system storage.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum ObjectKind {
+    /**
+     * The extra balls released by puck bricks.
+     */
+    PUCK(ObjectKind.MOVING_LAYER, false),
+
+    /**
+     * The falling hearts released by extra life bricks.
+     */
+    HEART(ObjectKind.MOVING_LAYER, true);
+
+    /**
+     * The layer of the spawned objects, just above the default layer. The engine checks its objects against the
+     * default and static objects layers but not against each other, since the sweep and prune broadphase finds
+     * the pairs among them.
+     */
+    public static final int MOVING_LAYER = Layer.DEFAULT + 1;
+
+    private final int layer;
+    private final boolean isEntityDriven;
+
+    /**
+     * Constructs an ObjectKind living in the specified layer.
+     *
+     * @param layer          the layer the objects of this kind are added to.
+     * @param isEntityDriven whether the objects of this kind are moved by the entity-component-system storage.
+     */
+    ObjectKind(int layer, boolean isEntityDriven) {
+        this.layer = layer;
+        this.isEntityDriven = isEntityDriven;
+    }
+
+    /**
+     * Gets the layer the objects of this kind are added to.
+     *
+     * @return the layer of this kind.
+     */
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Checks whether the objects of this kind are moved by the entity-component-system storage instead of by their
+     * own updates. Their positions are kept in dense arrays and copied to the objects once per step, so the kind
+     * must not rely on its own velocity or update.
+     *
+     * @return true if the kind is entity driven, false otherwise.
+     */
+    public boolean isEntityDriven() {
+        return isEntityDriven;
+    }
+}
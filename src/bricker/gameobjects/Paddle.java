@@ -1,27 +1,34 @@
 package bricker.gameobjects;
 
+import bricker.input.KeyboardInputSource;
+import bricker.input.PaddleInputSource;
+import bricker.physics.FixedPointMotion;
+import bricker.physics.Interpolatable;
 import danogl.GameObject;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
-import java.awt.event.KeyEvent;
-
 /**
  * Paddle class represents the paddle GameObject in the Bricker game.
  * It extends the GameObject class and includes logic for paddle movement and collision handling.
- * This class utilizes a UserInputListener for detecting keyboard input to move the paddle left and right.
+ * This class utilizes a PaddleInputSource to decide whether to move the paddle left or right, which is the
+ * keyboard by default and can be replaced, for example by an automatic player.
  * The paddle's movement speed, window dimensions, and update logic are also defined in this class.
+ * When a FixedPointMotion is set, the paddle moves in fixed point, like the balls of the fixed-point physics mode.
+ * The paddle remembers its center before every update, so its rendering can be interpolated like the balls'.
  *
  * @author Rotem Aharoni and Dana Bar Zakay
  */
-public class Paddle extends GameObject {
+public class Paddle extends GameObject implements Interpolatable {
     /*
      * The movement speed of the paddle.
      */
     private static final float MOVEMENT_SPEED = 300;
-    private final UserInputListener inputListener;
+    private final PaddleInputSource inputSource;
     private final Vector2 windowDimensions;
+    private FixedPointMotion fixedPointMotion;
+    private Vector2 previousCenter;
 
     /**
      * Constructs a Paddle object with the specified top-left corner, dimensions, renderable,
@@ -35,28 +42,62 @@ public class Paddle extends GameObject {
      */
     public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                   UserInputListener inputListener, Vector2 windowDimensions) {
+        this(topLeftCorner, dimensions, renderable, new KeyboardInputSource(inputListener), windowDimensions);
+    }
+
+    /**
+     * Constructs a Paddle object with the specified top-left corner, dimensions, renderable,
+     * input source, and window dimensions.
+     *
+     * @param topLeftCorner    the Vector2 representing the top-left corner position of the paddle.
+     * @param dimensions       the Vector2 representing the dimensions of the paddle.
+     * @param renderable       the Renderable object for rendering the paddle.
+     * @param inputSource      the PaddleInputSource deciding the paddle's movement.
+     * @param windowDimensions the Vector2 representing the dimensions of the game window.
+     */
+    public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                  PaddleInputSource inputSource, Vector2 windowDimensions) {
         super(topLeftCorner, dimensions, renderable);
-        this.inputListener = inputListener;
+        this.inputSource = inputSource;
         this.windowDimensions = windowDimensions;
     }
 
     /**
-     * Updates the paddle's position based on keyboard input and enforces boundary constraints.
+     * Sets the fixed-point motion moving the paddle in the fixed-point physics mode.
+     *
+     * @param fixedPointMotion the FixedPointMotion of the paddle, or null to move it in floating point.
+     */
+    public void setFixedPointMotion(FixedPointMotion fixedPointMotion) {
+        this.fixedPointMotion = fixedPointMotion;
+    }
+
+    /**
+     * Gets the center of the paddle at the start of its last update, used to interpolate its rendering.
+     *
+     * @return the center of the paddle before its last update.
+     */
+    @Override
+    public Vector2 getPreviousCenter() {
+        return previousCenter != null ? previousCenter : getCenter();
+    }
+
+    /**
+     * Updates the paddle's position based on its input source and enforces boundary constraints.
      *
      * @param deltaTime the time elapsed since the last update.
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
-        Vector2 movementDir = Vector2.ZERO;
-        if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
-            movementDir = movementDir.add(Vector2.LEFT);
-        }
-        if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
-            movementDir = movementDir.add(Vector2.RIGHT);
-        }
+        previousCenter = getCenter();
+        // the input is read before moving, so it takes effect in the same update instead of the next one
+        int movementDir = inputSource.horizontalDirection(this);
+        setVelocity(Vector2.RIGHT.mult(movementDir * MOVEMENT_SPEED));
 
-        setVelocity(movementDir.mult(MOVEMENT_SPEED));
+        if (fixedPointMotion != null) {
+            fixedPointMotion.update(this, deltaTime, super::update);
+        } else {
+            super.update(deltaTime);
+        }
 
         if (getTopLeftCorner().x() + getDimensions().x() > windowDimensions.x()) {
             setTopLeftCorner(new Vector2(windowDimensions.x() - getDimensions().x(), windowDimensions.y()));
@@ -65,5 +106,7 @@ public class Paddle extends GameObject {
         if (getTopLeftCorner().x() < 0) {
             setTopLeftCorner(new Vector2(0, windowDimensions.y()));
         }
+
+        inputSource.onPaddleUpdated(this);
     }
 }
@@ -1,10 +1,12 @@
 package bricker.gameobjects;
 
+import bricker.input.PaddleInputSource;
+import bricker.perf.CollisionProfiler;
+import bricker.utils.CollisionTrigger;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
 
 import static bricker.utils.Constant.BALL_TAG_NAME;
@@ -12,28 +14,41 @@ import static bricker.utils.Constant.PUCK_TAG_NAME;
 
 /**
  * TempPaddle class represents a temporary paddle GameObject in the Bricker game.
- * It extends the Paddle class and includes additional functionality for tracking collisions.
+ * It extends the Paddle class and includes additional functionality for tracking collisions. The paddle counts
+ * its collisions with a CollisionTrigger, on which the game schedules its removal.
  *
  * @author Rotem Aharoni and Dana Bar Zakay
  */
 public class TempPaddle extends Paddle {
 
-    private final Counter paddleCollisionCounter;
+    private final CollisionTrigger collisionTrigger = new CollisionTrigger();
 
     /**
      * Constructs a TempPaddle object with the specified parameters.
      *
-     * @param topLeftCorner          The top-left corner position of the paddle.
-     * @param dimensions             The dimensions (width and height) of the paddle.
-     * @param renderable             The Renderable object for rendering the paddle.
-     * @param inputListener          The UserInputListener for handling user input.
-     * @param windowDimensions       The dimensions of the game window.
-     * @param paddleCollisionCounter The counter for tracking paddle collisions.
+     * @param topLeftCorner    The top-left corner position of the paddle.
+     * @param dimensions       The dimensions (width and height) of the paddle.
+     * @param renderable       The Renderable object for rendering the paddle.
+     * @param inputListener    The UserInputListener for handling user input.
+     * @param windowDimensions The dimensions of the game window.
      */
     public TempPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, UserInputListener
-            inputListener, Vector2 windowDimensions, Counter paddleCollisionCounter) {
+            inputListener, Vector2 windowDimensions) {
         super(topLeftCorner, dimensions, renderable, inputListener, windowDimensions);
-        this.paddleCollisionCounter = paddleCollisionCounter;
+    }
+
+    /**
+     * Constructs a TempPaddle object moved by the specified input source.
+     *
+     * @param topLeftCorner    The top-left corner position of the paddle.
+     * @param dimensions       The dimensions (width and height) of the paddle.
+     * @param renderable       The Renderable object for rendering the paddle.
+     * @param inputSource      The PaddleInputSource deciding the paddle's movement.
+     * @param windowDimensions The dimensions of the game window.
+     */
+    public TempPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, PaddleInputSource
+            inputSource, Vector2 windowDimensions) {
+        super(topLeftCorner, dimensions, renderable, inputSource, windowDimensions);
     }
 
     /**
@@ -51,7 +66,8 @@ public class TempPaddle extends Paddle {
 
     /**
      * Overrides the onCollisionEnter method from the superclass (Paddle).
-     * Decrements the paddleCollisionCounter when a collision occurs.
+     * Fires the collision trigger when a collision occurs.
+     * The collision is also reported to the collision profiler.
      *
      * @param other     The GameObject involved in the collision.
      * @param collision The Collision object representing the collision details.
@@ -59,15 +75,16 @@ public class TempPaddle extends Paddle {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        paddleCollisionCounter.decrement();
+        CollisionProfiler.recordCollision(this, other);
+        collisionTrigger.onCollision();
     }
 
     /**
-     * Checks if the paddle's work has ended by verifying if the paddleCollisionCounter is zero.
+     * Gets the trigger counting the paddle's collisions, used to schedule the removal of the paddle.
      *
-     * @return True if the paddle's work has ended; otherwise, false.
+     * @return the CollisionTrigger of the paddle.
      */
-    public boolean checkIfPaddleWorkEnd() {
-        return paddleCollisionCounter.value() == 0;
+    public CollisionTrigger getCollisionTrigger() {
+        return collisionTrigger;
     }
 }
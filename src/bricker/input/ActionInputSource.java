@@ -0,0 +1,41 @@
+package bricker.input;
+
+import danogl.GameObject;
+
+/**
+ * ActionInputSource class moves a paddle in the direction last set by a program, such as a bot or a training agent
+ * driving the game through a VectorizedEnvironment. Every paddle of the game follows the same action.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class ActionInputSource implements PaddleInputSource {
+    private int direction = 0;
+
+    /**
+     * Default constructor for the ActionInputSource class.
+     */
+    public ActionInputSource() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Sets the direction the paddle moves in from the next update on. Any negative action moves the paddle left,
+     * any positive action moves it right, and zero keeps it in place.
+     *
+     * @param action the action of the program.
+     */
+    public void setAction(int action) {
+        this.direction = Integer.signum(action);
+    }
+
+    /**
+     * Returns the direction of the last action.
+     *
+     * @param paddle the paddle being moved.
+     * @return -1 to move left, 1 to move right, or 0 to stay in place.
+     */
+    @Override
+    public int horizontalDirection(GameObject paddle) {
+        return direction;
+    }
+}
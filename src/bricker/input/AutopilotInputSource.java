@@ -0,0 +1,81 @@
+package bricker.input;
+
+import bricker.gameobjects.Ball;
+import danogl.GameObject;
+
+/**
+ * AutopilotInputSource class moves a paddle automatically by tracking the nearest ball.
+ * On each update it picks the ball that will reach the paddle first, which is the closest ball above the paddle
+ * that is moving down, or the closest ball at all when none is moving down, and steers the paddle under it.
+ * It is used to run the game unattended, for example in soak tests.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AutopilotInputSource implements PaddleInputSource {
+    /*
+     * The fraction of the paddle width around its center within which the paddle stays in place.
+     */
+    private static final float DEAD_ZONE_FRACTION = 0.25f;
+    private final Iterable<GameObject> gameObjects;
+
+    /**
+     * Constructs an AutopilotInputSource tracking the balls among the specified game objects.
+     *
+     * @param gameObjects the game objects to look for balls in.
+     */
+    public AutopilotInputSource(Iterable<GameObject> gameObjects) {
+        this.gameObjects = gameObjects;
+    }
+
+    /**
+     * Returns the horizontal direction that brings the paddle under the nearest ball.
+     *
+     * @param paddle the paddle being moved.
+     * @return -1 to move left, 1 to move right, or 0 to stay in place.
+     */
+    @Override
+    public int horizontalDirection(GameObject paddle) {
+        GameObject target = findNearestBall(paddle.getCenter().y());
+        if (target == null) {
+            return 0;
+        }
+        float offset = target.getCenter().x() - paddle.getCenter().x();
+        float deadZone = paddle.getDimensions().x() * DEAD_ZONE_FRACTION;
+        if (offset > deadZone) {
+            return 1;
+        }
+        if (offset < -deadZone) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the ball that will reach the paddle first.
+     *
+     * @param paddleY the height of the paddle.
+     * @return the nearest ball, or null if there are no balls.
+     */
+    private GameObject findNearestBall(float paddleY) {
+        GameObject nearestFalling = null;
+        float nearestFallingDistance = Float.MAX_VALUE;
+        GameObject nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (GameObject object : gameObjects) {
+            if (!(object instanceof Ball)) {
+                continue;
+            }
+            float distance = Math.abs(paddleY - object.getCenter().y());
+            if (distance < nearestDistance) {
+                nearest = object;
+                nearestDistance = distance;
+            }
+            if (object.getVelocity().y() > 0 && object.getCenter().y() < paddleY &&
+                    distance < nearestFallingDistance) {
+                nearestFalling = object;
+                nearestFallingDistance = distance;
+            }
+        }
+        return nearestFalling != null ? nearestFalling : nearest;
+    }
+}
@@ -0,0 +1,163 @@
+package bricker.input;
+
+import bricker.perf.TimeHistogram;
+import danogl.GameObject;
+
+import java.awt.KeyEventDispatcher;
+import java.awt.KeyboardFocusManager;
+import java.awt.event.KeyEvent;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BufferedKeyInput class moves a paddle according to the left and right arrow keys, receiving the key events
+ * straight from AWT instead of polling the engine's input listener once per frame.
+ * Key events are buffered as they arrive on the AWT event thread and are applied by the game at the start of each
+ * logic step, so an event is seen by the first step after it, even when several substeps run in one frame.
+ * The time from every key press to the end of the first step that applied it is recorded in a latency histogram,
+ * whether or not the paddle could move in the pressed direction.
+ * Synthetic key events can be pushed directly, which allows driving and measuring the input path without a
+ * keyboard.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BufferedKeyInput implements PaddleInputSource, KeyEventDispatcher {
+    private static final long BUCKET_WIDTH_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_TRACKED_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int INITIAL_PENDING_PRESSES = 4;
+
+    private final Queue<KeyRecord> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final TimeHistogram latencyHistogram = new TimeHistogram(BUCKET_WIDTH_NANOS, MAX_TRACKED_NANOS);
+    private boolean isLeftPressed = false;
+    private boolean isRightPressed = false;
+    private long[] pendingPressNanos = new long[INITIAL_PENDING_PRESSES];
+    private int pendingPressCount = 0;
+
+    /**
+     * Starts receiving the key events of the application.
+     */
+    public void install() {
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(this);
+    }
+
+    /**
+     * Stops receiving the key events of the application.
+     */
+    public void uninstall() {
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().removeKeyEventDispatcher(this);
+    }
+
+    /**
+     * Buffers the arrow key events dispatched by AWT. The events are never consumed, so the engine still
+     * receives them.
+     *
+     * @param event the dispatched key event.
+     * @return false, so the event continues to be dispatched.
+     */
+    @Override
+    public boolean dispatchKeyEvent(KeyEvent event) {
+        if (event.getID() == KeyEvent.KEY_PRESSED || event.getID() == KeyEvent.KEY_RELEASED) {
+            pushKey(event.getKeyCode(), event.getID() == KeyEvent.KEY_PRESSED, System.nanoTime());
+        }
+        return false;
+    }
+
+    /**
+     * Buffers a key event. This method may be called from any thread, for example to inject synthetic events.
+     *
+     * @param keyCode    the key code of the event.
+     * @param isPressed  true if the key was pressed, false if it was released.
+     * @param eventNanos the System.nanoTime at which the event happened.
+     */
+    public void pushKey(int keyCode, boolean isPressed, long eventNanos) {
+        if (keyCode == KeyEvent.VK_LEFT || keyCode == KeyEvent.VK_RIGHT) {
+            pendingEvents.add(new KeyRecord(keyCode, isPressed, eventNanos));
+        }
+    }
+
+    /**
+     * Applies the buffered key events to the pressed state. Called by the game thread at the start of each logic
+     * step.
+     */
+    public void applyPendingEvents() {
+        KeyRecord record;
+        while ((record = pendingEvents.poll()) != null) {
+            if (record.keyCode == KeyEvent.VK_LEFT) {
+                isLeftPressed = record.isPressed;
+            } else {
+                isRightPressed = record.isPressed;
+            }
+            if (record.isPressed) {
+                if (pendingPressCount == pendingPressNanos.length) {
+                    pendingPressNanos = Arrays.copyOf(pendingPressNanos, pendingPressCount * 2);
+                }
+                pendingPressNanos[pendingPressCount++] = record.eventNanos;
+            }
+        }
+    }
+
+    /**
+     * Returns the horizontal direction according to the arrow keys currently pressed.
+     *
+     * @param paddle the paddle being moved.
+     * @return -1 to move left, 1 to move right, or 0 to stay in place.
+     */
+    @Override
+    public int horizontalDirection(GameObject paddle) {
+        int direction = 0;
+        if (isLeftPressed) {
+            direction--;
+        }
+        if (isRightPressed) {
+            direction++;
+        }
+        return direction;
+    }
+
+    /**
+     * Records the latency of the key presses applied in the current step, once the paddle was updated with them.
+     *
+     * @param paddle the paddle that was updated.
+     */
+    @Override
+    public void onPaddleUpdated(GameObject paddle) {
+        long now = System.nanoTime();
+        for (int i = 0; i < pendingPressCount; i++) {
+            latencyHistogram.record(now - pendingPressNanos[i]);
+        }
+        pendingPressCount = 0;
+    }
+
+    /**
+     * Gets the histogram of the times from a key press to the end of the step that applied it.
+     *
+     * @return the input latency histogram.
+     */
+    public TimeHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    /**
+     * KeyRecord class holds a single buffered key event.
+     */
+    private static class KeyRecord {
+        private final int keyCode;
+        private final boolean isPressed;
+        private final long eventNanos;
+
+        /**
+         * Constructs a KeyRecord.
+         *
+         * @param keyCode    the key code of the event.
+         * @param isPressed  true if the key was pressed, false if it was released.
+         * @param eventNanos the System.nanoTime at which the event happened.
+         */
+        private KeyRecord(int keyCode, boolean isPressed, long eventNanos) {
+            this.keyCode = keyCode;
+            this.isPressed = isPressed;
+            this.eventNanos = eventNanos;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package bricker.input;
+
+import danogl.GameObject;
+import danogl.gui.UserInputListener;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * KeyboardInputSource class moves a paddle according to the left and right arrow keys.
+ * It implements the PaddleInputSource interface on top of the engine's UserInputListener.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class KeyboardInputSource implements PaddleInputSource {
+    private final UserInputListener inputListener;
+
+    /**
+     * Constructs a KeyboardInputSource reading the specified input listener.
+     *
+     * @param inputListener the UserInputListener for detecting keyboard input.
+     */
+    public KeyboardInputSource(UserInputListener inputListener) {
+        this.inputListener = inputListener;
+    }
+
+    /**
+     * Returns the horizontal direction according to the arrow keys currently pressed.
+     *
+     * @param paddle the paddle being moved.
+     * @return -1 to move left, 1 to move right, or 0 to stay in place.
+     */
+    @Override
+    public int horizontalDirection(GameObject paddle) {
+        int direction = 0;
+        if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
+            direction--;
+        }
+        if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
+            direction++;
+        }
+        return direction;
+    }
+}
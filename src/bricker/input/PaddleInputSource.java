@@ -0,0 +1,31 @@
+package bricker.input;
+
+import danogl.GameObject;
+
+/**
+ * PaddleInputSource is an interface representing a source of movement commands for a paddle in the Bricker game.
+ * Implementing classes decide in which horizontal direction the paddle should move on each update, whether the
+ * decision comes from the keyboard, from an automatic player, or from a script.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public interface PaddleInputSource {
+
+    /**
+     * Returns the horizontal direction the paddle should move in during the current update.
+     *
+     * @param paddle the paddle being moved.
+     * @return -1 to move left, 1 to move right, or 0 to stay in place.
+     */
+    int horizontalDirection(GameObject paddle);
+
+    /**
+     * Notifies the input source that the paddle finished the current update, whether or not it moved.
+     * The default implementation does nothing.
+     *
+     * @param paddle the paddle that was updated.
+     */
+    default void onPaddleUpdated(GameObject paddle) {
+        // Most input sources do not need to know when the paddle was updated.
+    }
+}
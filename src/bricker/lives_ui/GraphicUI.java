@@ -2,9 +2,9 @@ package bricker.lives_ui;
 
 import bricker.gameobjects.Heart;
 import bricker.main.BrickerGameManager;
+import bricker.utils.AssetCache;
 import danogl.GameObject;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
@@ -23,7 +23,7 @@ import static bricker.utils.Constant.MAX_LIVES_COUNT;
  * @author Rotem Aharoni and Dana Bar Zakay
  */
 public class GraphicUI implements LivesUIInterface {
-    private final ImageReader imageReader;
+    private final AssetCache assetCache;
     private Vector2 topLeftCorner;
     private Vector2 dimensions;
     private final GameObject[] staticHearts;
@@ -31,16 +31,16 @@ public class GraphicUI implements LivesUIInterface {
     private final int heartPadding;
 
     /**
-     * Constructs a GraphicUI object with the specified ImageReader, heart padding, and BrickerGameManager.
+     * Constructs a GraphicUI object with the specified AssetCache, heart padding, and BrickerGameManager.
      *
-     * @param imageReader        the image reader for loading heart images
+     * @param assetCache         the asset cache for loading heart images
      * @param heartPadding       the padding between hearts in the UI
      * @param brickerGameManager the game manager for managing hearts in the game
      */
-    public GraphicUI(ImageReader imageReader,
+    public GraphicUI(AssetCache assetCache,
                      int heartPadding,
                      BrickerGameManager brickerGameManager) {
-        this.imageReader = imageReader;
+        this.assetCache = assetCache;
         this.staticHearts = new GameObject[MAX_LIVES_COUNT];
         this.brickerGameManager = brickerGameManager;
         this.heartPadding = heartPadding;
@@ -64,7 +64,7 @@ public class GraphicUI implements LivesUIInterface {
      * @param objectCount the number of heart GameObjects to create
      */
     public void createObject(int objectCount) {
-        Renderable heartImage = imageReader.readImage(HEART_IMAGE_PATH, true);
+        Renderable heartImage = assetCache.readImage(HEART_IMAGE_PATH, true);
         for (int i = 0; i < objectCount; i++) {
             staticHearts[i] = new Heart(new Vector2(topLeftCorner.x() + i * heartPadding,
                     topLeftCorner.y()), dimensions, heartImage);
@@ -0,0 +1,109 @@
+package bricker.main;
+
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.gameobjects.Brick;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.util.function.IntFunction;
+
+/**
+ * BrickBoardBuilder class builds the whole grid of bricks of a Bricker board in one pass.
+ * The layout of the grid is computed once when the builder is constructed, all bricks share a single immutable
+ * dimensions vector and a single renderable, and the bricks are returned in a pre-sized array in row-major order,
+ * so the caller can add them to the game in one batch.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class BrickBoardBuilder {
+    private final int rows;
+    private final int cols;
+    private final float originX;
+    private final float originY;
+    private final float strideX;
+    private final float strideY;
+    private final Vector2 brickDimensions;
+
+    /**
+     * Constructs a BrickBoardBuilder for a grid of the specified size and layout.
+     *
+     * @param rows        the number of brick rows.
+     * @param cols        the number of bricks in a row.
+     * @param topLeft     the top-left corner of the first brick.
+     * @param boardWidth  the width available for a row of bricks, including the padding between them.
+     * @param brickHeight the height of a brick.
+     * @param padding     the padding between neighbouring bricks. On a board too wide for the padding, it is
+     *                    narrowed so every brick stays at least half of its column wide.
+     */
+    public BrickBoardBuilder(int rows, int cols, Vector2 topLeft, int boardWidth, int brickHeight, int padding) {
+        this.rows = rows;
+        this.cols = cols;
+        float columnPadding = Math.min(padding, boardWidth / (cols * 2f));
+        float brickWidth = (boardWidth - columnPadding * (cols - 1)) / cols;
+        this.originX = topLeft.x();
+        this.originY = topLeft.y();
+        this.strideX = brickWidth + columnPadding;
+        this.strideY = brickHeight + padding;
+        this.brickDimensions = new Vector2(brickWidth, brickHeight);
+    }
+
+    /**
+     * Builds all bricks of the board.
+     *
+     * @param brickImage the Renderable shared by all bricks.
+     * @param strategies the function returning the collision strategy of the brick at each row-major index.
+     * @return the bricks of the board in row-major order.
+     */
+    public Brick[] build(Renderable brickImage, IntFunction<CollisionStrategy> strategies) {
+        Brick[] bricks = new Brick[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            float brickY = originY + i * strideY;
+            for (int j = 0; j < cols; j++) {
+                Vector2 brickPos = new Vector2(originX + j * strideX, brickY);
+                int boardIndex = i * cols + j;
+                Brick brick = new Brick(brickPos, brickDimensions, brickImage, strategies.apply(boardIndex));
+                brick.setBoardIndex(boardIndex);
+                bricks[boardIndex] = brick;
+            }
+        }
+        return bricks;
+    }
+
+    /**
+     * Gets the top-left corner of the brick at the specified row and column of the grid.
+     *
+     * @param row the row of the brick.
+     * @param col the column of the brick.
+     * @return the top-left corner of the brick.
+     */
+    public Vector2 brickTopLeft(int row, int col) {
+        return new Vector2(originX + col * strideX, originY + row * strideY);
+    }
+
+    /**
+     * Gets the number of brick rows.
+     *
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of bricks in a row.
+     *
+     * @return the number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of bricks the builder builds.
+     *
+     * @return the number of bricks on the board.
+     */
+    public int size() {
+        return rows * cols;
+    }
+}
@@ -1,11 +1,33 @@
 package bricker.main;
 
-import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.BoardGenerator;
 import bricker.brick_strategies.StrategyFactory;
 import bricker.gameobjects.*;
+import bricker.input.AutopilotInputSource;
+import bricker.input.BufferedKeyInput;
+import bricker.input.PaddleInputSource;
 import bricker.lives_ui.GraphicUI;
 import bricker.lives_ui.LivesUIInterface;
 import bricker.lives_ui.NumericUI;
+import bricker.physics.FixedPointMotion;
+import bricker.physics.FixedTimestep;
+import bricker.physics.InterpolatedRenderable;
+import bricker.perf.CollisionProfiler;
+import bricker.perf.DegradationMeasure;
+import bricker.perf.FlightEvent;
+import bricker.perf.FlightRecorder;
+import bricker.perf.FrameBudgetGovernor;
+import bricker.perf.PerformanceHud;
+import bricker.perf.SoakTestMonitor;
+import bricker.physics.SweepAndPrune;
+import bricker.physics.SweptCollisionDetector;
+import bricker.rendering.TextureAtlas;
+import bricker.state.GameStateSnapshot;
+import bricker.state.SnapshotBuffer;
+import bricker.utils.AssetBundle;
+import bricker.utils.AssetCache;
+import bricker.utils.GameTunables;
+import bricker.utils.TimerWheel;
 import danogl.GameManager;
 import danogl.GameObject;
 import danogl.collisions.Layer;
@@ -17,7 +39,15 @@ import danogl.util.Counter;
 import danogl.util.Vector2;
 
 import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.concurrent.TimeUnit;
 
 import static bricker.utils.Constant.*;
 
@@ -66,24 +96,15 @@ public class BrickerGameManager extends GameManager {
     private static final int BALL_RADIUS = 20;
 
     /**
-     * The initial speed of the ball in the game.
+     * The displacement per step above which balls and pucks are swept against obstacles instead of relying on
+     * discrete overlap detection alone.
      */
-    private static final int BALL_SPEED = 200;
+    private static final float SWEEP_THRESHOLD = BORDER_WIDTH / 2f;
 
     /**
-     * The speed of the heart object in the game.
+     * The side of a cell of the grid the bricks are kept in for the swept collision detection.
      */
-    private static final int HEART_SPEED = 100;
-
-    /**
-     * The default number of rows for bricks in the game.
-     */
-    private static final int DEFAULT_BRICKS_ROW = 7;
-
-    /**
-     * The default number of bricks in a row in the game.
-     */
-    private static final int DEFAULT_BRICKS_IN_ROW = 8;
+    private static final float SWEEP_CELL_SIZE = 32f;
 
     /**
      * The padding between bricks in the game.
@@ -111,110 +132,201 @@ public class BrickerGameManager extends GameManager {
     private static final int CONST_ATTEMPTS_NUM = 3;
 
     /**
-     * The number of different brick behavior strategies in the game.
+     * The number of times the extra paddle must collide before removing him from the game.
      */
-    private static final int BRICKS_BEHAVIOR_NUM = 5;
+    private final static int MAX_EXTRA_PADDLE_EXIST = 1;
+
 
     /**
-     * The number of times the ball must collide before activating the camera in the game.
+     * The number of slots of the timer wheel scheduling the end of power-up effects.
      */
-    private static final int CAMERA_COLLISION_COUNT = 4;
+    private static final int EFFECT_TIMER_SLOTS = 256;
 
     /**
-     * The number of times the extra paddle collide till now.
+     * The padding between the game board walls and the game board content.
      */
-    private static final int EXTRA_PADDLE_COLLISION_NUM = 4;
+    private static final int WALLS_PADDING = BORDER_WIDTH * 3;
 
     /**
-     * The number of times the extra paddle must collide before removing him from the game.
+     * The file path for the background image in the game.
      */
-    private final static int MAX_EXTRA_PADDLE_EXIST = 1;
+    private static final String BACKGROUND_IMAGE_PATH = "assets/DARK_BG2_small.jpeg";
 
+    /**
+     * The file path for the brick image in the game.
+     */
+    private static final String BRICK_IMAGE_PATH = "assets/brick.png";
 
     /**
-     * The number of puck objects to create in the game.
+     * The file path for the ball image in the game.
      */
-    private static final int NUM_OF_PUCKS = 2;
+    private static final String BALL_IMAGE_PATH = "assets/ball.png";
 
     /**
-     * The padding between the game board walls and the game board content.
+     * The file path for the ball collision sound in the game.
      */
-    private static final int WALLS_PADDING = BORDER_WIDTH * 3;
+    private static final String BALL_SOUND_PATH = "assets/blop_cut_silenced.wav";
 
     /**
-     * The initial counter value for brick behavior strategy in the game.
+     * The file path for the paddle image in the game.
      */
-    private static final int STRATEGY_START_COUNTER_VAL = 0;
+    private static final String PADDLE_IMAGE_PATH = "assets/paddle.png";
 
     /**
-     * The prompt message displayed when the player wins the game.
+     * The file path for the puck image in the game.
      */
-    private static final String WIN_PROMPT = "You Win!";
+    private static final String PUCK_IMAGE_PATH = "assets/mockBall.png";
 
     /**
-     * The prompt message displayed when the player loses the game.
+     * The opaque sprite images packed into the texture atlas.
      */
-    private static final String LOST_PROMPT = "You lose!";
+    private static final String[] OPAQUE_ATLAS_IMAGES = {BRICK_IMAGE_PATH};
 
     /**
-     * The prompt message asking the player to play again.
+     * The sprite images packed into the texture atlas with the color of their top-left pixel transparent, including
+     * the power-up icons.
      */
-    private static final String PLAY_AGAIN_PROMPT = " Play again?";
+    private static final String[] TRANSPARENT_ATLAS_IMAGES = {BALL_IMAGE_PATH, PUCK_IMAGE_PATH, PADDLE_IMAGE_PATH,
+            HEART_IMAGE_PATH, "assets/botBad.png", "assets/botGood.png", "assets/buffNarrow.png",
+            "assets/buffWiden.png", "assets/gravity.png", "assets/quicken.png", "assets/slow.png"};
 
     /**
-     * The file path for the background image in the game.
+     * The system property holding the path of the pre-decoded asset bundle.
      */
-    private static final String BACKGROUND_IMAGE_PATH = "assets/DARK_BG2_small.jpeg";
+    private static final String ASSET_BUNDLE_PROPERTY = "bricker.assetBundle";
 
     /**
-     * The file path for the brick image in the game.
+     * The default path of the pre-decoded asset bundle, used only when the file exists.
      */
-    private static final String BRICK_IMAGE_PATH = "assets/brick.png";
+    private static final String DEFAULT_ASSET_BUNDLE_PATH = "assets.bundle";
 
     /**
-     * The file path for the ball image in the game.
+     * The maximum width of the texture atlas image.
      */
-    private static final String BALL_IMAGE_PATH = "assets/ball.png";
+    private static final int ATLAS_MAX_WIDTH = 1024;
 
     /**
-     * The file path for the ball collision sound in the game.
+     * The title name for the game window.
      */
-    private static final String BALL_SOUND_PATH = "assets/blop_cut_silenced.wav";
+    private static final String WINDOWS_TITLE_NAME = "Bricker Game";
 
     /**
-     * The file path for the paddle image in the game.
+     * The key showing and hiding the performance overlay.
      */
-    private static final String PADDLE_IMAGE_PATH = "assets/paddle.png";
+    private static final int PERFORMANCE_HUD_KEY = KeyEvent.VK_F3;
 
     /**
-     * The file path for the puck image in the game.
+     * The key printing the collision statistics of the last second.
      */
-    private static final String PUCK_IMAGE_PATH = "assets/mockBall.png";
+    private static final int COLLISION_REPORT_KEY = KeyEvent.VK_F4;
 
     /**
-     * The title name for the game window.
+     * The number of hottest objects listed in the collision statistics.
      */
-    private static final String WINDOWS_TITLE_NAME = "Bricker Game";
+    private static final int HOTTEST_OBJECTS_COUNT = 5;
+
+    /**
+     * The width of a performance overlay line.
+     */
+    private static final int PERFORMANCE_HUD_LINE_WIDTH = 400;
+
+    /**
+     * The system property holding the path of the tunables properties file.
+     */
+    private static final String TUNABLES_PATH_PROPERTY = "bricker.tunables";
+
+    /**
+     * The default path of the tunables properties file.
+     */
+    private static final String DEFAULT_TUNABLES_PATH = "bricker.properties";
+
+    /**
+     * The system property enabling the automatic paddle player.
+     */
+    private static final String AUTOPILOT_PROPERTY = "bricker.autopilot";
+
+    /**
+     * The system property holding the length of an unattended soak run in minutes. Soak runs use the automatic
+     * paddle player and restart the game instead of asking to play again.
+     */
+    private static final String SOAK_MINUTES_PROPERTY = "bricker.soakMinutes";
+
+    /**
+     * The system property holding the path of the flight recording, or off to disable the flight recorder.
+     */
+    private static final String FLIGHT_RECORDER_PROPERTY = "bricker.flightRecorder";
+
+    /**
+     * The flight recording path used when none is given.
+     */
+    private static final String DEFAULT_FLIGHT_RECORDING_PATH = "bricker-flight.rec";
+
+    /**
+     * The value of the flight recorder property that disables the flight recorder.
+     */
+    private static final String FLIGHT_RECORDER_OFF = "off";
+
+    /**
+     * The number of records of the flight recorder ring, two megabytes holding about the last minute of frames
+     * together with their gameplay events.
+     */
+    private static final int FLIGHT_RECORDER_RECORDS = 1 << 16;
+
+    /**
+     * The time between two soak run reports in seconds.
+     */
+    private static final int SOAK_REPORT_INTERVAL_SECONDS = 60;
 
     private GameObject[] staticHearts;
-    private GameObject[] pucks;
     private Ball ball;
     private TempPaddle tempPaddle;
     private Vector2 windowDimensions;
     private WindowController windowController;
     private UserInputListener inputListener;
-    private ImageReader imageReader;
-    private SoundReader soundReader;
+    private AssetCache assetCache;
+    private SweptCollisionDetector sweptCollisionDetector;
+    private SweepAndPrune sweepAndPrune;
+    private FixedTimestep fixedTimestep;
+    private DynamicObjectLifecycle dynamicObjects;
+    private PerformanceHud performanceHud;
+    private CollisionProfiler collisionProfiler;
+    private FrameBudgetGovernor governor;
+    private GameObject background;
+    private Renderable backgroundImage;
+    private StrategyFactory strategyFactory;
+    private Paddle paddle;
+    private EndlessBrickBoard endlessBoard;
+    private long[] brickAliveBits;
+    private int[] brickPlans;
+    private SnapshotBuffer snapshotBuffer;
+    private long tick;
+    private boolean wasHudKeyPressed;
+    private boolean wasCollisionReportKeyPressed;
     private GraphicUI graphicUI;
     private NumericUI numericUI;
     private LivesUIInterface[] liveManger;
     private Counter attemptsNum;
     private Counter brickCount;
     private Counter extraPaddleCount;
-    private final int numOfBricksRows;
-    private final int numOfBricksCols;
-    private int currBallCollisionCount;
+    private final GameTunables tunables;
+    private TimerWheel effectTimers;
     private final Random rand = new Random();
+    private final SoakTestMonitor soakTestMonitor = createSoakTestMonitor();
+    private FlightRecorder flightRecorder;
+    private boolean isFlightRecorderCreated = false;
+    private boolean isDiagnosticsEnabled = true;
+    private boolean isSnapshotPublishing = false;
+    private final BufferedKeyInput bufferedKeyInput = new BufferedKeyInput();
+    private boolean isBufferedKeyInputInstalled = false;
+    private TextureAtlas textureAtlas;
+    private AssetBundle assetBundle;
+    private PaddleInputSource paddleInputSource;
+    private GameEndHandler customGameEndHandler;
+    private PaddleInputSource customPaddleInputSource;
+    private GameEndHandler gameEndHandler;
+    private GameOutcome outcome;
+    private GameResult result;
+    private volatile EndDecision pendingDecision;
 
     /**
      * Constructor for BrickerGameManager with default number of bricks rows and columns.
@@ -223,9 +335,7 @@ public class BrickerGameManager extends GameManager {
      * @param windowDimensions the dimensions of the game window.
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions) {
-        super(windowTitle, windowDimensions);
-        this.numOfBricksRows = DEFAULT_BRICKS_ROW;
-        this.numOfBricksCols = DEFAULT_BRICKS_IN_ROW;
+        this(windowTitle, windowDimensions, new GameTunables());
     }
 
     /**
@@ -239,8 +349,23 @@ public class BrickerGameManager extends GameManager {
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int numOfBricksRows,
                               int numOfBricksCols) {
         super(windowTitle, windowDimensions);
-        this.numOfBricksRows = numOfBricksRows;
-        this.numOfBricksCols = numOfBricksCols;
+        this.tunables = new GameTunables();
+        tunables.setBoardRows(numOfBricksRows);
+        tunables.setBoardCols(numOfBricksCols);
+    }
+
+    /**
+     * Constructor for BrickerGameManager driven by the specified tunables, including the number of bricks rows
+     * and columns. The tunables are read again by every new game, so changes made to them over JMX apply to the
+     * next game.
+     *
+     * @param windowTitle      the title of the game window.
+     * @param windowDimensions the dimensions of the game window.
+     * @param tunables         the GameTunables holding the values that drive the game.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, GameTunables tunables) {
+        super(windowTitle, windowDimensions);
+        this.tunables = tunables;
     }
 
     /**
@@ -260,88 +385,277 @@ public class BrickerGameManager extends GameManager {
 
         this.windowController = windowController;
         this.inputListener = inputListener;
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
+        if (tunables.getBoardSeed() != 0) {
+            rand.setSeed(tunables.getBoardSeed());
+        }
+        this.assetCache = new AssetCache(imageReader, soundReader);
+        if (textureAtlas == null) {
+            assetBundle = openAssetBundle();
+            textureAtlas = createTextureAtlas(assetBundle);
+        }
+        assetCache.setAssetBundle(assetBundle);
+        assetCache.setTextureAtlas(textureAtlas);
         this.staticHearts = new Heart[MAX_LIVES_COUNT];
-        this.pucks = new Puck[NUM_OF_PUCKS];
         this.attemptsNum = new Counter(CONST_ATTEMPTS_NUM);
         this.windowDimensions = windowController.getWindowDimensions();
-        this.brickCount = new Counter(numOfBricksRows * numOfBricksCols);
-        this.graphicUI = new GraphicUI(imageReader, HEART_WIDTH + HEART_PADDING, this);
+        int boardRows = tunables.getBoardRows();
+        int boardCols = tunables.getBoardCols();
+        this.brickCount = new Counter(boardRows * boardCols);
+        this.graphicUI = new GraphicUI(assetCache, HEART_WIDTH + HEART_PADDING, this);
         this.numericUI = new NumericUI();
         this.liveManger = new LivesUIInterface[]{graphicUI, numericUI};
         this.extraPaddleCount = new Counter(0);
+        this.strategyFactory = new StrategyFactory(this, brickCount);
+        this.effectTimers = new TimerWheel(EFFECT_TIMER_SLOTS);
+        this.snapshotBuffer = isSnapshotPublishing ? new SnapshotBuffer() : null;
+        this.tick = 0;
+        this.outcome = GameOutcome.PLAYING;
+        this.result = null;
+        this.pendingDecision = null;
+        this.gameEndHandler = createGameEndHandler();
+        this.fixedTimestep = new FixedTimestep(tunables.getPhysicsRate(), tunables.getMaxPhysicsSubsteps());
+        if (customPaddleInputSource != null) {
+            this.paddleInputSource = customPaddleInputSource;
+        } else if (Boolean.getBoolean(AUTOPILOT_PROPERTY) || soakTestMonitor != null) {
+            this.paddleInputSource = new AutopilotInputSource(this::gameObjectsIterator);
+        } else {
+            installBufferedKeyInput();
+            this.paddleInputSource = bufferedKeyInput;
+        }
 
 
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
+        this.sweptCollisionDetector = new SweptCollisionDetector(gameObjects(), SWEEP_THRESHOLD, windowDimensions,
+                SWEEP_CELL_SIZE, Layer.STATIC_OBJECTS, Layer.DEFAULT);
+        this.sweepAndPrune = new SweepAndPrune(this::onMovingObjectsContact);
+        this.dynamicObjects = new DynamicObjectLifecycle(gameObjects(), windowDimensions, sweepAndPrune,
+                tunables.isFixedPointPhysics() ? tunables.getPhysicsRate() : 0);
+        gameObjects().layers().shouldLayersCollide(ObjectKind.MOVING_LAYER, ObjectKind.MOVING_LAYER, false);
+        gameObjects().layers().shouldLayersCollide(ObjectKind.MOVING_LAYER, Layer.DEFAULT, true);
+        gameObjects().layers().shouldLayersCollide(ObjectKind.MOVING_LAYER, Layer.STATIC_OBJECTS, true);
+        this.collisionProfiler = new CollisionProfiler(HOTTEST_OBJECTS_COUNT);
+        this.governor = new FrameBudgetGovernor(TimeUnit.MICROSECONDS.toNanos(tunables.getGovernorTargetMicros()),
+                tunables.getGovernorMeasureOrder(), tunables.getGovernorPuckCap(), this::onGovernorTransition);
+        if (isDiagnosticsEnabled) {
+            if (!isFlightRecorderCreated) {
+                flightRecorder = createFlightRecorder();
+                isFlightRecorderCreated = true;
+            }
+            CollisionProfiler.install(collisionProfiler);
+            FlightRecorder.install(flightRecorder);
+        }
         initBackground();
         initWalls();
         initBall();
         initPaddle();
-        initBricks();
+        initBricks(boardRows, boardCols);
+        sweptCollisionDetector.indexObstacles();
         initNumericLives();
         initGraphicLives();
+        initPerformanceHud();
+        if (snapshotBuffer != null) {
+            // a reader may look at the game before its first step
+            publishSnapshot();
+        }
     }
 
     /**
      * Updates the game state based on the elapsed time since the last update.
+     * The game logic runs in fixed steps, so the elapsed frame time only decides how many steps are due. The time
+     * the steps took is reported to the frame-budget governor.
+     * Once the game has ended, no more steps run until the end decision arrives and is applied.
      *
      * @param deltaTime the time elapsed since the last update.
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
+        if (soakTestMonitor != null) {
+            soakTestMonitor.recordFrame(deltaTime);
+            if (soakTestMonitor.isFinished()) {
+                soakTestMonitor.printFinalReport();
+                System.out.println(collisionProfiler.report());
+                windowController.closeWindow();
+                return;
+            }
+        }
+        performanceHud.recordFrame(deltaTime);
+        boolean isHudKeyPressed = inputListener.isKeyPressed(PERFORMANCE_HUD_KEY);
+        if (isHudKeyPressed && !wasHudKeyPressed) {
+            performanceHud.toggle();
+        }
+        wasHudKeyPressed = isHudKeyPressed;
+        boolean isCollisionReportKeyPressed = inputListener.isKeyPressed(COLLISION_REPORT_KEY);
+        if (isCollisionReportKeyPressed && !wasCollisionReportKeyPressed) {
+            System.out.println(collisionProfiler.report());
+        }
+        wasCollisionReportKeyPressed = isCollisionReportKeyPressed;
+
+        EndDecision decision = pendingDecision;
+        if (decision != null) {
+            applyEndDecision(decision);
+            return;
+        }
+        long logicStart = System.nanoTime();
+        int steps = fixedTimestep.advance(deltaTime);
+        for (int i = 0; i < steps && outcome == GameOutcome.PLAYING; i++) {
+            stepGame(fixedTimestep.getStepTime());
+        }
+        long logicNanos = System.nanoTime() - logicStart;
+        governor.recordFrame(logicNanos);
+        FlightRecorder.recordEvent(FlightEvent.FRAME, (int) (deltaTime * TimeUnit.SECONDS.toMicros(1)),
+                (int) TimeUnit.NANOSECONDS.toMicros(logicNanos), 0, 0);
+    }
+
+    /**
+     * Advances the game state by a single fixed logic step.
+     *
+     * @param stepTime the fixed time of a logic step.
+     */
+    private void stepGame(float stepTime) {
+        long stepStart = System.nanoTime();
+        if (flightRecorder != null) {
+            flightRecorder.setTick(tick);
+        }
+        bufferedKeyInput.applyPendingEvents();
+        dynamicObjects.update(stepTime);
+        super.update(stepTime);
+        sweepAndPrune.step();
+        if (endlessBoard != null) {
+            long recycledRows = endlessBoard.getRecycledRows();
+            endlessBoard.step();
+            if (endlessBoard.getRecycledRows() != recycledRows) {
+                // the rows moved down and the cleared bricks came back in
+                sweptCollisionDetector.indexObstacles();
+            }
+        }
         float ballHeight = ball.getCenter().y();
         if (inputListener.isKeyPressed(KeyEvent.VK_W)) {
             brickCount.reset();
         }
 
         checkIfBallFall(ballHeight);
-        checkForWin(ballHeight);
-        checkIfNeedRemoveTempPaddle();
-        checkIfNeedRemoveCamera();
-        checkIfObjectFall(pucks);
+        checkForGameEnd(ballHeight);
+        effectTimers.advance();
         checkIfHeartCatch();
-        checkIfHeartFall();
+        dynamicObjects.sweep();
 
         for (LivesUIInterface livesUIInterface : liveManger) {
             livesUIInterface.updateLives(this.attemptsNum);
         }
+        tunables.recordObjectCounts(brickCount.value(), dynamicObjects.liveCount(ObjectKind.PUCK),
+                dynamicObjects.liveCount(ObjectKind.HEART));
+        tick++;
+        if (snapshotBuffer != null) {
+            publishSnapshot();
+        }
+        collisionProfiler.endStep(stepTime, countBroadphaseCandidates());
+        tunables.recordTick(System.nanoTime() - stepStart);
     }
 
     /**
-     * Checks if any game object has fallen below the window dimensions and removes it if necessary.
+     * Counts the object pairs the collision broadphase considers in a step. The engine checks the objects in the
+     * default layer against each other, and the objects in the default and moving layers against the bricks and
+     * against each other, while the pairs within the moving layer are the candidates of the sweep and prune
+     * broadphase.
      *
-     * @param objects the array of game objects to check.
+     * @return the number of broadphase candidate pairs.
      */
-    private void checkIfObjectFall(GameObject[] objects) {
-        for (GameObject object : objects) {
-            if (object != null && object.getCenter().y() > windowDimensions.y()) {
-                gameObjects().removeGameObject(object);
-            }
+    private long countBroadphaseCandidates() {
+        long defaultCount = countObjectsInLayer(Layer.DEFAULT);
+        long movingCount = sweepAndPrune.size();
+        return defaultCount * (defaultCount - 1) / 2 + (defaultCount + movingCount) * brickCount.value() +
+                defaultCount * movingCount + sweepAndPrune.getLastCandidatePairs();
+    }
+
+    /**
+     * Handles two moving objects that started to touch, as found by the sweep and prune broadphase. Pucks bounce
+     * off each other like they bounce off any other object.
+     *
+     * @param first  the first object of the pair.
+     * @param second the second object of the pair.
+     * @param normal the contact normal, pointing from the second object to the first one.
+     */
+    private void onMovingObjectsContact(GameObject first, GameObject second, Vector2 normal) {
+        if (first instanceof Ball) {
+            ((Ball) first).bounce(second, normal);
+        }
+        if (second instanceof Ball) {
+            ((Ball) second).bounce(first, normal.mult(-1));
         }
     }
 
     /**
-     * Checks if a dynamic heart object has fallen below the window dimensions and removes it if necessary.
+     * Applies a degradation measure the frame-budget governor took or lifted that is not checked by the game on
+     * its own. Lowering the render detail stops drawing the background image.
+     *
+     * @param measure  the measure that changed.
+     * @param isActive true if the measure was taken, false if it was lifted.
      */
-    private void checkIfHeartFall() {
-        for (GameObject object : super.gameObjects()) {
-            if (object.getTag().equals(DYNAMIC_HEART_TAG) && object.getCenter().y() > windowDimensions.y()) {
-                gameObjects().removeGameObject(object);
-            }
+    private void onGovernorTransition(DegradationMeasure measure, boolean isActive) {
+        if (measure == DegradationMeasure.LOWER_RENDER_DETAIL) {
+            background.renderer().setRenderable(isActive ? null : backgroundImage);
         }
     }
 
+    /**
+     * Writes the state at the end of the current logic step, or the initial state of a new game, into the back
+     * snapshot and publishes it.
+     */
+    private void publishSnapshot() {
+        GameStateSnapshot snapshot = snapshotBuffer.backSnapshot();
+        snapshot.write(tick, attemptsNum.value(), brickCount.value(), ball.getCenter().x(), ball.getCenter().y(),
+                ball.getVelocity().x(), ball.getVelocity().y(), paddle.getCenter().x());
+        snapshot.writePucks(dynamicObjects.liveObjects(ObjectKind.PUCK));
+        snapshot.writeBrickAliveBits(brickAliveBits);
+        snapshotBuffer.publish();
+    }
+
+    /**
+     * Sets whether the following games publish their state at the end of every logic step, for a reader such as
+     * the vectorized environment. Publishing copies the state, including the brick alive bits, on every step, so
+     * games nobody reads from do not publish.
+     *
+     * @param isSnapshotPublishing whether the following games publish snapshots.
+     */
+    public void setSnapshotPublishing(boolean isSnapshotPublishing) {
+        this.isSnapshotPublishing = isSnapshotPublishing;
+    }
+
+    /**
+     * Gets the buffer through which the state of every logic step is published, so it can be read from another
+     * thread without locking.
+     *
+     * @return the SnapshotBuffer of the current game.
+     * @throws IllegalStateException if the current game does not publish snapshots.
+     */
+    public SnapshotBuffer getSnapshotBuffer() {
+        if (snapshotBuffer == null) {
+            throw new IllegalStateException("The game does not publish snapshots");
+        }
+        return snapshotBuffer;
+    }
+
+    /**
+     * Gets the number of rows an endless board brought in since the current game started.
+     *
+     * @return the number of recycled rows, or 0 if the board is not endless.
+     */
+    public long getRecycledRows() {
+        return endlessBoard != null ? endlessBoard.getRecycledRows() : 0;
+    }
+
     /**
      * Checks if the player has caught a dynamic heart, increments attempts, and updates the game state.
      */
     private void checkIfHeartCatch() {
-        for (GameObject gameObject : super.gameObjects()) {
-            if (gameObject.getTag().equals(DYNAMIC_HEART_TAG) && attemptsNum.value() < MAX_LIVES_COUNT &&
-                    ((Heart) gameObject).getIsHeartTaken()) {
+        List<GameObject> hearts = dynamicObjects.liveObjects(ObjectKind.HEART);
+        for (int i = hearts.size() - 1; i >= 0; i--) {
+            Heart heart = (Heart) hearts.get(i);
+            if (attemptsNum.value() < MAX_LIVES_COUNT && heart.getIsHeartTaken()) {
                 attemptsNum.increment();
-                gameObjects().removeGameObject(gameObject);
+                FlightRecorder.recordEvent(FlightEvent.LIVES, attemptsNum.value(), 1, heart.getCenter().x(),
+                        heart.getCenter().y());
+                dynamicObjects.despawn(heart, ObjectKind.HEART);
                 gameObjects().addGameObject(staticHearts[attemptsNum.value() - 1], Layer.UI);
             }
         }
@@ -356,63 +670,121 @@ public class BrickerGameManager extends GameManager {
     private void checkIfBallFall(float ballHeight) {
         if (ballHeight > windowDimensions.y()) {
             attemptsNum.decrement();
+            FlightRecorder.recordEvent(FlightEvent.LIVES, attemptsNum.value(), -1, ball.getCenter().x(),
+                    ball.getCenter().y());
             locateBallOnBoard(ball);
             ball.setCenter(windowDimensions.mult(0.5f));
+            ball.snapPreviousCenter();
         }
     }
 
     /**
-     * Checks if the temporary paddle needs to be removed and removes it if necessary.
+     * Removes the temporary paddle once it has used up its collisions.
      */
-    public void checkIfNeedRemoveTempPaddle() {
-        if (tempPaddle != null && tempPaddle.checkIfPaddleWorkEnd()) {
-            extraPaddleCount.reset();
-            gameObjects().removeGameObject(tempPaddle);
-        }
+    private void removeTempPaddle() {
+        extraPaddleCount.reset();
+        gameObjects().removeGameObject(tempPaddle);
     }
 
     /**
-     * Checks if the camera needs to be removed based on the ball's collision count.
+     * Returns the camera to the default view once the ball has collided enough times while it was followed.
      */
-    public void checkIfNeedRemoveCamera() {
-        if (camera() != null && ball.getCollisionCounter() - currBallCollisionCount ==
-                CAMERA_COLLISION_COUNT) {
-            setCamera(null);
-        }
+    private void removeCamera() {
+        setCamera(null);
+        FlightRecorder.recordEvent(FlightEvent.CAMERA_OFF, 0, 0, ball.getCenter().x(), ball.getCenter().y());
     }
 
     /**
-     * Checks for win or loss conditions and displays the corresponding prompt.
+     * Checks for win or loss conditions and moves the game to its end state. The game end handler is only
+     * notified here; its decision is applied on a later frame, so the game loop never waits for it.
      *
      * @param ballHeight the height of the ball.
      */
-    private void checkForWin(float ballHeight) {
-        String prompt = "";
-        if (brickCount.value() == 0) {
+    private void checkForGameEnd(float ballHeight) {
+        GameOutcome newOutcome = GameOutcome.PLAYING;
+        if (brickCount.value() == 0 && endlessBoard == null) {
             // you win
-            prompt = WIN_PROMPT;
+            newOutcome = GameOutcome.WON;
         }
         if (ballHeight > windowDimensions.y() && attemptsNum.value() == 0) {
             // you lost
-            prompt = LOST_PROMPT;
+            newOutcome = GameOutcome.LOST;
+        }
+        if (newOutcome != GameOutcome.PLAYING) {
+            outcome = newOutcome;
+            result = new GameResult(outcome, tick, attemptsNum.value(), brickCount.value());
+            gameEndHandler.onGameEnd(result, decision -> pendingDecision = decision);
         }
-        if (!prompt.isEmpty()) {
-            prompt += PLAY_AGAIN_PROMPT;
-            if (windowController.openYesNoDialog(prompt)) {
+    }
 
-                windowController.resetGame();
-            } else {
-                windowController.closeWindow();
-            }
+    /**
+     * Applies the decision the game end handler made once the game ended.
+     *
+     * @param decision the decision to apply.
+     */
+    private void applyEndDecision(EndDecision decision) {
+        pendingDecision = null;
+        if (decision == EndDecision.PLAY_AGAIN) {
+            windowController.resetGame();
+        } else {
+            windowController.closeWindow();
         }
     }
 
+    /**
+     * Sets the handler deciding what happens once a game ends, replacing the play again dialog. The handler is
+     * kept for all following games.
+     *
+     * @param gameEndHandler the GameEndHandler to notify when a game ends.
+     */
+    public void setGameEndHandler(GameEndHandler gameEndHandler) {
+        this.customGameEndHandler = gameEndHandler;
+    }
+
+    /**
+     * Sets the source moving the paddles, replacing the keyboard and the automatic player. The source is kept for
+     * all following games.
+     *
+     * @param paddleInputSource the PaddleInputSource moving the paddles.
+     */
+    public void setPaddleInputSource(PaddleInputSource paddleInputSource) {
+        this.customPaddleInputSource = paddleInputSource;
+    }
+
+    /**
+     * Sets whether the game installs its collision profiler and flight recorder, which every game of the process
+     * reports to. Games stepped in parallel on other threads must not install them.
+     *
+     * @param isDiagnosticsEnabled whether the diagnostics are installed by the following games.
+     */
+    public void setDiagnosticsEnabled(boolean isDiagnosticsEnabled) {
+        this.isDiagnosticsEnabled = isDiagnosticsEnabled;
+    }
+
+    /**
+     * Gets the state of the current game.
+     *
+     * @return PLAYING while the game runs, or WON or LOST once it ended.
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the result of the current game.
+     *
+     * @return the GameResult of the game, or null while it is still being played.
+     */
+    public GameResult getResult() {
+        return result;
+    }
+
     /**
      * Initializes the background of the game with the specified background image.
      */
     private void initBackground() {
-        Renderable backgroundImage = imageReader.readImage(BACKGROUND_IMAGE_PATH, false);
-        GameObject background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
+        backgroundImage = assetCache.readImage(BACKGROUND_IMAGE_PATH, false);
+        background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
         background.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
         gameObjects().addGameObject(background, Layer.BACKGROUND);
     }
@@ -421,23 +793,36 @@ public class BrickerGameManager extends GameManager {
      * Initializes the ball object with the specified ball image and collision sound.
      */
     private void initBall() {
-        Renderable ballImage = imageReader.readImage(BALL_IMAGE_PATH, true);
-        Sound collisionSound = soundReader.readSound(BALL_SOUND_PATH);
+        Renderable ballImage = assetCache.readImage(BALL_IMAGE_PATH, true);
+        Sound collisionSound = assetCache.readSound(BALL_SOUND_PATH);
         ball = new Ball(Vector2.ZERO, new Vector2(BALL_RADIUS, BALL_RADIUS), ballImage, collisionSound);
         locateBallOnBoard(ball);
         ball.setCenter(windowDimensions.mult(0.5f));
         ball.setTag(BALL_TAG_NAME);
+        ball.setSweptCollisionDetector(sweptCollisionDetector);
+        ball.setSoundGate(governor::allowCollisionSound);
+        ball.setFixedPointMotion(createFixedPointMotion());
+        ball.renderer().setRenderable(new InterpolatedRenderable(ballImage, ball, fixedTimestep));
         gameObjects().addGameObject(ball);
     }
 
+    /**
+     * Creates the fixed-point motion of a ball or paddle when the game runs in the fixed-point physics mode.
+     *
+     * @return a new FixedPointMotion, or null when the game moves its objects in floating point.
+     */
+    private FixedPointMotion createFixedPointMotion() {
+        return tunables.isFixedPointPhysics() ? new FixedPointMotion(tunables.getPhysicsRate()) : null;
+    }
+
     /**
      * Locates the ball on the game board and sets its initial velocity.
      *
      * @param object the ball object.
      */
     private void locateBallOnBoard(GameObject object) {
-        float ballVelY = BALL_SPEED;
-        float ballVelX = BALL_SPEED;
+        float ballVelY = tunables.getBallSpeed();
+        float ballVelX = tunables.getBallSpeed();
         if (rand.nextBoolean()) {
             ballVelX *= -1;
         }
@@ -451,12 +836,14 @@ public class BrickerGameManager extends GameManager {
      * Initializes the paddle object with the specified paddle image and input listener.
      */
     private void initPaddle() {
-        Renderable paddleImage = imageReader.readImage(PADDLE_IMAGE_PATH, true);
+        Renderable paddleImage = assetCache.readImage(PADDLE_IMAGE_PATH, true);
         Vector2 newWindowDimensions = new Vector2(windowDimensions.x(), windowDimensions.y() - WALLS_PADDING);
-        GameObject paddle = new Paddle(Vector2.ZERO, new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), paddleImage,
-                inputListener, newWindowDimensions);
+        paddle = new Paddle(Vector2.ZERO, new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), paddleImage,
+                paddleInputSource, newWindowDimensions);
         paddle.setTopLeftCorner(new Vector2(windowDimensions.x() / 2, windowDimensions.y() - WALLS_PADDING));
         paddle.setTag(PADDLE_TAG_NAME);
+        paddle.setFixedPointMotion(createFixedPointMotion());
+        paddle.renderer().setRenderable(new InterpolatedRenderable(paddleImage, paddle, fixedTimestep));
         gameObjects().addGameObject(paddle);
     }
 
@@ -465,13 +852,17 @@ public class BrickerGameManager extends GameManager {
      */
     public void createExtraPaddle() {
         if (extraPaddleCount.value() < MAX_EXTRA_PADDLE_EXIST) {
-            Renderable paddleImage = imageReader.readImage(PADDLE_IMAGE_PATH, true);
+            Renderable paddleImage = assetCache.readImage(PADDLE_IMAGE_PATH, true);
             Vector2 newWindowDimensions = new Vector2(windowDimensions.x(), windowDimensions.y() / 2);
             tempPaddle = new TempPaddle(Vector2.ZERO, new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT), paddleImage,
-                    inputListener, newWindowDimensions, new Counter(EXTRA_PADDLE_COLLISION_NUM));
+                    paddleInputSource, newWindowDimensions);
             tempPaddle.setTopLeftCorner(new Vector2(windowDimensions.x() / 2, windowDimensions.y() / 2));
+            tempPaddle.setFixedPointMotion(createFixedPointMotion());
+            tempPaddle.renderer().setRenderable(new InterpolatedRenderable(paddleImage, tempPaddle, fixedTimestep));
             gameObjects().addGameObject(tempPaddle);
             extraPaddleCount.increment();
+            tempPaddle.getCollisionTrigger().scheduleAfter(tunables.getExtraPaddleCollisions(),
+                    () -> effectTimers.schedule(0, this::removeTempPaddle));
         }
     }
 
@@ -481,11 +872,13 @@ public class BrickerGameManager extends GameManager {
      * @param location the location where the extra life should be created.
      */
     public void createExtraLife(Vector2 location) {
-        Renderable heartImage = imageReader.readImage(HEART_IMAGE_PATH, true);
+        Renderable heartImage = assetCache.readImage(HEART_IMAGE_PATH, true);
         Heart dynamicHeart = new Heart(location, new Vector2(HEART_WIDTH, HEART_HEIGHT), heartImage);
         dynamicHeart.setTag(DYNAMIC_HEART_TAG);
-        dynamicHeart.setVelocity(Vector2.DOWN.mult(HEART_SPEED));
-        gameObjects().addGameObject(dynamicHeart);
+        dynamicHeart.setVelocity(Vector2.DOWN.mult(tunables.getHeartSpeed()));
+        dynamicHeart.renderer().setRenderable(new InterpolatedRenderable(heartImage, dynamicHeart, fixedTimestep));
+        dynamicObjects.spawn(dynamicHeart, ObjectKind.HEART);
+        FlightRecorder.recordEvent(FlightEvent.SPAWN, ObjectKind.HEART.ordinal(), 1, location.x(), location.y());
     }
 
     /**
@@ -503,49 +896,39 @@ public class BrickerGameManager extends GameManager {
 
     /**
      * Initializes the bricks on the game board with the specified brick image and behavior strategy.
-     */
-    private void initBricks() {
-        Renderable brickImage = imageReader.readImage(BRICK_IMAGE_PATH, false);
-        int brickWidth = (BOARD_X_SIZE - BORDER_WIDTH * 2 - (BRICK_PADDING * numOfBricksCols - 1)) /
-                numOfBricksCols;
-
-        for (int i = 0; i < numOfBricksRows; i++) {
-            for (int j = 0; j < numOfBricksCols; j++) {
-                int brickX = BORDER_WIDTH + j * (brickWidth + BRICK_PADDING);
-                int brickY = BORDER_WIDTH + i * (BRICK_HEIGHT + BRICK_PADDING);
-                Vector2 brickPos = new Vector2(brickX, brickY);
-                GameObject brick = new Brick(brickPos, new Vector2(brickWidth, BRICK_HEIGHT), brickImage,
-                        selectStrategyForBrick());
-                gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
-            }
-        }
-    }
-
-    /**
-     * Selects a random behavior strategy for a brick using the StrategyFactory.
+     * The strategies of the bricks are generated in parallel from the board seed, which is random unless a seed
+     * is set in the tunables. The whole board is built by a BrickBoardBuilder and then added to the game in one
+     * batch. An endless board is kept by an EndlessBrickBoard, which brings in new rows during the game and shares
+     * the strategies of its bricks by plan.
      *
-     * @return the selected CollisionStrategy for the brick.
+     * @param boardRows the number of brick rows of the board.
+     * @param boardCols the number of bricks in a row of the board.
      */
-    private CollisionStrategy selectStrategyForBrick() {
-        StrategyFactory strategyFactory = new StrategyFactory(this, brickCount);
-        if (rand.nextBoolean()) {
-            return strategyFactory.buildRenderer(BASIC_STRATEGY, STRATEGY_START_COUNTER_VAL);
-        } else {
-            int index = rand.nextInt(BRICKS_BEHAVIOR_NUM);
-            return strategyFactory.buildRenderer(index, STRATEGY_START_COUNTER_VAL);
+    private void initBricks(int boardRows, int boardCols) {
+        Renderable brickImage = assetCache.readImage(BRICK_IMAGE_PATH, false);
+        BrickBoardBuilder boardBuilder = new BrickBoardBuilder(boardRows, boardCols,
+                new Vector2(BORDER_WIDTH, BORDER_WIDTH), BOARD_X_SIZE - BORDER_WIDTH * 2, BRICK_HEIGHT,
+                BRICK_PADDING);
+        long boardSeed = tunables.getBoardSeed() != 0 ? tunables.getBoardSeed() : rand.nextLong();
+        BoardGenerator boardGenerator = new BoardGenerator(boardSeed, tunables.getStrategyDistribution());
+        if (tunables.isEndlessBoard()) {
+            endlessBoard = new EndlessBrickBoard(gameObjects(), brickCount, boardBuilder, brickImage,
+                    boardGenerator, strategyFactory::sharedFromPlan,
+                    tunables.getBoardPushSeconds() * tunables.getPhysicsRate());
+            brickPlans = endlessBoard.getPlans();
+            brickAliveBits = endlessBoard.getAliveBits();
+            endlessBoard.addToGame();
+            return;
+        }
+        endlessBoard = null;
+        int[] plans = boardGenerator.generate(boardRows, boardCols);
+        brickPlans = plans;
+        Brick[] bricks = boardBuilder.build(brickImage, index -> strategyFactory.buildFromPlan(plans[index]));
+        brickAliveBits = new long[(bricks.length + Long.SIZE - 1) / Long.SIZE];
+        for (Brick brick : bricks) {
+            gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
+            brickAliveBits[brick.getBoardIndex() >>> 6] |= 1L << brick.getBoardIndex();
         }
-    }
-
-    /**
-     * Selects a normal behavior strategy for a brick using the StrategyFactory.
-     *
-     * @param brickCount the Counter representing the number of remaining bricks.
-     * @return the selected CollisionStrategy for the brick.
-     */
-    public CollisionStrategy selectNormalStrategyBehavior(Counter brickCount) {
-        StrategyFactory strategyFactory = new StrategyFactory(this, brickCount);
-        int index = rand.nextInt(DOUBLE_BEHAVIOR_STRATEGY);
-        return strategyFactory.buildRenderer(index, STRATEGY_START_COUNTER_VAL);
     }
 
     /**
@@ -578,29 +961,92 @@ public class BrickerGameManager extends GameManager {
     }
 
     /**
-     * Creates a camera to follow the ball's movements.
+     * Initializes the hidden performance overlay and registers the counters it shows.
+     */
+    private void initPerformanceHud() {
+        performanceHud = new PerformanceHud(gameObjects(), new Vector2(BORDER_WIDTH * 2, windowDimensions.y() / 2),
+                new Vector2(PERFORMANCE_HUD_LINE_WIDTH, HEART_HEIGHT));
+        performanceHud.addCounter("bricks", brickCount::value);
+        performanceHud.addCounter("newRows", () -> endlessBoard != null ?
+                (int) Math.min(Integer.MAX_VALUE, endlessBoard.getRecycledRows()) : 0);
+        performanceHud.addCounter("pucks", () -> dynamicObjects.liveCount(ObjectKind.PUCK));
+        performanceHud.addCounter("hearts", () -> dynamicObjects.liveCount(ObjectKind.HEART));
+        performanceHud.addCounter("camera", () -> camera() != null ? 1 : 0);
+        performanceHud.addCounter("bgLayer", () -> countObjectsInLayer(Layer.BACKGROUND));
+        performanceHud.addCounter("staticLayer", () -> countObjectsInLayer(Layer.STATIC_OBJECTS));
+        performanceHud.addCounter("defaultLayer", () -> countObjectsInLayer(Layer.DEFAULT));
+        performanceHud.addCounter("movingLayer", sweepAndPrune::size);
+        performanceHud.addCounter("uiLayer", () -> countObjectsInLayer(Layer.UI));
+        performanceHud.addCounter("governor", governor::getLevel);
+        performanceHud.addCounter("inputP99us", () -> (int) TimeUnit.NANOSECONDS.toMicros(
+                bufferedKeyInput.getLatencyHistogram().percentile(0.99)));
+        performanceHud.addCounter("hits/s", () -> Math.round(collisionProfiler.getTotalPairsPerSecond()));
+        performanceHud.addCounter("ballBrick/s", () -> Math.round(collisionProfiler.getPairsPerSecond(
+                CollisionProfiler.PairType.BALL_BRICK)));
+        performanceHud.addCounter("puckBrick/s", () -> Math.round(collisionProfiler.getPairsPerSecond(
+                CollisionProfiler.PairType.PUCK_BRICK)));
+        performanceHud.addCounter("broadphase", () -> (int) Math.min(Integer.MAX_VALUE,
+                collisionProfiler.getLastBroadphaseCandidates()));
+        performanceHud.addCounter("assets", assetCache::size);
+        performanceHud.addCounter("assetHits", assetCache::getHits);
+        performanceHud.addCounter("assetMisses", assetCache::getMisses);
+    }
+
+    /**
+     * Counts the game objects in the specified layer.
+     *
+     * @param layer the layer to count.
+     * @return the number of objects in the layer.
+     */
+    private int countObjectsInLayer(int layer) {
+        int count = 0;
+        for (GameObject ignored : gameObjects().objectsInLayer(layer)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Creates a camera to follow the ball's movements, unless the frame-budget governor skips the camera.
      */
     public void createCamera() {
-        currBallCollisionCount = ball.getCollisionCounter();
+        if (!governor.allowCamera()) {
+            return;
+        }
         setCamera(new Camera(ball, Vector2.ZERO, windowDimensions.mult(1.2f), windowDimensions));
+        ball.getCollisionTrigger().scheduleAfter(tunables.getCameraCollisions(),
+                () -> effectTimers.schedule(0, this::removeCamera));
+        FlightRecorder.recordEvent(FlightEvent.CAMERA_ON, tunables.getCameraCollisions(), 0, ball.getCenter().x(),
+                ball.getCenter().y());
     }
 
     /**
-     * Creates multiple pucks at the specified location.
+     * Creates multiple pucks at the specified location, fewer when the frame-budget governor caps the pucks.
      *
      * @param location The location where the pucks should be created.
      */
     public void createPucks(Vector2 location) {
-        Renderable ballImage = imageReader.readImage(PUCK_IMAGE_PATH, true);
-        Sound collisionSound = soundReader.readSound(BALL_SOUND_PATH);
+        Renderable ballImage = assetCache.readImage(PUCK_IMAGE_PATH, true);
+        Sound collisionSound = assetCache.readSound(BALL_SOUND_PATH);
         Vector2 dimension = new Vector2(BALL_RADIUS * ((float) 0.75), BALL_RADIUS * ((float) 0.75));
 
-        for (int i = 0; i < NUM_OF_PUCKS; i++) {
-            pucks[i] = new Puck(location, dimension, ballImage, collisionSound);
-            locateBallOnBoard(pucks[i]);
-            pucks[i].setTag(PUCK_TAG_NAME);
-            gameObjects().addGameObject(pucks[i]);
+        int numOfPucks = governor.allowedPuckSpawns(tunables.getPucksPerBrick(),
+                dynamicObjects.liveCount(ObjectKind.PUCK));
+        if (numOfPucks == 0) {
+            return;
+        }
+        for (int i = 0; i < numOfPucks; i++) {
+            Puck puck = new Puck(location, dimension, ballImage, collisionSound);
+            locateBallOnBoard(puck);
+            puck.setTag(PUCK_TAG_NAME);
+            puck.setSweptCollisionDetector(sweptCollisionDetector);
+            puck.setSoundGate(governor::allowCollisionSound);
+            puck.setFixedPointMotion(createFixedPointMotion());
+            puck.renderer().setRenderable(new InterpolatedRenderable(ballImage, puck, fixedTimestep));
+            dynamicObjects.spawn(puck, ObjectKind.PUCK);
         }
+        FlightRecorder.recordEvent(FlightEvent.SPAWN, ObjectKind.PUCK.ordinal(), numOfPucks, location.x(),
+                location.y());
     }
 
     /**
@@ -611,6 +1057,174 @@ public class BrickerGameManager extends GameManager {
      */
     public void removeObject(GameObject object, final int dataLayer) {
         gameObjects().removeGameObject(object, dataLayer);
+        if (dataLayer == Layer.STATIC_OBJECTS) {
+            sweptCollisionDetector.removeObstacle(object);
+        }
+        if (object instanceof Brick && ((Brick) object).getBoardIndex() >= 0) {
+            int boardIndex = ((Brick) object).getBoardIndex();
+            boolean wasAlive = (brickAliveBits[boardIndex >>> 6] & (1L << boardIndex)) != 0;
+            brickAliveBits[boardIndex >>> 6] &= ~(1L << boardIndex);
+            if (!wasAlive) {
+                // a brick with several behaviors is removed once per behavior, but hit only once
+                return;
+            }
+            if (endlessBoard != null) {
+                endlessBoard.onBrickRemoved(boardIndex);
+            }
+            FlightRecorder.recordEvent(FlightEvent.BRICK_HIT, boardIndex, brickPlans[boardIndex],
+                    object.getCenter().x(), object.getCenter().y());
+        }
+    }
+
+    /**
+     * Starts receiving key events for the buffered keyboard input. The input outlives game resets, so it is
+     * installed only once.
+     */
+    private void installBufferedKeyInput() {
+        if (!isBufferedKeyInputInstalled) {
+            bufferedKeyInput.install();
+            isBufferedKeyInputInstalled = true;
+        }
+    }
+
+    /**
+     * Returns an iterator over the objects of the default and moving layers, where the balls and pucks live.
+     *
+     * @return an iterator over the default and moving layer objects.
+     */
+    private Iterator<GameObject> gameObjectsIterator() {
+        return Stream.concat(StreamSupport.stream(gameObjects().objectsInLayer(Layer.DEFAULT).spliterator(), false),
+                StreamSupport.stream(gameObjects().objectsInLayer(ObjectKind.MOVING_LAYER).spliterator(), false))
+                .iterator();
+    }
+
+    /**
+     * Creates the handler deciding what happens once a game ends: the handler set by the caller if there is one,
+     * an automatic restart during soak runs, and the play again dialog otherwise.
+     *
+     * @return the GameEndHandler of the game.
+     */
+    private GameEndHandler createGameEndHandler() {
+        if (customGameEndHandler != null) {
+            return customGameEndHandler;
+        }
+        if (soakTestMonitor != null) {
+            return (gameResult, decide) -> {
+                System.out.println("[soak game] " + gameResult);
+                decide.accept(EndDecision.PLAY_AGAIN);
+            };
+        }
+        return new DialogGameEndHandler(windowController);
+    }
+
+    /**
+     * Packs the sprite images of the game into a texture atlas, taking the pixels of the images held by the asset
+     * bundle from the bundle. When an image cannot be read for the atlas, the game reads every image on its own
+     * instead.
+     *
+     * @param assetBundle the bundle of pre-decoded assets, or null if there is none.
+     * @return the packed TextureAtlas, or null if it could not be built.
+     */
+    private static TextureAtlas createTextureAtlas(AssetBundle assetBundle) {
+        TextureAtlas atlas = new TextureAtlas(ATLAS_MAX_WIDTH);
+        try {
+            for (String path : OPAQUE_ATLAS_IMAGES) {
+                addToAtlas(atlas, assetBundle, path, false);
+            }
+            for (String path : TRANSPARENT_ATLAS_IMAGES) {
+                addToAtlas(atlas, assetBundle, path, true);
+            }
+        } catch (IOException e) {
+            System.err.println("Texture atlas disabled: " + e.getMessage());
+            return null;
+        }
+        atlas.pack();
+        return atlas;
+    }
+
+    /**
+     * Adds an image to the texture atlas, from the asset bundle if it holds the image and from its file otherwise.
+     *
+     * @param atlas                     the atlas to add the image to.
+     * @param assetBundle               the bundle of pre-decoded assets, or null if there is none.
+     * @param path                      the path of the image.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @throws IOException if the image cannot be read from its file.
+     */
+    private static void addToAtlas(TextureAtlas atlas, AssetBundle assetBundle, String path,
+                                   boolean isTopLeftPixelTransparent) throws IOException {
+        if (assetBundle != null && assetBundle.containsImage(path)) {
+            atlas.add(path, isTopLeftPixelTransparent, assetBundle.readImage(path, isTopLeftPixelTransparent));
+        } else {
+            atlas.add(path, isTopLeftPixelTransparent);
+        }
+    }
+
+    /**
+     * Opens the pre-decoded asset bundle given by the system properties, if its file exists. The assets whose
+     * files changed since the bundle was built are dropped from it, so they are read from their files.
+     *
+     * @return the opened AssetBundle, or null if there is no usable bundle.
+     */
+    private static AssetBundle openAssetBundle() {
+        Path bundlePath = Path.of(System.getProperty(ASSET_BUNDLE_PROPERTY, DEFAULT_ASSET_BUNDLE_PATH));
+        if (!Files.exists(bundlePath)) {
+            return null;
+        }
+        try {
+            AssetBundle assetBundle = AssetBundle.open(bundlePath);
+            List<String> stalePaths = assetBundle.dropStaleEntries(Path.of(""));
+            if (!stalePaths.isEmpty()) {
+                System.err.println("Asset bundle is stale, rebuild it with AssetBundleBuilder. Reading from files: " +
+                        String.join(", ", stalePaths));
+            }
+            return assetBundle;
+        } catch (IOException e) {
+            System.err.println("Asset bundle disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Creates the flight recorder writing to the recording given by the system properties, unless it is turned
+     * off.
+     *
+     * @return the FlightRecorder of the game, or null if it is turned off or its recording cannot be created.
+     */
+    private static FlightRecorder createFlightRecorder() {
+        String path = System.getProperty(FLIGHT_RECORDER_PROPERTY, DEFAULT_FLIGHT_RECORDING_PATH);
+        if (path.equals(FLIGHT_RECORDER_OFF)) {
+            return null;
+        }
+        try {
+            return new FlightRecorder(Path.of(path), FLIGHT_RECORDER_RECORDS);
+        } catch (IOException e) {
+            System.err.println("Flight recorder disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Creates the soak run monitor when a soak run was requested through the system properties.
+     *
+     * @return the SoakTestMonitor for the requested run, or null when no soak run was requested.
+     */
+    private static SoakTestMonitor createSoakTestMonitor() {
+        long soakMinutes = Long.getLong(SOAK_MINUTES_PROPERTY, 0);
+        if (soakMinutes <= 0) {
+            return null;
+        }
+        return new SoakTestMonitor(TimeUnit.MINUTES.toNanos(soakMinutes),
+                TimeUnit.SECONDS.toNanos(SOAK_REPORT_INTERVAL_SECONDS));
+    }
+
+    /**
+     * Gets the dimensions of the game window the game is played in.
+     *
+     * @return the dimensions of the game window.
+     */
+    public static Vector2 defaultWindowDimensions() {
+        return new Vector2(BOARD_X_SIZE, BOARD_Y_SIZE);
     }
 
     /**
@@ -619,15 +1233,15 @@ public class BrickerGameManager extends GameManager {
      * @param args the command line arguments. Accepts optional arguments for custom board size.
      */
     public static void main(String[] args) {
-        BrickerGameManager brickerGameManager;
+        GameTunables tunables = GameTunables.load(Path.of(System.getProperty(TUNABLES_PATH_PROPERTY,
+                DEFAULT_TUNABLES_PATH)));
         if (args.length == 2) {
-            brickerGameManager = new BrickerGameManager(WINDOWS_TITLE_NAME,
-                    new Vector2(BOARD_X_SIZE, BOARD_Y_SIZE), Integer.parseInt(args[1]),
-                    Integer.parseInt(args[0]));
-        } else {
-            brickerGameManager = new BrickerGameManager(WINDOWS_TITLE_NAME,
-                    new Vector2(BOARD_X_SIZE, BOARD_Y_SIZE));
+            tunables.setBoardRows(Integer.parseInt(args[1]));
+            tunables.setBoardCols(Integer.parseInt(args[0]));
         }
+        tunables.register();
+        BrickerGameManager brickerGameManager = new BrickerGameManager(WINDOWS_TITLE_NAME,
+                new Vector2(BOARD_X_SIZE, BOARD_Y_SIZE), tunables);
         brickerGameManager.run();
     }
 }
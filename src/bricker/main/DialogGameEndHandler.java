@@ -0,0 +1,55 @@
+package bricker.main;
+
+import danogl.gui.WindowController;
+
+import java.util.function.Consumer;
+
+/**
+ * DialogGameEndHandler class asks the player whether to play again once a Bricker game has ended.
+ * The yes/no dialog is opened on its own thread, so the game loop keeps running while the dialog is shown, and
+ * the answer is handed back to the game as its decision.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class DialogGameEndHandler implements GameEndHandler {
+    /**
+     * The prompt message displayed when the player wins the game.
+     */
+    private static final String WIN_PROMPT = "You Win!";
+
+    /**
+     * The prompt message displayed when the player loses the game.
+     */
+    private static final String LOST_PROMPT = "You lose!";
+
+    /**
+     * The prompt message asking the player to play again.
+     */
+    private static final String PLAY_AGAIN_PROMPT = " Play again?";
+
+    private final WindowController windowController;
+
+    /**
+     * Constructs a DialogGameEndHandler opening its dialog through the specified window controller.
+     *
+     * @param windowController the window controller for opening the dialog.
+     */
+    public DialogGameEndHandler(WindowController windowController) {
+        this.windowController = windowController;
+    }
+
+    /**
+     * Opens the play again dialog on a separate thread and hands the answer back as the decision.
+     *
+     * @param result the result of the game.
+     * @param decide the callback receiving the decision on what to do next.
+     */
+    @Override
+    public void onGameEnd(GameResult result, Consumer<EndDecision> decide) {
+        String prompt = (result.getOutcome() == GameOutcome.WON ? WIN_PROMPT : LOST_PROMPT) + PLAY_AGAIN_PROMPT;
+        Thread dialogThread = new Thread(() -> decide.accept(windowController.openYesNoDialog(prompt) ?
+                EndDecision.PLAY_AGAIN : EndDecision.QUIT), "bricker-end-dialog");
+        dialogThread.setDaemon(true);
+        dialogThread.start();
+    }
+}
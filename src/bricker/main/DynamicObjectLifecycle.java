@@ -0,0 +1,240 @@
+package bricker.main;
+
+import bricker.ecs.BoundsSystem;
+import bricker.ecs.Component;
+import bricker.ecs.EntitySystem;
+import bricker.ecs.EntityWorld;
+import bricker.ecs.FixedPointMotionSystem;
+import bricker.ecs.MotionSystem;
+import bricker.ecs.ViewSyncSystem;
+import bricker.gameobjects.ObjectKind;
+import bricker.perf.FlightEvent;
+import bricker.perf.FlightRecorder;
+import bricker.physics.SweepAndPrune;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DynamicObjectLifecycle class owns the dynamic objects spawned during the Bricker game, such as pucks and
+ * falling hearts. Every spawned object is added both to the game and to the live list of its kind, and a single
+ * sweep per step removes every object whose center left the board, whatever its kind.
+ * The objects of entity-driven kinds are kept in an entity world of their kind instead of a list: their centers,
+ * velocities and bounding boxes live in dense arrays, the motion system moves them all in one linear pass per step
+ * and the objects only follow the entity positions, and the bounds system removes them once they left the board.
+ * In the fixed-point physics mode, these entities are also kept and moved in fixed point.
+ * The live count of each kind is exposed, so objects that are never cleaned up show up as a growing count.
+ * Live objects are also tracked by the sweep and prune broadphase, which finds the collisions among them.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class DynamicObjectLifecycle {
+    private final GameObjectCollection gameObjects;
+    private final Vector2 boardDimensions;
+    private final SweepAndPrune broadphase;
+    private final EnumMap<ObjectKind, List<GameObject>> liveObjects = new EnumMap<>(ObjectKind.class);
+    private final EnumMap<ObjectKind, List<GameObject>> liveObjectsViews = new EnumMap<>(ObjectKind.class);
+    private final EnumMap<ObjectKind, EntityWorld> entityWorlds = new EnumMap<>(ObjectKind.class);
+    private final Map<GameObject, Integer> entityOfView = new IdentityHashMap<>();
+    private final EntitySystem[] stepSystems;
+    private final EntitySystem boundsSystem;
+    private final Component[] entityComponents;
+
+    /**
+     * Constructs a DynamicObjectLifecycle for the specified game objects and board.
+     *
+     * @param gameObjects     the collection the dynamic objects are added to and removed from.
+     * @param boardDimensions the dimensions of the board, outside of which objects are despawned.
+     * @param broadphase      the broadphase finding the collisions among the live objects.
+     * @param fixedPointRate  the number of logic steps per second of the fixed-point physics mode, or 0 to move
+     *                        the entity-driven kinds in floating point.
+     */
+    public DynamicObjectLifecycle(GameObjectCollection gameObjects, Vector2 boardDimensions,
+                                  SweepAndPrune broadphase, int fixedPointRate) {
+        this.gameObjects = gameObjects;
+        this.boardDimensions = boardDimensions;
+        this.broadphase = broadphase;
+        if (fixedPointRate > 0) {
+            this.stepSystems = new EntitySystem[]{new FixedPointMotionSystem(fixedPointRate), new ViewSyncSystem()};
+            this.entityComponents = new Component[]{Component.TRANSFORM, Component.VELOCITY, Component.COLLIDER,
+                    Component.VIEW, Component.FIXED_POINT};
+        } else {
+            this.stepSystems = new EntitySystem[]{new MotionSystem(), new ViewSyncSystem()};
+            this.entityComponents = new Component[]{Component.TRANSFORM, Component.VELOCITY, Component.COLLIDER,
+                    Component.VIEW};
+        }
+        this.boundsSystem = new BoundsSystem(boardDimensions.x(), boardDimensions.y());
+        for (ObjectKind kind : ObjectKind.values()) {
+            if (kind.isEntityDriven()) {
+                EntityWorld world = new EntityWorld();
+                entityWorlds.put(kind, world);
+                liveObjectsViews.put(kind, world.views());
+            } else {
+                List<GameObject> objects = new ArrayList<>();
+                liveObjects.put(kind, objects);
+                liveObjectsViews.put(kind, Collections.unmodifiableList(objects));
+            }
+        }
+    }
+
+    /**
+     * Adds a dynamic object to the game and tracks it until it is despawned. An object of an entity-driven kind
+     * hands its center, velocity and size over to a new entity, and keeps no velocity of its own.
+     *
+     * @param object the object to spawn.
+     * @param kind   the kind of the object.
+     */
+    public void spawn(GameObject object, ObjectKind kind) {
+        if (kind.isEntityDriven()) {
+            EntityWorld world = entityWorlds.get(kind);
+            int entity = world.create(entityComponents);
+            world.setPosition(entity, object.getCenter().x(), object.getCenter().y());
+            world.setVelocity(entity, object.getVelocity().x(), object.getVelocity().y());
+            world.setCollider(entity, object.getDimensions().x(), object.getDimensions().y());
+            world.setView(entity, object);
+            object.setVelocity(Vector2.ZERO);
+            entityOfView.put(object, entity);
+        } else {
+            liveObjects.get(kind).add(object);
+        }
+        gameObjects.addGameObject(object, kind.getLayer());
+        broadphase.add(object);
+    }
+
+    /**
+     * Removes a dynamic object from the game and stops tracking it.
+     *
+     * @param object the object to despawn.
+     * @param kind   the kind of the object.
+     */
+    public void despawn(GameObject object, ObjectKind kind) {
+        if (kind.isEntityDriven()) {
+            Integer entity = entityOfView.get(object);
+            if (entity != null) {
+                entityWorlds.get(kind).destroy(entity);
+                removeFromGame(object, kind);
+            }
+            return;
+        }
+        List<GameObject> objects = liveObjects.get(kind);
+        int index = objects.indexOf(object);
+        if (index >= 0) {
+            removeAt(objects, index, kind);
+        }
+    }
+
+    /**
+     * Moves the objects of the entity-driven kinds by a single logic step. Called before the engine updates the
+     * game, so the engine finds the collisions at the new positions.
+     *
+     * @param deltaTime the time of the step in seconds.
+     */
+    public void update(float deltaTime) {
+        for (EntityWorld world : entityWorlds.values()) {
+            for (EntitySystem system : stepSystems) {
+                system.run(world, deltaTime);
+            }
+        }
+    }
+
+    /**
+     * Despawns every tracked object that left the board, and reports the number of despawned objects of each kind
+     * to the flight recorder. An object of an entity-driven kind has left once its whole bounding box is outside
+     * the board, and any other object once its center is.
+     */
+    public void sweep() {
+        for (ObjectKind kind : ObjectKind.values()) {
+            int despawned = kind.isEntityDriven() ? sweepEntities(kind) : sweepObjects(kind);
+            if (despawned > 0) {
+                FlightRecorder.recordEvent(FlightEvent.DESPAWN, kind.ordinal(), despawned, 0, 0);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of live objects of the specified kind.
+     *
+     * @param kind the kind of objects to count.
+     * @return the number of live objects of the kind.
+     */
+    public int liveCount(ObjectKind kind) {
+        return kind.isEntityDriven() ? entityWorlds.get(kind).size() : liveObjects.get(kind).size();
+    }
+
+    /**
+     * Gets a read-only view of the live objects of the specified kind. Despawning an object moves the last object
+     * of its kind into its place, so the view can be walked backwards while objects are despawned.
+     *
+     * @param kind the kind of objects to return.
+     * @return the live objects of the kind.
+     */
+    public List<GameObject> liveObjects(ObjectKind kind) {
+        return liveObjectsViews.get(kind);
+    }
+
+    /**
+     * Despawns the objects of a kind tracked in a list whose center is outside the board.
+     *
+     * @param kind the kind of the objects.
+     * @return the number of despawned objects.
+     */
+    private int sweepObjects(ObjectKind kind) {
+        List<GameObject> objects = liveObjects.get(kind);
+        int despawned = 0;
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            Vector2 center = objects.get(i).getCenter();
+            if (center.x() < 0 || center.x() > boardDimensions.x() || center.y() < 0 ||
+                    center.y() > boardDimensions.y()) {
+                removeAt(objects, i, kind);
+                despawned++;
+            }
+        }
+        return despawned;
+    }
+
+    /**
+     * Despawns the entities of an entity-driven kind that left the board.
+     *
+     * @param kind the kind of the entities.
+     * @return the number of despawned entities.
+     */
+    private int sweepEntities(ObjectKind kind) {
+        EntityWorld world = entityWorlds.get(kind);
+        boundsSystem.run(world, 0);
+        return world.removeMarked(view -> removeFromGame(view, kind));
+    }
+
+    /**
+     * Removes the object at the specified index by moving the last object into its place.
+     *
+     * @param objects the live list of the object's kind.
+     * @param index   the index of the object to remove.
+     * @param kind    the kind of the object.
+     */
+    private void removeAt(List<GameObject> objects, int index, ObjectKind kind) {
+        GameObject object = objects.get(index);
+        int last = objects.size() - 1;
+        objects.set(index, objects.get(last));
+        objects.remove(last);
+        removeFromGame(object, kind);
+    }
+
+    /**
+     * Removes an object that is no longer tracked from the game and from the broadphase.
+     *
+     * @param object the object to remove.
+     * @param kind   the kind of the object.
+     */
+    private void removeFromGame(GameObject object, ObjectKind kind) {
+        entityOfView.remove(object);
+        gameObjects.removeGameObject(object, kind.getLayer());
+        broadphase.remove(object);
+    }
+}
@@ -0,0 +1,18 @@
+package bricker.main;
+
+/**
+ * EndDecision enum lists what can be done once a Bricker game has ended.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum EndDecision {
+    /**
+     * Start a new game.
+     */
+    PLAY_AGAIN,
+
+    /**
+     * Close the game.
+     */
+    QUIT
+}
@@ -0,0 +1,243 @@
+package bricker.main;
+
+import bricker.brick_strategies.BoardGenerator;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.gameobjects.Brick;
+import bricker.perf.FlightEvent;
+import bricker.perf.FlightRecorder;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * EndlessBrickBoard class keeps the bricks of an endless Bricker board, on which new brick rows keep streaming in
+ * from the top and the game is never won.
+ * The board has a fixed number of rows, which form a ring: once every brick of a row was hit, or when the bottom
+ * row is pushed out after a while without a new row, the rows above it move down by one row and the row itself
+ * comes back in at the top with new strategies. The bricks of the row are recycled rather than replaced, and the
+ * strategies are shared by plan, so the board holds the same objects however long the game lasts.
+ * The board indices of the bricks always follow their position on the grid in row-major order, so the alive bits
+ * and the plans of the board, which are shared with the game, describe the grid as it is drawn.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class EndlessBrickBoard {
+    private final GameObjectCollection gameObjects;
+    private final Counter brickCount;
+    private final BoardGenerator generator;
+    private final IntFunction<CollisionStrategy> strategies;
+    private final SplittableRandom rowRandom;
+    private final int pushTicks;
+    private final int rows;
+    private final int cols;
+    private final Vector2[] topLeftCorners;
+    private final Brick[] bricks;
+    private final Brick[] recycledRow;
+    private final boolean[] isRecycledAlive;
+    private final int[] plans;
+    private final long[] aliveBits;
+    private final int[] aliveInRow;
+    private int ticksSinceNewRow = 0;
+    private long recycledRows = 0;
+
+    /**
+     * Constructs an EndlessBrickBoard whose first rows are generated like a regular board.
+     *
+     * @param gameObjects the collection the bricks are added to and removed from.
+     * @param brickCount  the Counter of the bricks left on the board.
+     * @param layout      the builder laying out the grid of the board.
+     * @param brickImage  the Renderable shared by all bricks.
+     * @param generator   the generator of the strategy plans of the bricks.
+     * @param strategies  the function returning the collision strategy of a plan.
+     * @param pushTicks   the number of logic steps without a new row after which the bottom row is pushed out, or 0
+     *                    to only bring in rows in place of cleared ones.
+     */
+    public EndlessBrickBoard(GameObjectCollection gameObjects, Counter brickCount, BrickBoardBuilder layout,
+                             Renderable brickImage, BoardGenerator generator,
+                             IntFunction<CollisionStrategy> strategies, int pushTicks) {
+        this.gameObjects = gameObjects;
+        this.brickCount = brickCount;
+        this.generator = generator;
+        this.strategies = strategies;
+        this.rowRandom = generator.createRowRandom();
+        this.pushTicks = pushTicks;
+        this.rows = layout.getRows();
+        this.cols = layout.getCols();
+        this.topLeftCorners = new Vector2[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                topLeftCorners[i * cols + j] = layout.brickTopLeft(i, j);
+            }
+        }
+        this.plans = generator.generate(rows, cols);
+        this.bricks = layout.build(brickImage, index -> strategies.apply(plans[index]));
+        this.recycledRow = new Brick[cols];
+        this.isRecycledAlive = new boolean[cols];
+        this.aliveBits = new long[(bricks.length + Long.SIZE - 1) / Long.SIZE];
+        this.aliveInRow = new int[rows];
+    }
+
+    /**
+     * Adds every brick of the board to the game.
+     */
+    public void addToGame() {
+        for (Brick brick : bricks) {
+            gameObjects.addGameObject(brick, Layer.STATIC_OBJECTS);
+            aliveBits[brick.getBoardIndex() >>> 6] |= 1L << brick.getBoardIndex();
+        }
+        for (int i = 0; i < rows; i++) {
+            aliveInRow[i] = cols;
+        }
+    }
+
+    /**
+     * Gets the strategy plans of the bricks, by board index. The array is updated in place as rows come in.
+     *
+     * @return the plans of the bricks.
+     */
+    public int[] getPlans() {
+        return plans;
+    }
+
+    /**
+     * Gets the bits of the alive bricks, by board index. The array is updated in place as rows come in, and the
+     * game clears the bit of every brick it removes.
+     *
+     * @return the alive bits of the bricks.
+     */
+    public long[] getAliveBits() {
+        return aliveBits;
+    }
+
+    /**
+     * Gets the number of rows brought in since the board was built.
+     *
+     * @return the number of recycled rows.
+     */
+    public long getRecycledRows() {
+        return recycledRows;
+    }
+
+    /**
+     * Notifies the board that the game removed a brick that was alive.
+     *
+     * @param boardIndex the board index of the removed brick.
+     */
+    public void onBrickRemoved(int boardIndex) {
+        aliveInRow[boardIndex / cols]--;
+    }
+
+    /**
+     * Brings in a new row in place of every cleared row, and pushes out the bottom row if no row came in for too
+     * long. Called once per logic step, after the engine handled the collisions of the step.
+     */
+    public void step() {
+        ticksSinceNewRow++;
+        int row = rows - 1;
+        while (row >= 0) {
+            if (aliveInRow[row] == 0) {
+                // the row above moves into this row, so it is checked next
+                recycleRow(row);
+            } else {
+                row--;
+            }
+        }
+        if (pushTicks > 0 && ticksSinceNewRow >= pushTicks) {
+            recycleRow(rows - 1);
+        }
+    }
+
+    /**
+     * Moves the rows above a row down by one row, and brings the bricks of the row back in at the top with new
+     * strategies. The bricks that are still alive are pushed out: they stay in the game and only move to the top,
+     * while the bricks that were hit are added back.
+     *
+     * @param row the row to recycle.
+     */
+    private void recycleRow(int row) {
+        int pushedOut = 0;
+        for (int j = 0; j < cols; j++) {
+            int index = row * cols + j;
+            recycledRow[j] = bricks[index];
+            isRecycledAlive[j] = isAlive(index);
+            if (isRecycledAlive[j]) {
+                pushedOut++;
+            }
+        }
+        for (int i = row; i > 0; i--) {
+            for (int j = 0; j < cols; j++) {
+                moveBrick((i - 1) * cols + j, i * cols + j);
+            }
+            aliveInRow[i] = aliveInRow[i - 1];
+        }
+        generator.generate(rowRandom, plans, 0, cols);
+        for (int j = 0; j < cols; j++) {
+            Brick brick = recycledRow[j];
+            recycledRow[j] = null;
+            brick.recycle(strategies.apply(plans[j]));
+            placeBrick(brick, j);
+            setAlive(j, true);
+            if (!isRecycledAlive[j]) {
+                gameObjects.addGameObject(brick, Layer.STATIC_OBJECTS);
+                brickCount.increment();
+            }
+        }
+        aliveInRow[0] = cols;
+        ticksSinceNewRow = 0;
+        recycledRows++;
+        FlightRecorder.recordEvent(FlightEvent.ROW_RECYCLED, row, pushedOut, 0, 0);
+    }
+
+    /**
+     * Moves a brick, together with its plan and alive bit, to another board index.
+     *
+     * @param from the board index of the brick.
+     * @param to   the board index to move the brick to.
+     */
+    private void moveBrick(int from, int to) {
+        plans[to] = plans[from];
+        setAlive(to, isAlive(from));
+        placeBrick(bricks[from], to);
+    }
+
+    /**
+     * Puts a brick at a board index, on the grid and in the bricks of the board.
+     *
+     * @param brick the brick to put.
+     * @param index the board index of the brick.
+     */
+    private void placeBrick(Brick brick, int index) {
+        bricks[index] = brick;
+        brick.setBoardIndex(index);
+        brick.setTopLeftCorner(topLeftCorners[index]);
+    }
+
+    /**
+     * Checks whether the brick at a board index is alive.
+     *
+     * @param index the board index of the brick.
+     * @return true if the brick is alive, false otherwise.
+     */
+    private boolean isAlive(int index) {
+        return (aliveBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets whether the brick at a board index is alive.
+     *
+     * @param index   the board index of the brick.
+     * @param isAlive whether the brick is alive.
+     */
+    private void setAlive(int index, boolean isAlive) {
+        if (isAlive) {
+            aliveBits[index >>> 6] |= 1L << index;
+        } else {
+            aliveBits[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
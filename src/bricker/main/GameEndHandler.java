@@ -0,0 +1,22 @@
+package bricker.main;
+
+import java.util.function.Consumer;
+
+/**
+ * GameEndHandler is an interface deciding what happens once a Bricker game has been won or lost.
+ * The handler is notified once, from inside the game loop, and must return immediately; it hands its decision
+ * to the game through the callback, at any later time and from any thread, and the game applies it on the next
+ * frame. This keeps the game loop running while a player is being asked.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public interface GameEndHandler {
+
+    /**
+     * Notifies the handler that the game has ended.
+     *
+     * @param result the result of the game.
+     * @param decide the callback receiving the decision on what to do next.
+     */
+    void onGameEnd(GameResult result, Consumer<EndDecision> decide);
+}
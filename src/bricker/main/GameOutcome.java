@@ -0,0 +1,24 @@
+package bricker.main;
+
+/**
+ * GameOutcome enum lists the states of a Bricker game: still being played, won, or lost. A game moves from
+ * PLAYING to WON or LOST exactly once.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum GameOutcome {
+    /**
+     * The game is still being played.
+     */
+    PLAYING,
+
+    /**
+     * All bricks were broken.
+     */
+    WON,
+
+    /**
+     * The ball fell with no lives left.
+     */
+    LOST
+}
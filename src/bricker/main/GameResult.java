@@ -0,0 +1,76 @@
+package bricker.main;
+
+/**
+ * GameResult class holds the result of a finished Bricker game: whether it was won or lost, how many logic steps
+ * it took, and how many lives and bricks were left. It gives automated runners a programmatic result instead of
+ * a dialog.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class GameResult {
+    private final GameOutcome outcome;
+    private final long ticks;
+    private final int lives;
+    private final int bricksLeft;
+
+    /**
+     * Constructs a GameResult.
+     *
+     * @param outcome    the outcome of the game, WON or LOST.
+     * @param ticks      the number of logic steps the game took.
+     * @param lives      the number of lives left at the end of the game.
+     * @param bricksLeft the number of bricks left at the end of the game.
+     */
+    public GameResult(GameOutcome outcome, long ticks, int lives, int bricksLeft) {
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.lives = lives;
+        this.bricksLeft = bricksLeft;
+    }
+
+    /**
+     * Gets the outcome of the game.
+     *
+     * @return WON or LOST.
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the number of logic steps the game took.
+     *
+     * @return the number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of lives left at the end of the game.
+     *
+     * @return the number of lives.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets the number of bricks left at the end of the game.
+     *
+     * @return the number of bricks.
+     */
+    public int getBricksLeft() {
+        return bricksLeft;
+    }
+
+    /**
+     * Returns a short description of the result.
+     *
+     * @return the description of the result.
+     */
+    @Override
+    public String toString() {
+        return outcome + " after " + ticks + " ticks, lives=" + lives + ", bricksLeft=" + bricksLeft;
+    }
+}
@@ -0,0 +1,148 @@
+package bricker.main;
+
+import danogl.gui.UserInputListener;
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+/**
+ * HeadlessGame class runs a BrickerGameManager without a window, for benchmarks and tools that drive the game
+ * tick by tick.
+ * The game is initialized with no image or sound readers, so it only uses the assets of the texture atlas and the
+ * asset bundle, with a window controller that reports the board dimensions and does nothing else, and with an
+ * input listener on which no key is ever pressed. A finished game restarts on the next tick, the way a game ends
+ * and restarts during a soak run, so a run can last any number of ticks.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class HeadlessGame {
+    private final BrickerGameManager gameManager;
+    private final WindowController windowController;
+    private final UserInputListener inputListener;
+    private final float tickTime;
+    private Consumer<BrickerGameManager> gameSetup = gameManager -> {
+    };
+    private boolean isRestartDue = false;
+    private int gamesEnded = 0;
+
+    /**
+     * Constructs a HeadlessGame running the specified game on a board of the specified dimensions.
+     *
+     * @param gameManager      the game to run.
+     * @param windowDimensions the dimensions of the board.
+     * @param ticksPerSecond   the number of game logic steps per second of the game.
+     */
+    public HeadlessGame(BrickerGameManager gameManager, Vector2 windowDimensions, int ticksPerSecond) {
+        this.gameManager = gameManager;
+        this.tickTime = 1f / ticksPerSecond;
+        this.windowController = (WindowController) Proxy.newProxyInstance(
+                WindowController.class.getClassLoader(), new Class<?>[]{WindowController.class},
+                new NoOpHandler(windowDimensions));
+        this.inputListener = (UserInputListener) Proxy.newProxyInstance(
+                UserInputListener.class.getClassLoader(), new Class<?>[]{UserInputListener.class},
+                new NoOpHandler(windowDimensions));
+        gameManager.setGameEndHandler((result, decide) -> {
+            gamesEnded++;
+            isRestartDue = true;
+        });
+    }
+
+    /**
+     * Initializes a new game.
+     */
+    public void start() {
+        isRestartDue = false;
+        gameManager.initializeGame(null, null, inputListener, windowController);
+        gameSetup.accept(gameManager);
+    }
+
+    /**
+     * Sets the setup applied to every game right after it is initialized, such as spawning extra objects.
+     *
+     * @param gameSetup the setup of a new game.
+     */
+    public void setGameSetup(Consumer<BrickerGameManager> gameSetup) {
+        this.gameSetup = gameSetup;
+    }
+
+    /**
+     * Advances the game by a single tick, restarting it first if it ended.
+     */
+    public void tick() {
+        if (isRestartDue) {
+            start();
+        }
+        gameManager.update(tickTime);
+    }
+
+    /**
+     * Gets the game run by this HeadlessGame.
+     *
+     * @return the game manager.
+     */
+    public BrickerGameManager getGameManager() {
+        return gameManager;
+    }
+
+    /**
+     * Gets the number of games that ended since this HeadlessGame was created.
+     *
+     * @return the number of ended games.
+     */
+    public int getGamesEnded() {
+        return gamesEnded;
+    }
+
+    /**
+     * NoOpHandler class answers the calls of the headless window controller and input listener: the window
+     * dimensions are the board dimensions, and every other call does nothing and returns the default value of its
+     * return type.
+     */
+    private static class NoOpHandler implements InvocationHandler {
+        private final Vector2 windowDimensions;
+
+        /**
+         * Constructs a NoOpHandler reporting the specified window dimensions.
+         *
+         * @param windowDimensions the dimensions of the board.
+         */
+        NoOpHandler(Vector2 windowDimensions) {
+            this.windowDimensions = windowDimensions;
+        }
+
+        /**
+         * Answers a call of the proxied interface.
+         *
+         * @param proxy  the proxy the method was called on.
+         * @param method the called method.
+         * @param args   the arguments of the call.
+         * @return the window dimensions or the default value of the method's return type.
+         */
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Class<?> type = method.getReturnType();
+            if (type == Vector2.class) {
+                return windowDimensions;
+            }
+            if (method.getName().equals("toString")) {
+                return "headless";
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (type.isPrimitive() && type != void.class) {
+                // the zero value of a primitive type is the element of a new array of that type
+                return Array.get(Array.newInstance(type, 1), 0);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package bricker.main;
+
+import bricker.input.ActionInputSource;
+import bricker.state.GameStateSnapshot;
+import bricker.utils.GameTunables;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * VectorizedEnvironment class steps many headless Bricker games in lockstep, for bots and training agents that
+ * control the paddle from the same process instead of through a window and the keyboard.
+ * Every step takes one action per game, where a negative action moves the paddle left, a positive action moves it
+ * right and zero keeps it in place, and plays the same number of ticks in every game. The games are stepped in
+ * parallel on a fork-join pool, each game by a single thread at a time, and their collision profilers and flight
+ * recorders are off, since those are shared by the whole process. Their frame-budget governors are off as well, so a
+ * game plays the same for the same actions on any machine.
+ * After every step the observation of each game is written into its slot of a single direct buffer in the native
+ * byte order, which is allocated once, so a consumer can read it in place. A slot holds, at the offsets given by
+ * the constants of this class: the lives left, the bricks left, the number of written pucks, the number of games
+ * that ended during the step, the paddle's x coordinate, the ball's center and velocity, the centers and
+ * velocities of up to the maximal number of pucks, and the brick alive bits in 64-bit words, one bit per brick in
+ * row-major order. A game that ended restarts on its next step.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class VectorizedEnvironment implements AutoCloseable {
+    /**
+     * The offset of the lives left, an int.
+     */
+    public static final int LIVES_OFFSET = 0;
+
+    /**
+     * The offset of the bricks left, an int.
+     */
+    public static final int BRICKS_OFFSET = LIVES_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the number of pucks written to the slot, an int.
+     */
+    public static final int PUCK_COUNT_OFFSET = BRICKS_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the number of games that ended during the step, an int.
+     */
+    public static final int GAMES_ENDED_OFFSET = PUCK_COUNT_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the x coordinate of the paddle's center, a float.
+     */
+    public static final int PADDLE_X_OFFSET = GAMES_ENDED_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the ball's center and velocity, four floats: x, y, velocity x and velocity y.
+     */
+    public static final int BALL_OFFSET = PADDLE_X_OFFSET + Float.BYTES;
+
+    /**
+     * The offset of the pucks, four floats per puck like the ball.
+     */
+    public static final int PUCKS_OFFSET = BALL_OFFSET + 4 * Float.BYTES;
+
+    /**
+     * The size of the state of a single ball or puck.
+     */
+    public static final int MOVER_SIZE = 4 * Float.BYTES;
+
+    private final HeadlessGame[] games;
+    private final ActionInputSource[] actionSources;
+    private final int ticksPerStep;
+    private final int maxPucks;
+    private final int brickBitsOffset;
+    private final int brickWords;
+    private final int slotSize;
+    private final ByteBuffer observations;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a VectorizedEnvironment of the specified number of games.
+     *
+     * @param gameCount        the number of games stepped in lockstep.
+     * @param tunablesForSeed  creates the tunables of a game from its board seed.
+     * @param seed             the board seed of the first game; the other games use the following seeds.
+     * @param maxPucks         the largest number of pucks written to an observation.
+     * @param ticksPerStep     the number of ticks every game plays on each step with the same action.
+     * @param parallelism      the number of threads stepping the games.
+     */
+    public VectorizedEnvironment(int gameCount, LongFunction<GameTunables> tunablesForSeed, long seed, int maxPucks,
+                                 int ticksPerStep, int parallelism) {
+        this.games = new HeadlessGame[gameCount];
+        this.actionSources = new ActionInputSource[gameCount];
+        this.ticksPerStep = ticksPerStep;
+        this.maxPucks = maxPucks;
+        int bricks = 0;
+        for (int i = 0; i < gameCount; i++) {
+            GameTunables tunables = tunablesForSeed.apply(seed + i);
+            tunables.setGovernorTargetMicros(0);
+            bricks = Math.max(bricks, tunables.getBoardRows() * tunables.getBoardCols());
+            BrickerGameManager gameManager = new BrickerGameManager("env" + i,
+                    BrickerGameManager.defaultWindowDimensions(), tunables);
+            actionSources[i] = new ActionInputSource();
+            gameManager.setPaddleInputSource(actionSources[i]);
+            gameManager.setDiagnosticsEnabled(false);
+            gameManager.setSnapshotPublishing(true);
+            games[i] = new HeadlessGame(gameManager, BrickerGameManager.defaultWindowDimensions(),
+                    tunables.getPhysicsRate());
+        }
+        this.brickWords = (bricks + Long.SIZE - 1) / Long.SIZE;
+        this.brickBitsOffset = alignToLong(PUCKS_OFFSET + maxPucks * MOVER_SIZE);
+        this.slotSize = brickBitsOffset + brickWords * Long.BYTES;
+        this.observations = ByteBuffer.allocateDirect(slotSize * gameCount).order(ByteOrder.nativeOrder());
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Starts a new game in every slot and writes the first observations.
+     */
+    public void reset() {
+        pool.submit(() -> IntStream.range(0, games.length).parallel().forEach(i -> {
+            games[i].start();
+            writeObservation(i, 0);
+        })).join();
+    }
+
+    /**
+     * Applies an action to every game, plays the ticks of a step in all games and writes their observations.
+     *
+     * @param actions the action of every game, in the order of the slots.
+     * @throws IllegalArgumentException if the number of actions is not the number of games.
+     */
+    public void step(int[] actions) {
+        if (actions.length != games.length) {
+            throw new IllegalArgumentException("Expected " + games.length + " actions, got " + actions.length);
+        }
+        pool.submit(() -> IntStream.range(0, games.length).parallel().forEach(i -> stepGame(i, actions[i])))
+                .join();
+    }
+
+    /**
+     * Gets the buffer the observations are written into. The buffer is the same after every step.
+     *
+     * @return the observations buffer.
+     */
+    public ByteBuffer getObservations() {
+        return observations;
+    }
+
+    /**
+     * Gets the size of the observation slot of a single game.
+     *
+     * @return the slot size in bytes.
+     */
+    public int getSlotSize() {
+        return slotSize;
+    }
+
+    /**
+     * Gets the offset of the brick alive bits within a slot.
+     *
+     * @return the offset of the brick alive bits.
+     */
+    public int getBrickBitsOffset() {
+        return brickBitsOffset;
+    }
+
+    /**
+     * Gets the number of games stepped in lockstep.
+     *
+     * @return the number of games.
+     */
+    public int getGameCount() {
+        return games.length;
+    }
+
+    /**
+     * Stops the threads stepping the games.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays the ticks of a step in a single game with the specified action and writes its observation.
+     *
+     * @param index  the slot of the game.
+     * @param action the action of the game.
+     */
+    private void stepGame(int index, int action) {
+        HeadlessGame game = games[index];
+        int gamesEndedBefore = game.getGamesEnded();
+        actionSources[index].setAction(action);
+        for (int tick = 0; tick < ticksPerStep; tick++) {
+            game.tick();
+        }
+        writeObservation(index, game.getGamesEnded() - gamesEndedBefore);
+    }
+
+    /**
+     * Writes the latest state of a game into its observation slot.
+     *
+     * @param index      the slot of the game.
+     * @param gamesEnded the number of games that ended during the step.
+     */
+    private void writeObservation(int index, int gamesEnded) {
+        GameStateSnapshot snapshot = games[index].getGameManager().getSnapshotBuffer().latest();
+        int slot = index * slotSize;
+        int pucks = Math.min(snapshot.getPuckCount(), maxPucks);
+        observations.putInt(slot + LIVES_OFFSET, snapshot.getLives());
+        observations.putInt(slot + BRICKS_OFFSET, snapshot.getBrickCount());
+        observations.putInt(slot + PUCK_COUNT_OFFSET, pucks);
+        observations.putInt(slot + GAMES_ENDED_OFFSET, gamesEnded);
+        observations.putFloat(slot + PADDLE_X_OFFSET, snapshot.getPaddleX());
+        putMover(slot + BALL_OFFSET, snapshot.getBallX(), snapshot.getBallY(), snapshot.getBallVelocityX(),
+                snapshot.getBallVelocityY());
+        for (int i = 0; i < pucks; i++) {
+            putMover(slot + PUCKS_OFFSET + i * MOVER_SIZE, snapshot.getPuckX(i), snapshot.getPuckY(i),
+                    snapshot.getPuckVelocityX(i), snapshot.getPuckVelocityY(i));
+        }
+        int words = Math.min(snapshot.getBrickAliveWordCount(), brickWords);
+        for (int word = 0; word < brickWords; word++) {
+            observations.putLong(slot + brickBitsOffset + word * Long.BYTES,
+                    word < words ? snapshot.getBrickAliveWord(word) : 0);
+        }
+    }
+
+    /**
+     * Writes the center and velocity of a ball or puck.
+     *
+     * @param offset    the offset to write at.
+     * @param x         the x coordinate of the center.
+     * @param y         the y coordinate of the center.
+     * @param velocityX the x coordinate of the velocity.
+     * @param velocityY the y coordinate of the velocity.
+     */
+    private void putMover(int offset, float x, float y, float velocityX, float velocityY) {
+        observations.putFloat(offset, x);
+        observations.putFloat(offset + Float.BYTES, y);
+        observations.putFloat(offset + 2 * Float.BYTES, velocityX);
+        observations.putFloat(offset + 3 * Float.BYTES, velocityY);
+    }
+
+    /**
+     * Rounds an offset up to the next multiple of the size of a long.
+     *
+     * @param offset the offset to round.
+     * @return the rounded offset.
+     */
+    private static int alignToLong(int offset) {
+        return (offset + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+}
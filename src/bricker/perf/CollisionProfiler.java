@@ -0,0 +1,357 @@
+package bricker.perf;
+
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.Heart;
+import bricker.gameobjects.Paddle;
+import bricker.gameobjects.Puck;
+import bricker.gameobjects.TempPaddle;
+import danogl.GameObject;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * CollisionProfiler class collects collision statistics of the running Bricker game, to show which collision work
+ * is worth optimizing.
+ * Every collision is reported by both objects involved in it. The pair is counted once, from the side of the
+ * moving object, a ball, a puck or a falling heart, and is classified by the types of both objects. Every report
+ * also counts a hit on the reporting object, so both sides of a collision show up among the hottest objects.
+ * The game reports the number of broadphase candidate pairs of each logic step. The statistics are gathered over
+ * windows of one second of game time; when a window closes, the collisions per second of every pair type, the
+ * hottest objects of the window and the broadphase candidates per step are kept until the next window closes.
+ * The game objects find the profiler of the running game through the static recordCollision method, which does
+ * nothing while no profiler is installed.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class CollisionProfiler {
+    /**
+     * PairType enum lists the types of collision pairs the profiler tells apart.
+     */
+    public enum PairType {
+        /**
+         * The main ball hitting a brick.
+         */
+        BALL_BRICK("ball-brick"),
+
+        /**
+         * A puck hitting a brick.
+         */
+        PUCK_BRICK("puck-brick"),
+
+        /**
+         * The main ball hitting the paddle.
+         */
+        BALL_PADDLE("ball-paddle"),
+
+        /**
+         * The main ball hitting the temporary paddle.
+         */
+        BALL_TEMP_PADDLE("ball-tempPaddle"),
+
+        /**
+         * A puck hitting the paddle.
+         */
+        PUCK_PADDLE("puck-paddle"),
+
+        /**
+         * A puck hitting the temporary paddle.
+         */
+        PUCK_TEMP_PADDLE("puck-tempPaddle"),
+
+        /**
+         * A falling heart caught by the paddle.
+         */
+        HEART_PADDLE("heart-paddle"),
+
+        /**
+         * The main ball hitting a wall.
+         */
+        BALL_WALL("ball-wall"),
+
+        /**
+         * A puck hitting a wall.
+         */
+        PUCK_WALL("puck-wall"),
+
+        /**
+         * Two pucks hitting each other.
+         */
+        PUCK_PUCK("puck-puck"),
+
+        /**
+         * Any other pair, such as two balls hitting each other.
+         */
+        OTHER("other");
+
+        private final String label;
+
+        /**
+         * Constructs a PairType with the specified report label.
+         *
+         * @param label the label of the pair type in reports.
+         */
+        PairType(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the label of the pair type in reports.
+         *
+         * @return the label of the pair type.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /*
+     * The game time covered by a single statistics window, in seconds.
+     */
+    private static final float WINDOW_SECONDS = 1f;
+    private static final PairType[] PAIR_TYPES = PairType.values();
+
+    private static volatile CollisionProfiler active;
+
+    private final int topObjectsCount;
+    private final int[] windowPairCounts = new int[PAIR_TYPES.length];
+    private final long[] totalPairCounts = new long[PAIR_TYPES.length];
+    private final float[] pairsPerSecond = new float[PAIR_TYPES.length];
+    private final Map<GameObject, int[]> windowHits = new IdentityHashMap<>();
+    private final String[] hottestObjects;
+    private final int[] hottestHits;
+    private float windowElapsed = 0;
+    private int windowSteps = 0;
+    private long windowCandidates = 0;
+    private long maxWindowCandidates = 0;
+    private long lastCandidates = 0;
+    private float candidatesPerStep = 0;
+    private long maxCandidatesPerStep = 0;
+
+    /**
+     * Constructs a CollisionProfiler keeping the specified number of hottest objects of each window.
+     *
+     * @param topObjectsCount the number of hottest objects kept of each window.
+     */
+    public CollisionProfiler(int topObjectsCount) {
+        this.topObjectsCount = topObjectsCount;
+        this.hottestObjects = new String[topObjectsCount];
+        this.hottestHits = new int[topObjectsCount];
+    }
+
+    /**
+     * Installs the specified profiler as the one the game objects report their collisions to.
+     *
+     * @param profiler the profiler to install, or null to stop profiling.
+     */
+    public static void install(CollisionProfiler profiler) {
+        active = profiler;
+    }
+
+    /**
+     * Reports a collision of a game object to the installed profiler, if any.
+     *
+     * @param reporter the object whose collision handler fired.
+     * @param other    the other object of the collision.
+     */
+    public static void recordCollision(GameObject reporter, GameObject other) {
+        CollisionProfiler profiler = active;
+        if (profiler != null) {
+            profiler.onCollision(reporter, other);
+        }
+    }
+
+    /**
+     * Records a collision reported by one of its objects.
+     *
+     * @param reporter the object whose collision handler fired.
+     * @param other    the other object of the collision.
+     */
+    public void onCollision(GameObject reporter, GameObject other) {
+        windowHits.computeIfAbsent(reporter, object -> new int[1])[0]++;
+        if (reporter instanceof Ball || reporter instanceof Heart) {
+            windowPairCounts[classify(reporter, other).ordinal()]++;
+        }
+    }
+
+    /**
+     * Records the end of a logic step, closing the statistics window when it is over.
+     *
+     * @param stepTime             the time of the step in seconds.
+     * @param broadphaseCandidates the number of object pairs the broadphase had to consider in the step.
+     */
+    public void endStep(float stepTime, long broadphaseCandidates) {
+        lastCandidates = broadphaseCandidates;
+        windowCandidates += broadphaseCandidates;
+        maxWindowCandidates = Math.max(maxWindowCandidates, broadphaseCandidates);
+        windowSteps++;
+        windowElapsed += stepTime;
+        if (windowElapsed >= WINDOW_SECONDS) {
+            closeWindow();
+        }
+    }
+
+    /**
+     * Gets the collisions per second of the specified pair type over the last closed window.
+     *
+     * @param pairType the pair type.
+     * @return the collisions per second of the pair type.
+     */
+    public float getPairsPerSecond(PairType pairType) {
+        return pairsPerSecond[pairType.ordinal()];
+    }
+
+    /**
+     * Gets the collisions per second of all pair types over the last closed window.
+     *
+     * @return the total collisions per second.
+     */
+    public float getTotalPairsPerSecond() {
+        float total = 0;
+        for (float rate : pairsPerSecond) {
+            total += rate;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of collisions of the specified pair type since the profiler was created.
+     *
+     * @param pairType the pair type.
+     * @return the total number of collisions of the pair type.
+     */
+    public long getTotalPairCount(PairType pairType) {
+        return totalPairCounts[pairType.ordinal()];
+    }
+
+    /**
+     * Gets the number of broadphase candidate pairs of the last logic step.
+     *
+     * @return the broadphase candidates of the last step.
+     */
+    public long getLastBroadphaseCandidates() {
+        return lastCandidates;
+    }
+
+    /**
+     * Gets the average number of broadphase candidate pairs per logic step over the last closed window.
+     *
+     * @return the average broadphase candidates per step.
+     */
+    public float getBroadphaseCandidatesPerStep() {
+        return candidatesPerStep;
+    }
+
+    /**
+     * Builds a report of the last closed window: the collisions per second of every pair type that occurred,
+     * the broadphase candidates per step and the hottest objects.
+     *
+     * @return the report of the last closed window.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("[collisions] per second:");
+        for (PairType pairType : PAIR_TYPES) {
+            if (pairsPerSecond[pairType.ordinal()] > 0) {
+                report.append(' ').append(pairType.getLabel()).append('=')
+                        .append(String.format("%.1f", pairsPerSecond[pairType.ordinal()]));
+            }
+        }
+        report.append(String.format(" | broadphase per step: avg=%.0f max=%d", candidatesPerStep,
+                maxCandidatesPerStep));
+        report.append(" | hottest:");
+        for (int i = 0; i < topObjectsCount && hottestObjects[i] != null; i++) {
+            report.append(' ').append(hottestObjects[i]).append('=').append(hottestHits[i]);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Turns the counts of the current window into rates and hottest objects, and starts a new window.
+     */
+    private void closeWindow() {
+        for (int i = 0; i < PAIR_TYPES.length; i++) {
+            pairsPerSecond[i] = windowPairCounts[i] / windowElapsed;
+            totalPairCounts[i] += windowPairCounts[i];
+            windowPairCounts[i] = 0;
+        }
+        candidatesPerStep = windowCandidates / (float) windowSteps;
+        maxCandidatesPerStep = maxWindowCandidates;
+        collectHottestObjects();
+        windowHits.clear();
+        windowElapsed = 0;
+        windowSteps = 0;
+        windowCandidates = 0;
+        maxWindowCandidates = 0;
+    }
+
+    /**
+     * Keeps the objects with the most hits of the current window, in descending order of hits.
+     */
+    private void collectHottestObjects() {
+        GameObject[] hottest = new GameObject[topObjectsCount];
+        Arrays.fill(hottestHits, 0);
+        for (Map.Entry<GameObject, int[]> entry : windowHits.entrySet()) {
+            int hits = entry.getValue()[0];
+            int position = topObjectsCount;
+            while (position > 0 && hits > hottestHits[position - 1]) {
+                position--;
+            }
+            if (position == topObjectsCount) {
+                continue;
+            }
+            System.arraycopy(hottest, position, hottest, position + 1, topObjectsCount - position - 1);
+            System.arraycopy(hottestHits, position, hottestHits, position + 1, topObjectsCount - position - 1);
+            hottest[position] = entry.getKey();
+            hottestHits[position] = hits;
+        }
+        for (int i = 0; i < topObjectsCount; i++) {
+            hottestObjects[i] = hottest[i] != null ? describe(hottest[i]) : null;
+        }
+    }
+
+    /**
+     * Classifies a collision by the types of its objects.
+     *
+     * @param mover the moving object of the collision.
+     * @param other the other object of the collision.
+     * @return the pair type of the collision.
+     */
+    private static PairType classify(GameObject mover, GameObject other) {
+        if (mover instanceof Heart) {
+            return other instanceof Paddle ? PairType.HEART_PADDLE : PairType.OTHER;
+        }
+        boolean isPuck = mover instanceof Puck;
+        if (other instanceof Brick) {
+            return isPuck ? PairType.PUCK_BRICK : PairType.BALL_BRICK;
+        }
+        if (isPuck && other instanceof Puck) {
+            return PairType.PUCK_PUCK;
+        }
+        if (other instanceof TempPaddle) {
+            return isPuck ? PairType.PUCK_TEMP_PADDLE : PairType.BALL_TEMP_PADDLE;
+        }
+        if (other instanceof Paddle) {
+            return isPuck ? PairType.PUCK_PADDLE : PairType.BALL_PADDLE;
+        }
+        if (other.getClass() == GameObject.class) {
+            return isPuck ? PairType.PUCK_WALL : PairType.BALL_WALL;
+        }
+        return PairType.OTHER;
+    }
+
+    /**
+     * Describes an object in reports, by its board index for bricks and by its type and position otherwise.
+     *
+     * @param object the object to describe.
+     * @return the description of the object.
+     */
+    private static String describe(GameObject object) {
+        if (object instanceof Brick && ((Brick) object).getBoardIndex() >= 0) {
+            return "brick#" + ((Brick) object).getBoardIndex();
+        }
+        String type = object.getClass() == GameObject.class ? "wall" : object.getClass().getSimpleName();
+        return String.format("%s@(%.0f,%.0f)", type, object.getCenter().x(), object.getCenter().y());
+    }
+}
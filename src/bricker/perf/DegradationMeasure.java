@@ -0,0 +1,112 @@
+package bricker.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DegradationMeasure enum lists the measures the frame-budget governor can take to bring the frame time back under
+ * its target, each giving up some detail of the game that does not change how it is played.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum DegradationMeasure {
+    /**
+     * Collision sounds are played at most once in a short interval.
+     */
+    THROTTLE_SOUNDS("sounds"),
+
+    /**
+     * Bricks spawn new pucks only while the number of live pucks is under a cap.
+     */
+    CAP_PUCKS("pucks"),
+
+    /**
+     * Bricks no longer make the camera follow the ball.
+     */
+    SKIP_CAMERA("camera"),
+
+    /**
+     * The background image is not drawn.
+     */
+    LOWER_RENDER_DETAIL("render");
+
+    /*
+     * The separator between the names of a list of measures.
+     */
+    private static final String NAME_SEPARATOR = ",";
+
+    private final String label;
+
+    /**
+     * Constructs a DegradationMeasure with the specified name.
+     *
+     * @param label the name of the measure in tunables and logs.
+     */
+    DegradationMeasure(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name of the measure in tunables and logs.
+     *
+     * @return the name of the measure.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Parses a comma separated list of measure names, in the order the governor takes them.
+     *
+     * @param text the names of the measures, for example sounds,pucks,camera,render.
+     * @return the parsed measures, in their order in the text.
+     * @throws IllegalArgumentException if a name is unknown or appears twice.
+     */
+    public static DegradationMeasure[] parseList(String text) {
+        List<DegradationMeasure> measures = new ArrayList<>();
+        for (String name : text.split(NAME_SEPARATOR)) {
+            if (name.isBlank()) {
+                continue;
+            }
+            DegradationMeasure measure = fromLabel(name.trim());
+            if (measures.contains(measure)) {
+                throw new IllegalArgumentException("Repeated degradation measure: " + name.trim());
+            }
+            measures.add(measure);
+        }
+        return measures.toArray(new DegradationMeasure[0]);
+    }
+
+    /**
+     * Writes a list of measures in the form parseList reads.
+     *
+     * @param measures the measures to write.
+     * @return the comma separated names of the measures.
+     */
+    public static String toList(DegradationMeasure[] measures) {
+        StringBuilder text = new StringBuilder();
+        for (DegradationMeasure measure : measures) {
+            if (text.length() > 0) {
+                text.append(NAME_SEPARATOR);
+            }
+            text.append(measure.label);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Finds the measure of the specified name.
+     *
+     * @param label the name of the measure.
+     * @return the measure of that name.
+     * @throws IllegalArgumentException if no measure has that name.
+     */
+    private static DegradationMeasure fromLabel(String label) {
+        for (DegradationMeasure measure : values()) {
+            if (measure.label.equals(label)) {
+                return measure;
+            }
+        }
+        throw new IllegalArgumentException("Unknown degradation measure: " + label);
+    }
+}
@@ -0,0 +1,88 @@
+package bricker.perf;
+
+/**
+ * FlightEvent enum lists the kinds of gameplay events kept by the flight recorder, together with the names of the
+ * two integer fields of their records, which the dump tool prints next to their values.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public enum FlightEvent {
+    /**
+     * A board brick was hit and removed, at its center.
+     */
+    BRICK_HIT("brick", "strategyPlan"),
+
+    /**
+     * Dynamic objects were spawned at a location.
+     */
+    SPAWN("kind", "count"),
+
+    /**
+     * Dynamic objects left the board and were despawned.
+     */
+    DESPAWN("kind", "count"),
+
+    /**
+     * The camera started following the ball.
+     */
+    CAMERA_ON("collisions", "unused"),
+
+    /**
+     * The camera was reset.
+     */
+    CAMERA_OFF("unused", "unused"),
+
+    /**
+     * The number of lives changed.
+     */
+    LIVES("lives", "change"),
+
+    /**
+     * A frame was updated, with the time since the last frame and the time spent in its logic steps.
+     */
+    FRAME("frameMicros", "logicMicros"),
+
+    /**
+     * The frame-budget governor took or lifted a degradation measure, leaving the specified number of measures
+     * taken.
+     */
+    GOVERNOR("level", "measure"),
+
+    /**
+     * An endless board brought a new row in at the top in place of the row at the specified position, pushing out
+     * the specified number of bricks that were still alive.
+     */
+    ROW_RECYCLED("row", "pushedOut");
+
+    private final String firstField;
+    private final String secondField;
+
+    /**
+     * Constructs a FlightEvent with the specified field names.
+     *
+     * @param firstField  the name of the first integer field of the event's records.
+     * @param secondField the name of the second integer field of the event's records.
+     */
+    FlightEvent(String firstField, String secondField) {
+        this.firstField = firstField;
+        this.secondField = secondField;
+    }
+
+    /**
+     * Gets the name of the first integer field of the event's records.
+     *
+     * @return the name of the first field.
+     */
+    public String getFirstField() {
+        return firstField;
+    }
+
+    /**
+     * Gets the name of the second integer field of the event's records.
+     *
+     * @return the name of the second field.
+     */
+    public String getSecondField() {
+        return secondField;
+    }
+}
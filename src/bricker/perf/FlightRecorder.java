@@ -0,0 +1,152 @@
+package bricker.perf;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FlightRecorder class keeps the last gameplay events of the Bricker game in a ring buffer of fixed-size binary
+ * records inside a memory-mapped file, so the moments before a hitch or a crash can be looked at afterwards with
+ * FlightRecorderDump.
+ * Every record holds the time, the logic tick, the event kind, two integer fields and a position. Writers claim
+ * the next record with an atomic counter, fill it in with absolute writes and then publish the counter in the file
+ * header, so recording takes no lock and allocates nothing. The game thread writes almost every record; when two
+ * threads record at once, the one that finishes last may publish a smaller count and hide the newest record from
+ * the dump until the next record is written. The operating system writes the mapped pages back to the file, so
+ * the records survive a crash of the game. Once the ring is full, every record overwrites the oldest one.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FlightRecorder {
+    /**
+     * The magic number at the start of every flight recording.
+     */
+    public static final int MAGIC = 0x42524B46;
+
+    /**
+     * The version of the recording format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The size of the file header: the magic number, the version, the record size, the record capacity, the wall
+     * clock and monotonic times the recording started at, and the number of written records.
+     */
+    public static final int HEADER_SIZE = 4 * Integer.BYTES + 3 * Long.BYTES;
+
+    /**
+     * The size of a record: the monotonic time, the tick, the event kind, two integer fields and a position.
+     */
+    public static final int RECORD_SIZE = Long.BYTES + 4 * Integer.BYTES + 2 * Float.BYTES;
+
+    /**
+     * The offset of the number of written records in the header.
+     */
+    public static final int WRITTEN_OFFSET = HEADER_SIZE - Long.BYTES;
+
+    private static volatile FlightRecorder active;
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong nextRecord = new AtomicLong();
+    private volatile int tick;
+
+    /**
+     * Constructs a FlightRecorder writing a new recording of the specified capacity to a file.
+     *
+     * @param path     the file of the recording, replaced if it exists.
+     * @param capacity the number of records the ring holds.
+     * @throws IOException if the file cannot be created or mapped.
+     */
+    public FlightRecorder(Path path, int capacity) throws IOException {
+        this.capacity = capacity;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, VERSION);
+        buffer.putInt(2 * Integer.BYTES, RECORD_SIZE);
+        buffer.putInt(3 * Integer.BYTES, capacity);
+        buffer.putLong(4 * Integer.BYTES, System.currentTimeMillis());
+        buffer.putLong(4 * Integer.BYTES + Long.BYTES, System.nanoTime());
+        buffer.putLong(WRITTEN_OFFSET, 0);
+    }
+
+    /**
+     * Installs the specified recorder as the one the game reports its events to.
+     *
+     * @param recorder the recorder to install, or null to stop recording.
+     */
+    public static void install(FlightRecorder recorder) {
+        active = recorder;
+    }
+
+    /**
+     * Reports an event to the installed recorder, if any.
+     *
+     * @param event  the kind of the event.
+     * @param first  the first integer field of the event.
+     * @param second the second integer field of the event.
+     * @param x      the x coordinate of the event, or 0 if it has no position.
+     * @param y      the y coordinate of the event, or 0 if it has no position.
+     */
+    public static void recordEvent(FlightEvent event, int first, int second, float x, float y) {
+        FlightRecorder recorder = active;
+        if (recorder != null) {
+            recorder.record(event, first, second, x, y);
+        }
+    }
+
+    /**
+     * Sets the logic tick stamped on the following records. Records keep the low 32 bits of the tick.
+     *
+     * @param tick the current logic tick.
+     */
+    public void setTick(long tick) {
+        this.tick = (int) tick;
+    }
+
+    /**
+     * Writes an event into the next record of the ring.
+     *
+     * @param event  the kind of the event.
+     * @param first  the first integer field of the event.
+     * @param second the second integer field of the event.
+     * @param x      the x coordinate of the event, or 0 if it has no position.
+     * @param y      the y coordinate of the event, or 0 if it has no position.
+     */
+    public void record(FlightEvent event, int first, int second, float x, float y) {
+        long sequence = nextRecord.getAndIncrement();
+        int offset = HEADER_SIZE + (int) (sequence % capacity) * RECORD_SIZE;
+        buffer.putLong(offset, System.nanoTime());
+        buffer.putInt(offset + Long.BYTES, tick);
+        buffer.putInt(offset + Long.BYTES + Integer.BYTES, event.ordinal());
+        buffer.putInt(offset + Long.BYTES + 2 * Integer.BYTES, first);
+        buffer.putInt(offset + Long.BYTES + 3 * Integer.BYTES, second);
+        buffer.putFloat(offset + Long.BYTES + 4 * Integer.BYTES, x);
+        buffer.putFloat(offset + Long.BYTES + 4 * Integer.BYTES + Float.BYTES, y);
+        buffer.putLong(WRITTEN_OFFSET, sequence + 1);
+    }
+
+    /**
+     * Gets the number of records written since the recording started, including the overwritten ones.
+     *
+     * @return the number of written records.
+     */
+    public long getWrittenRecords() {
+        return nextRecord.get();
+    }
+
+    /**
+     * Gets the number of records the ring holds.
+     *
+     * @return the capacity of the ring.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
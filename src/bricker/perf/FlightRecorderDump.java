@@ -0,0 +1,103 @@
+package bricker.perf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FlightRecorderDump class prints the records of a flight recording written by FlightRecorder, from the oldest
+ * record still in the ring to the newest one. Every line shows the wall clock time of the event, its offset from
+ * the newest record, the logic tick, the event kind, its named fields and its position.
+ * The recording can be dumped while the game is still running or after it crashed.
+ * Usage: java bricker.perf.FlightRecorderDump [recording] [--last=count]
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FlightRecorderDump {
+    private static final String DEFAULT_RECORDING_PATH = "bricker-flight.rec";
+    private static final int EXIT_CODE_INVALID = 1;
+
+    /**
+     * Default constructor for the FlightRecorderDump class.
+     */
+    public FlightRecorderDump() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Prints the records of a flight recording.
+     *
+     * @param args the path of the recording and the number of newest records to print, all by default.
+     * @throws IOException if the recording cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(DEFAULT_RECORDING_PATH);
+        long last = Long.MAX_VALUE;
+        for (String arg : args) {
+            if (arg.startsWith("--last=")) {
+                last = Long.parseLong(arg.substring("--last=".length()));
+            } else {
+                path = Paths.get(arg);
+            }
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < FlightRecorder.HEADER_SIZE || buffer.getInt(0) != FlightRecorder.MAGIC ||
+                buffer.getInt(Integer.BYTES) != FlightRecorder.VERSION ||
+                buffer.getInt(2 * Integer.BYTES) != FlightRecorder.RECORD_SIZE) {
+            System.err.println(path + " is not a flight recording of this version");
+            System.exit(EXIT_CODE_INVALID);
+        }
+        int capacity = buffer.getInt(3 * Integer.BYTES);
+        long startMillis = buffer.getLong(4 * Integer.BYTES);
+        long startNanos = buffer.getLong(4 * Integer.BYTES + Long.BYTES);
+        long written = buffer.getLong(FlightRecorder.WRITTEN_OFFSET);
+        long first = Math.max(0, written - Math.min(capacity, last));
+        if (written == first) {
+            System.out.println("No records in " + path);
+            return;
+        }
+
+        long newestNanos = buffer.getLong(recordOffset(written - 1, capacity));
+        FlightEvent[] events = FlightEvent.values();
+        System.out.printf("%d of %d records, ring of %d%n", written - first, written, capacity);
+        for (long sequence = first; sequence < written; sequence++) {
+            int offset = recordOffset(sequence, capacity);
+            long nanos = buffer.getLong(offset);
+            int tick = buffer.getInt(offset + Long.BYTES);
+            int kind = buffer.getInt(offset + Long.BYTES + Integer.BYTES);
+            int firstField = buffer.getInt(offset + Long.BYTES + 2 * Integer.BYTES);
+            int secondField = buffer.getInt(offset + Long.BYTES + 3 * Integer.BYTES);
+            float x = buffer.getFloat(offset + Long.BYTES + 4 * Integer.BYTES);
+            float y = buffer.getFloat(offset + Long.BYTES + 4 * Integer.BYTES + Float.BYTES);
+            if (kind < 0 || kind >= events.length) {
+                System.out.printf("#%d torn record%n", sequence);
+                continue;
+            }
+            FlightEvent event = events[kind];
+            Instant time = Instant.ofEpochMilli(startMillis + TimeUnit.NANOSECONDS.toMillis(nanos - startNanos));
+            System.out.printf("%s %+10.3fms tick %-8d %-10s %s=%d %s=%d at (%.1f, %.1f)%n", time,
+                    (nanos - newestNanos) / (double) TimeUnit.MILLISECONDS.toNanos(1), tick, event,
+                    event.getFirstField(), firstField, event.getSecondField(), secondField, x, y);
+        }
+    }
+
+    /**
+     * Finds the offset of a record in the recording.
+     *
+     * @param sequence the number of the record since the recording started.
+     * @param capacity the number of records the ring holds.
+     * @return the offset of the record.
+     */
+    private static int recordOffset(long sequence, int capacity) {
+        return FlightRecorder.HEADER_SIZE + (int) (sequence % capacity) * FlightRecorder.RECORD_SIZE;
+    }
+}
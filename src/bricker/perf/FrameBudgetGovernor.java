@@ -0,0 +1,191 @@
+package bricker.perf;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FrameBudgetGovernor class keeps the time a frame spends in the game logic under a target when the game gets
+ * crowded, by giving up detail instead of frame rate.
+ * The frame times are averaged over windows of frames. Every window whose average is over the target takes the next
+ * measure of the configured order, and once enough windows in a row stay well under the target, the last taken
+ * measure is lifted again, so the game steps down and back up one measure at a time without flapping at the edge of
+ * the budget. Every transition is printed and kept by the flight recorder, and reported to the transition listener.
+ * The game asks the governor before the affected actions, such as playing a collision sound or spawning pucks.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FrameBudgetGovernor {
+    /**
+     * TransitionListener interface is notified when the governor takes or lifts a measure.
+     *
+     * @author Rotem Aharoni and Dana Bar Zakay
+     */
+    public interface TransitionListener {
+        /**
+         * Called after a measure was taken or lifted.
+         *
+         * @param measure  the measure that changed.
+         * @param isActive true if the measure was taken, false if it was lifted.
+         */
+        void onTransition(DegradationMeasure measure, boolean isActive);
+    }
+
+    /*
+     * The number of frames averaged before the governor decides whether to step.
+     */
+    private static final int WINDOW_FRAMES = 30;
+
+    /*
+     * The share of the target under which a window counts as having headroom.
+     */
+    private static final double HEADROOM_SHARE = 0.6;
+
+    /*
+     * The number of windows in a row with headroom before a measure is lifted.
+     */
+    private static final int RECOVERY_WINDOWS = 4;
+
+    /*
+     * The shortest time between two collision sounds while sounds are throttled.
+     */
+    private static final long SOUND_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+    private final long targetNanos;
+    private final DegradationMeasure[] measures;
+    private final int puckCap;
+    private final TransitionListener listener;
+    private final boolean[] isMeasureActive = new boolean[DegradationMeasure.values().length];
+    private int level = 0;
+    private long windowNanos = 0;
+    private int windowFrames = 0;
+    private int headroomWindows = 0;
+    private long lastSoundNanos = System.nanoTime() - SOUND_INTERVAL_NANOS;
+
+    /**
+     * Constructs a FrameBudgetGovernor with no measure taken.
+     *
+     * @param targetNanos the target logic time of a frame in nanoseconds, or 0 to never take a measure.
+     * @param measures    the measures to take, in the order they are taken.
+     * @param puckCap     the number of live pucks over which no pucks are spawned while pucks are capped.
+     * @param listener    the listener notified of the transitions.
+     */
+    public FrameBudgetGovernor(long targetNanos, DegradationMeasure[] measures, int puckCap,
+                               TransitionListener listener) {
+        this.targetNanos = targetNanos;
+        this.measures = measures.clone();
+        this.puckCap = puckCap;
+        this.listener = listener;
+    }
+
+    /**
+     * Records the logic time of a single frame, and takes or lifts a measure when a window of frames is complete.
+     *
+     * @param frameNanos the time the frame spent in the game logic in nanoseconds.
+     */
+    public void recordFrame(long frameNanos) {
+        if (targetNanos <= 0) {
+            return;
+        }
+        windowNanos += frameNanos;
+        windowFrames++;
+        if (windowFrames < WINDOW_FRAMES) {
+            return;
+        }
+        long averageNanos = windowNanos / windowFrames;
+        windowNanos = 0;
+        windowFrames = 0;
+        if (averageNanos > targetNanos) {
+            headroomWindows = 0;
+            if (level < measures.length) {
+                transition(measures[level], true, level + 1, averageNanos);
+            }
+        } else if (averageNanos < targetNanos * HEADROOM_SHARE) {
+            headroomWindows++;
+            if (headroomWindows >= RECOVERY_WINDOWS && level > 0) {
+                headroomWindows = 0;
+                transition(measures[level - 1], false, level - 1, averageNanos);
+            }
+        } else {
+            headroomWindows = 0;
+        }
+    }
+
+    /**
+     * Checks whether a measure is currently taken.
+     *
+     * @param measure the measure to check.
+     * @return true if the measure is taken, false otherwise.
+     */
+    public boolean isActive(DegradationMeasure measure) {
+        return isMeasureActive[measure.ordinal()];
+    }
+
+    /**
+     * Gets the number of measures currently taken.
+     *
+     * @return the degradation level, 0 when the game runs at full detail.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Decides whether a collision sound may be played now. While sounds are throttled, a sound is allowed only
+     * when the last allowed one is old enough.
+     *
+     * @return true if the sound may be played, false otherwise.
+     */
+    public boolean allowCollisionSound() {
+        if (!isActive(DegradationMeasure.THROTTLE_SOUNDS)) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - lastSoundNanos < SOUND_INTERVAL_NANOS) {
+            return false;
+        }
+        lastSoundNanos = now;
+        return true;
+    }
+
+    /**
+     * Decides how many of the requested pucks may be spawned. While pucks are capped, only as many as keep the
+     * live pucks within the cap are allowed.
+     *
+     * @param requested the number of pucks to spawn.
+     * @param livePucks the number of live pucks.
+     * @return the number of pucks that may be spawned.
+     */
+    public int allowedPuckSpawns(int requested, int livePucks) {
+        if (!isActive(DegradationMeasure.CAP_PUCKS)) {
+            return requested;
+        }
+        return Math.max(0, Math.min(requested, puckCap - livePucks));
+    }
+
+    /**
+     * Decides whether the camera may start following the ball.
+     *
+     * @return true if the camera may be activated, false otherwise.
+     */
+    public boolean allowCamera() {
+        return !isActive(DegradationMeasure.SKIP_CAMERA);
+    }
+
+    /**
+     * Takes or lifts a measure, then logs the transition and notifies the listener.
+     *
+     * @param measure      the measure to take or lift.
+     * @param isActive     true to take the measure, false to lift it.
+     * @param newLevel     the degradation level after the transition.
+     * @param averageNanos the average frame logic time of the window that caused the transition.
+     */
+    private void transition(DegradationMeasure measure, boolean isActive, int newLevel, long averageNanos) {
+        isMeasureActive[measure.ordinal()] = isActive;
+        level = newLevel;
+        System.out.printf("[governor] %s %s, level %d: average %.2f ms against a target of %.2f ms%n",
+                isActive ? "took" : "lifted", measure.getLabel(), level, averageNanos / NANOS_IN_MILLI,
+                targetNanos / NANOS_IN_MILLI);
+        FlightRecorder.recordEvent(FlightEvent.GOVERNOR, level, measure.ordinal(), 0, 0);
+        listener.onTransition(measure, isActive);
+    }
+}
@@ -0,0 +1,176 @@
+package bricker.perf;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.components.CoordinateSpace;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * PerformanceHud class is a toggleable overlay showing the performance of the running Bricker game.
+ * Like the NumericUI, each line of the overlay is a GameObject holding a TextRenderable. The first line shows the
+ * frame rate, the 99th percentile frame time and the allocation rate of the game thread, and the following lines
+ * show the registered counters, such as live object counts, layer sizes and asset cache statistics.
+ * Recording a frame does not allocate; the text is rebuilt only a few times per second while the overlay is
+ * visible, reusing a single StringBuilder.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class PerformanceHud {
+    /*
+     * The time between two refreshes of the overlay text.
+     */
+    private static final float REFRESH_INTERVAL = 0.5f;
+    private static final int COUNTERS_PER_LINE = 4;
+    private static final long BUCKET_WIDTH_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_TRACKED_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final double BYTES_IN_MEGABYTE = 1024.0 * 1024.0;
+
+    private final GameObjectCollection gameObjects;
+    private final Vector2 topLeftCorner;
+    private final Vector2 lineDimensions;
+    private final TimeHistogram frameTimes = new TimeHistogram(BUCKET_WIDTH_NANOS, MAX_TRACKED_NANOS);
+    private final List<String> counterLabels = new ArrayList<>();
+    private final List<IntSupplier> counterValues = new ArrayList<>();
+    private final List<TextRenderable> lineTexts = new ArrayList<>();
+    private final List<GameObject> lines = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final long threadId = Thread.currentThread().getId();
+    private long lastAllocatedBytes;
+    private float sinceRefresh = 0;
+    private int framesSinceRefresh = 0;
+    private boolean isVisible = false;
+
+    /**
+     * Constructs a hidden PerformanceHud drawing its lines from the specified corner down.
+     *
+     * @param gameObjects    the collection the overlay lines are added to when it is shown.
+     * @param topLeftCorner  the top-left corner of the first line, in camera coordinates.
+     * @param lineDimensions the dimensions of a single line.
+     */
+    public PerformanceHud(GameObjectCollection gameObjects, Vector2 topLeftCorner, Vector2 lineDimensions) {
+        this.gameObjects = gameObjects;
+        this.topLeftCorner = topLeftCorner;
+        this.lineDimensions = lineDimensions;
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        this.allocationBean = threadBean instanceof com.sun.management.ThreadMXBean ?
+                (com.sun.management.ThreadMXBean) threadBean : null;
+        this.lastAllocatedBytes = allocatedBytes();
+        addLine();
+    }
+
+    /**
+     * Registers a counter shown on the overlay. Counters are registered once, when the game is initialized.
+     *
+     * @param label the label shown before the counter value.
+     * @param value the supplier of the current counter value.
+     */
+    public void addCounter(String label, IntSupplier value) {
+        if (counterLabels.size() % COUNTERS_PER_LINE == 0) {
+            addLine();
+        }
+        counterLabels.add(label);
+        counterValues.add(value);
+    }
+
+    /**
+     * Records a rendered frame and refreshes the overlay text when a refresh is due.
+     *
+     * @param deltaTime the frame time in seconds.
+     */
+    public void recordFrame(float deltaTime) {
+        frameTimes.record((long) (deltaTime * TimeUnit.SECONDS.toNanos(1)));
+        framesSinceRefresh++;
+        sinceRefresh += deltaTime;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            if (isVisible) {
+                refresh();
+            }
+            frameTimes.reset();
+            framesSinceRefresh = 0;
+            sinceRefresh = 0;
+            lastAllocatedBytes = allocatedBytes();
+        }
+    }
+
+    /**
+     * Shows the overlay if it is hidden and hides it if it is shown.
+     */
+    public void toggle() {
+        isVisible = !isVisible;
+        for (GameObject line : lines) {
+            if (isVisible) {
+                gameObjects.addGameObject(line, Layer.UI);
+            } else {
+                gameObjects.removeGameObject(line, Layer.UI);
+            }
+        }
+        if (isVisible) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuilds the text of all overlay lines from the recorded frames and the registered counters.
+     */
+    private void refresh() {
+        text.setLength(0);
+        text.append("fps ").append(sinceRefresh > 0 ? Math.round(framesSinceRefresh / sinceRefresh) : 0)
+                .append("  p99 ").append(Math.round(frameTimes.percentile(0.99) / NANOS_IN_MILLI * 10) / 10.0)
+                .append("ms  alloc ");
+        long allocated = allocatedBytes();
+        if (allocated < 0 || sinceRefresh <= 0) {
+            text.append("n/a");
+        } else {
+            text.append(Math.round((allocated - lastAllocatedBytes) / BYTES_IN_MEGABYTE / sinceRefresh * 10) / 10.0)
+                    .append("MB/s");
+        }
+        lineTexts.get(0).setString(text.toString());
+
+        for (int line = 1; line < lineTexts.size(); line++) {
+            text.setLength(0);
+            int first = (line - 1) * COUNTERS_PER_LINE;
+            int last = Math.min(first + COUNTERS_PER_LINE, counterLabels.size());
+            for (int i = first; i < last; i++) {
+                text.append(counterLabels.get(i)).append(' ').append(counterValues.get(i).getAsInt()).append("  ");
+            }
+            lineTexts.get(line).setString(text.toString());
+        }
+    }
+
+    /**
+     * Creates a new overlay line below the existing ones.
+     */
+    private void addLine() {
+        TextRenderable lineText = new TextRenderable("");
+        lineText.setColor(Color.white);
+        GameObject line = new GameObject(topLeftCorner.add(Vector2.DOWN.mult(lines.size() *
+                lineDimensions.y())), lineDimensions, lineText);
+        line.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        lineTexts.add(lineText);
+        lines.add(line);
+        if (isVisible) {
+            gameObjects.addGameObject(line, Layer.UI);
+        }
+    }
+
+    /**
+     * Gets the number of bytes allocated by the game thread so far.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not measure thread allocations.
+     */
+    private long allocatedBytes() {
+        return allocationBean != null ? allocationBean.getThreadAllocatedBytes(threadId) : -1;
+    }
+}
@@ -0,0 +1,122 @@
+package bricker.perf;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SoakTestMonitor class watches a long unattended run of the Bricker game.
+ * It records the frame times into a histogram and periodically prints the frame-time percentiles together with
+ * the heap usage, both as currently used and as retained after the last garbage collection, and how much the
+ * retained heap grew since the first report. Steady growth of the retained heap or of the tail frame times over
+ * hours points at a leak or a slow degradation.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class SoakTestMonitor {
+    /*
+     * The width of a frame-time histogram bucket.
+     */
+    private static final long BUCKET_WIDTH_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /*
+     * The longest frame time tracked in its own bucket.
+     */
+    private static final long MAX_TRACKED_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
+
+    private final TimeHistogram intervalHistogram = new TimeHistogram(BUCKET_WIDTH_NANOS, MAX_TRACKED_NANOS);
+    private final TimeHistogram totalHistogram = new TimeHistogram(BUCKET_WIDTH_NANOS, MAX_TRACKED_NANOS);
+    private final List<MemoryPoolMXBean> memoryPools = ManagementFactory.getMemoryPoolMXBeans();
+    private final long durationNanos;
+    private final long reportIntervalNanos;
+    private long elapsedNanos = 0;
+    private long nextReportNanos;
+    private long baselineRetainedBytes = -1;
+
+    /**
+     * Constructs a SoakTestMonitor for a run of the specified length.
+     *
+     * @param durationNanos       the length of the soak run in nanoseconds.
+     * @param reportIntervalNanos the time between two printed reports in nanoseconds.
+     */
+    public SoakTestMonitor(long durationNanos, long reportIntervalNanos) {
+        this.durationNanos = durationNanos;
+        this.reportIntervalNanos = reportIntervalNanos;
+        this.nextReportNanos = reportIntervalNanos;
+    }
+
+    /**
+     * Records the time of a single frame and prints a report when one is due.
+     *
+     * @param deltaTime the frame time in seconds.
+     */
+    public void recordFrame(float deltaTime) {
+        long frameNanos = (long) (deltaTime * TimeUnit.SECONDS.toNanos(1));
+        intervalHistogram.record(frameNanos);
+        totalHistogram.record(frameNanos);
+        elapsedNanos += frameNanos;
+        if (elapsedNanos >= nextReportNanos) {
+            printReport("interval", intervalHistogram);
+            intervalHistogram.reset();
+            nextReportNanos += reportIntervalNanos;
+        }
+    }
+
+    /**
+     * Checks whether the soak run has lasted its full duration.
+     *
+     * @return true if the run is over, false otherwise.
+     */
+    public boolean isFinished() {
+        return elapsedNanos >= durationNanos;
+    }
+
+    /**
+     * Prints the report of the whole run.
+     */
+    public void printFinalReport() {
+        printReport("total", totalHistogram);
+    }
+
+    /**
+     * Prints a single report line for the specified histogram.
+     *
+     * @param label     the label of the report.
+     * @param histogram the histogram of the frame times covered by the report.
+     */
+    private void printReport(String label, TimeHistogram histogram) {
+        long retainedBytes = retainedHeapBytes();
+        if (baselineRetainedBytes < 0) {
+            baselineRetainedBytes = retainedBytes;
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        System.out.printf("[soak %s] t=%ds frames=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms " +
+                        "heapUsed=%dMB retained=%dMB retainedGrowth=%+dMB%n",
+                label, TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), histogram.count(),
+                histogram.percentile(0.5) / NANOS_IN_MILLI, histogram.percentile(0.95) / NANOS_IN_MILLI,
+                histogram.percentile(0.99) / NANOS_IN_MILLI, histogram.max() / NANOS_IN_MILLI,
+                heap.getUsed() / BYTES_IN_MEGABYTE, retainedBytes / BYTES_IN_MEGABYTE,
+                (retainedBytes - baselineRetainedBytes) / BYTES_IN_MEGABYTE);
+    }
+
+    /**
+     * Sums the heap retained after the last garbage collection over all heap memory pools.
+     *
+     * @return the retained heap in bytes.
+     */
+    private long retainedHeapBytes() {
+        long retained = 0;
+        for (MemoryPoolMXBean pool : memoryPools) {
+            MemoryUsage afterCollection = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterCollection != null) {
+                retained += afterCollection.getUsed();
+            }
+        }
+        return retained;
+    }
+}
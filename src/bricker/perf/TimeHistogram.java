@@ -0,0 +1,102 @@
+package bricker.perf;
+
+import java.util.Arrays;
+
+/**
+ * TimeHistogram class records durations into fixed-width buckets and answers percentile queries.
+ * Recording a value never allocates, so the histogram can be fed from the game loop on every frame.
+ * Durations longer than the histogram range are counted in the last bucket, and the maximum is kept exactly.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class TimeHistogram {
+    private final long[] buckets;
+    private final long bucketWidthNanos;
+    private long count = 0;
+    private long maxNanos = 0;
+    private long totalNanos = 0;
+
+    /**
+     * Constructs a TimeHistogram with the specified resolution and range.
+     *
+     * @param bucketWidthNanos the width of a single bucket in nanoseconds.
+     * @param maxTrackedNanos  the longest duration recorded in its own bucket, in nanoseconds.
+     */
+    public TimeHistogram(long bucketWidthNanos, long maxTrackedNanos) {
+        this.bucketWidthNanos = bucketWidthNanos;
+        this.buckets = new long[(int) (maxTrackedNanos / bucketWidthNanos) + 1];
+    }
+
+    /**
+     * Records a single duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        int index = (int) Math.min(nanos / bucketWidthNanos, buckets.length - 1);
+        buckets[Math.max(index, 0)]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Returns the duration below which the specified fraction of the recorded durations fall.
+     *
+     * @param fraction the percentile as a fraction, for example 0.99 for the 99th percentile.
+     * @return the upper bound of the bucket holding the percentile, in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min((i + 1) * bucketWidthNanos, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the number of recorded durations.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return the longest recorded duration in nanoseconds.
+     */
+    public long max() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     *
+     * @return the mean duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long mean() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        maxNanos = 0;
+        totalNanos = 0;
+    }
+}
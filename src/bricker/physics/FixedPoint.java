@@ -0,0 +1,58 @@
+package bricker.physics;
+
+/**
+ * FixedPoint class converts between floating point values and the 16.16 fixed-point integers of the fixed-point
+ * physics mode. A fixed-point value holds a coordinate or velocity in units of 1/65536 of a pixel, so its sums and
+ * quotients are integer operations that give the same bits on every machine and at every JIT tier.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FixedPoint {
+    /**
+     * The number of fraction bits of a fixed-point value.
+     */
+    public static final int FRACTION_BITS = 16;
+
+    /**
+     * The fixed-point value of one.
+     */
+    public static final int ONE = 1 << FRACTION_BITS;
+
+    /**
+     * Default constructor for the FixedPoint class.
+     */
+    public FixedPoint() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Converts a floating point value to the nearest fixed-point value.
+     *
+     * @param value the floating point value.
+     * @return the fixed-point value.
+     */
+    public static int fromFloat(float value) {
+        return Math.round(value * ONE);
+    }
+
+    /**
+     * Converts a fixed-point value to floating point.
+     *
+     * @param value the fixed-point value.
+     * @return the floating point value, rounded to the precision of a float.
+     */
+    public static float toFloat(int value) {
+        return value / (float) ONE;
+    }
+
+    /**
+     * Computes the displacement over a single logic step of a fixed-point velocity.
+     *
+     * @param velocity       the velocity in fixed-point pixels per second.
+     * @param stepsPerSecond the number of logic steps per second.
+     * @return the displacement in fixed-point pixels, rounded towards zero.
+     */
+    public static int stepDisplacement(int velocity, int stepsPerSecond) {
+        return velocity / stepsPerSecond;
+    }
+}
@@ -0,0 +1,106 @@
+package bricker.physics;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * FixedPointMotion class moves a single game object in the fixed-point physics mode. The top-left corner and the
+ * velocity of the object are kept as fixed-point integers, and the object's own floating point position only
+ * shows them: every step adds the fixed-point displacement and writes the result back to the object, while the
+ * engine update of the object runs without a velocity so it never moves the object on its own.
+ * Changes made to the object from outside, such as a bounce replacing its velocity, a clamp at the edge of the
+ * board or a reset of its position, are picked up at the start of the next step, where they are rounded to the
+ * fixed-point grid.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FixedPointMotion {
+    /**
+     * EngineUpdate interface runs the engine update of the moved object, usually as super::update.
+     *
+     * @author Rotem Aharoni and Dana Bar Zakay
+     */
+    public interface EngineUpdate {
+        /**
+         * Runs the engine update of the object.
+         *
+         * @param deltaTime the time elapsed since the last update.
+         */
+        void update(float deltaTime);
+    }
+
+    private final int stepsPerSecond;
+    private int x;
+    private int y;
+    private int velocityX;
+    private int velocityY;
+    private float writtenX = Float.NaN;
+    private float writtenY = Float.NaN;
+    private Vector2 writtenVelocity;
+
+    /**
+     * Constructs a FixedPointMotion for a game running the specified number of logic steps per second.
+     *
+     * @param stepsPerSecond the number of logic steps per second.
+     */
+    public FixedPointMotion(int stepsPerSecond) {
+        this.stepsPerSecond = stepsPerSecond;
+    }
+
+    /**
+     * Moves the object by a single logic step in fixed point, running its engine update without a velocity.
+     *
+     * @param object       the object to move.
+     * @param deltaTime    the time of the step.
+     * @param engineUpdate runs the engine update of the object.
+     */
+    public void update(GameObject object, float deltaTime, EngineUpdate engineUpdate) {
+        pickUpChanges(object);
+        Vector2 velocity = object.getVelocity();
+        object.setVelocity(Vector2.ZERO);
+        engineUpdate.update(deltaTime);
+        object.setVelocity(velocity);
+        x += FixedPoint.stepDisplacement(velocityX, stepsPerSecond);
+        y += FixedPoint.stepDisplacement(velocityY, stepsPerSecond);
+        writtenX = FixedPoint.toFloat(x);
+        writtenY = FixedPoint.toFloat(y);
+        object.setTopLeftCorner(new Vector2(writtenX, writtenY));
+    }
+
+    /**
+     * Gets the x coordinate of the object's top-left corner.
+     *
+     * @return the x coordinate in fixed-point pixels.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y coordinate of the object's top-left corner.
+     *
+     * @return the y coordinate in fixed-point pixels.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Takes over the position and velocity the object was given from outside since the last step.
+     *
+     * @param object the moved object.
+     */
+    private void pickUpChanges(GameObject object) {
+        Vector2 topLeftCorner = object.getTopLeftCorner();
+        if (topLeftCorner.x() != writtenX || topLeftCorner.y() != writtenY) {
+            x = FixedPoint.fromFloat(topLeftCorner.x());
+            y = FixedPoint.fromFloat(topLeftCorner.y());
+        }
+        Vector2 velocity = object.getVelocity();
+        if (velocity != writtenVelocity) {
+            velocityX = FixedPoint.fromFloat(velocity.x());
+            velocityY = FixedPoint.fromFloat(velocity.y());
+            writtenVelocity = velocity;
+        }
+    }
+}
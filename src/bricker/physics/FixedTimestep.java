@@ -0,0 +1,63 @@
+package bricker.physics;
+
+/**
+ * FixedTimestep class schedules the game logic at a fixed rate, independent of the rate the engine renders at.
+ * Each rendered frame adds its elapsed time to an accumulator, and the accumulator is drained in whole steps of
+ * the fixed step time. When the game falls behind, several substeps run in the same frame up to a maximum, and
+ * any time beyond that is dropped so a long stall does not turn into a spiral of catch-up steps.
+ * The fraction of a step accumulated since the last step is exposed as the interpolation factor for rendering.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class FixedTimestep {
+    private final float stepTime;
+    private final int maxSubsteps;
+    private float accumulator = 0;
+
+    /**
+     * Constructs a FixedTimestep running the game logic at the specified rate.
+     *
+     * @param stepsPerSecond the number of logic steps per second.
+     * @param maxSubsteps    the maximum number of logic steps run in a single frame.
+     */
+    public FixedTimestep(int stepsPerSecond, int maxSubsteps) {
+        this.stepTime = 1f / stepsPerSecond;
+        this.maxSubsteps = maxSubsteps;
+    }
+
+    /**
+     * Adds the elapsed frame time and returns the number of logic steps due in this frame.
+     *
+     * @param deltaTime the time elapsed since the last frame.
+     * @return the number of logic steps to run, between zero and the maximum number of substeps.
+     */
+    public int advance(float deltaTime) {
+        accumulator += deltaTime;
+        int steps = (int) (accumulator / stepTime);
+        if (steps > maxSubsteps) {
+            steps = maxSubsteps;
+            accumulator = steps * stepTime;
+        }
+        accumulator -= steps * stepTime;
+        return steps;
+    }
+
+    /**
+     * Gets the fixed time of a single logic step.
+     *
+     * @return the step time in seconds.
+     */
+    public float getStepTime() {
+        return stepTime;
+    }
+
+    /**
+     * Gets how far the rendered frame is between the last two logic steps, as the fraction of a step accumulated
+     * since the last step.
+     *
+     * @return the interpolation factor, between 0 (previous step) and 1 (last step).
+     */
+    public float getAlpha() {
+        return Math.max(0f, Math.min(1f, accumulator / stepTime));
+    }
+}
@@ -0,0 +1,35 @@
+package bricker.physics;
+
+import danogl.util.Vector2;
+
+/**
+ * Interpolatable is an interface representing a game object whose rendering can be interpolated between its last
+ * two logic step positions by an InterpolatedRenderable.
+ * The center and dimensions are those of the game object, so a GameObject subclass only has to remember where its
+ * center was before the last logic step moved it.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public interface Interpolatable {
+
+    /**
+     * Gets the center of the object at the last logic step.
+     *
+     * @return the current center of the object.
+     */
+    Vector2 getCenter();
+
+    /**
+     * Gets the dimensions of the object.
+     *
+     * @return the dimensions of the object.
+     */
+    Vector2 getDimensions();
+
+    /**
+     * Gets the center of the object before the last logic step moved it.
+     *
+     * @return the center of the object before the last logic step.
+     */
+    Vector2 getPreviousCenter();
+}
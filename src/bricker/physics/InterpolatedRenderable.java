@@ -0,0 +1,68 @@
+package bricker.physics;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+
+/**
+ * InterpolatedRenderable class draws a moving object, such as a ball, a paddle or a falling heart, between its last
+ * two logic step positions.
+ * When the game logic runs at a fixed rate, a frame is usually rendered part way between two logic steps.
+ * This renderable wraps the object's own renderable and draws it at previous + (current - previous) * alpha, where
+ * alpha is the fraction of a step accumulated since the last step, so motion looks smooth at any display rate.
+ * Every object that can touch an interpolated object should be interpolated as well, so both are drawn from the
+ * same moment and a ball does not appear to sink into or hover off a paddle.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class InterpolatedRenderable implements Renderable {
+    private final Renderable renderable;
+    private final Interpolatable object;
+    private final FixedTimestep fixedTimestep;
+
+    /**
+     * Constructs an InterpolatedRenderable for the specified object.
+     *
+     * @param renderable    the Renderable drawing the object.
+     * @param object        the object whose positions are interpolated.
+     * @param fixedTimestep the FixedTimestep providing the interpolation factor.
+     */
+    public InterpolatedRenderable(Renderable renderable, Interpolatable object, FixedTimestep fixedTimestep) {
+        this.renderable = renderable;
+        this.object = object;
+        this.fixedTimestep = fixedTimestep;
+    }
+
+    /**
+     * Renders the wrapped renderable at the interpolated position of the object.
+     *
+     * @param g                     the graphics to draw on.
+     * @param topLeftCorner         the on-screen top-left corner of the object at the last logic step.
+     * @param dimensions            the on-screen dimensions of the object.
+     * @param rotation              the rotation of the renderable.
+     * @param isFlippedHorizontally whether the renderable is flipped horizontally.
+     * @param isFlippedVertically   whether the renderable is flipped vertically.
+     * @param opaqueness            the opaqueness of the renderable.
+     */
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions, double rotation,
+                       boolean isFlippedHorizontally, boolean isFlippedVertically, double opaqueness) {
+        // the offset back from the last step is computed in world coordinates and scaled to the on-screen size
+        float screenScale = dimensions.x() / object.getDimensions().x();
+        Vector2 offset = object.getPreviousCenter().subtract(object.getCenter())
+                .mult((1 - fixedTimestep.getAlpha()) * screenScale);
+        renderable.render(g, topLeftCorner.add(offset), dimensions, rotation, isFlippedHorizontally,
+                isFlippedVertically, opaqueness);
+    }
+
+    /**
+     * Updates the wrapped renderable.
+     *
+     * @param deltaTime the time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        renderable.update(deltaTime);
+    }
+}
@@ -0,0 +1,246 @@
+package bricker.physics;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * SweepAndPrune class finds the colliding pairs among the moving objects of the Bricker game, such as pucks and
+ * falling hearts, without checking every pair.
+ * The objects are kept sorted by the left edge of their bounds, and a sweep over the sorted objects only pairs
+ * objects whose horizontal extents overlap, before their vertical extents are compared. Objects move only a little
+ * between steps, so the order of the last step is almost right, and an insertion sort restores it in close to
+ * linear time. Like the engine, a pair is reported once when its objects start to overlap, and is reported again
+ * only after they separated. The overlapping pairs of a step are kept as a sorted array of pair keys, so finding
+ * the new pairs needs no allocation.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class SweepAndPrune {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ID_BITS = 32;
+
+    private final ContactListener contactListener;
+    private final Map<GameObject, Boolean> pendingRemovals = new IdentityHashMap<>();
+    private GameObject[] objects = new GameObject[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private float[] lefts = new float[INITIAL_CAPACITY];
+    private float[] rights = new float[INITIAL_CAPACITY];
+    private float[] tops = new float[INITIAL_CAPACITY];
+    private float[] bottoms = new float[INITIAL_CAPACITY];
+    private int size = 0;
+    private int nextId = 0;
+    private long[] overlappingPairs = new long[INITIAL_CAPACITY];
+    private int overlappingCount = 0;
+    private long[] previousOverlappingPairs = new long[INITIAL_CAPACITY];
+    private int previousOverlappingCount = 0;
+    private long lastCandidatePairs = 0;
+
+    /**
+     * ContactListener interface is notified when two objects start to overlap.
+     */
+    public interface ContactListener {
+        /**
+         * Handles two objects that started to overlap in the last step.
+         *
+         * @param first  the first object of the pair.
+         * @param second the second object of the pair.
+         * @param normal the unit axis along which the objects overlap the least, pointing from the second object
+         *               to the first one.
+         */
+        void onContactEnter(GameObject first, GameObject second, Vector2 normal);
+    }
+
+    /**
+     * Constructs a SweepAndPrune reporting new contacts to the specified listener.
+     *
+     * @param contactListener the listener notified of every pair that starts to overlap.
+     */
+    public SweepAndPrune(ContactListener contactListener) {
+        this.contactListener = contactListener;
+    }
+
+    /**
+     * Starts tracking an object. The object is placed at the end and moves to its sorted place on the next step.
+     *
+     * @param object the object to track.
+     */
+    public void add(GameObject object) {
+        if (size == objects.length) {
+            int capacity = objects.length * 2;
+            objects = Arrays.copyOf(objects, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            lefts = Arrays.copyOf(lefts, capacity);
+            rights = Arrays.copyOf(rights, capacity);
+            tops = Arrays.copyOf(tops, capacity);
+            bottoms = Arrays.copyOf(bottoms, capacity);
+        }
+        objects[size] = object;
+        ids[size] = nextId++;
+        size++;
+    }
+
+    /**
+     * Stops tracking an object. The object is dropped on the next step, together with every other removed object.
+     *
+     * @param object the object to stop tracking.
+     */
+    public void remove(GameObject object) {
+        pendingRemovals.put(object, Boolean.TRUE);
+    }
+
+    /**
+     * Sorts the tracked objects by their current bounds, finds the overlapping pairs and reports the pairs that
+     * started to overlap since the last step.
+     */
+    public void step() {
+        dropRemovedObjects();
+        for (int i = 0; i < size; i++) {
+            Vector2 topLeft = objects[i].getTopLeftCorner();
+            Vector2 dimensions = objects[i].getDimensions();
+            lefts[i] = topLeft.x();
+            rights[i] = topLeft.x() + dimensions.x();
+            tops[i] = topLeft.y();
+            bottoms[i] = topLeft.y() + dimensions.y();
+        }
+        insertionSort();
+
+        long[] swap = previousOverlappingPairs;
+        previousOverlappingPairs = overlappingPairs;
+        previousOverlappingCount = overlappingCount;
+        overlappingPairs = swap;
+        overlappingCount = 0;
+        long candidates = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size && lefts[j] < rights[i]; j++) {
+                candidates++;
+                if (tops[j] >= bottoms[i] || tops[i] >= bottoms[j] ||
+                        !objects[i].shouldCollideWith(objects[j]) || !objects[j].shouldCollideWith(objects[i])) {
+                    continue;
+                }
+                long pair = pairKey(ids[i], ids[j]);
+                if (Arrays.binarySearch(previousOverlappingPairs, 0, previousOverlappingCount, pair) < 0) {
+                    contactListener.onContactEnter(objects[i], objects[j], overlapNormal(i, j));
+                }
+                addOverlappingPair(pair);
+            }
+        }
+        Arrays.sort(overlappingPairs, 0, overlappingCount);
+        lastCandidatePairs = candidates;
+    }
+
+    /**
+     * Gets the number of pairs whose horizontal extents overlapped in the last step, which are the pairs the
+     * broadphase passed on to the vertical check.
+     *
+     * @return the number of candidate pairs of the last step.
+     */
+    public long getLastCandidatePairs() {
+        return lastCandidatePairs;
+    }
+
+    /**
+     * Gets the number of tracked objects.
+     *
+     * @return the number of tracked objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drops the removed objects in a single pass that keeps the order of the remaining objects.
+     */
+    private void dropRemovedObjects() {
+        if (pendingRemovals.isEmpty()) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!pendingRemovals.containsKey(objects[i])) {
+                objects[kept] = objects[i];
+                ids[kept] = ids[i];
+                kept++;
+            }
+        }
+        Arrays.fill(objects, kept, size, null);
+        size = kept;
+        pendingRemovals.clear();
+    }
+
+    /**
+     * Sorts the objects by the left edge of their bounds. The objects are almost sorted from the last step, so
+     * every object only moves a few places.
+     */
+    private void insertionSort() {
+        for (int i = 1; i < size; i++) {
+            GameObject object = objects[i];
+            int id = ids[i];
+            float left = lefts[i];
+            float right = rights[i];
+            float top = tops[i];
+            float bottom = bottoms[i];
+            int j = i - 1;
+            while (j >= 0 && lefts[j] > left) {
+                objects[j + 1] = objects[j];
+                ids[j + 1] = ids[j];
+                lefts[j + 1] = lefts[j];
+                rights[j + 1] = rights[j];
+                tops[j + 1] = tops[j];
+                bottoms[j + 1] = bottoms[j];
+                j--;
+            }
+            objects[j + 1] = object;
+            ids[j + 1] = id;
+            lefts[j + 1] = left;
+            rights[j + 1] = right;
+            tops[j + 1] = top;
+            bottoms[j + 1] = bottom;
+        }
+    }
+
+    /**
+     * Adds the key of a pair that overlaps in this step, growing the array of pair keys when it is full.
+     *
+     * @param pair the key of the pair.
+     */
+    private void addOverlappingPair(long pair) {
+        if (overlappingCount == overlappingPairs.length) {
+            overlappingPairs = Arrays.copyOf(overlappingPairs, overlappingPairs.length * 2);
+        }
+        overlappingPairs[overlappingCount++] = pair;
+    }
+
+    /**
+     * Finds the axis along which two overlapping objects overlap the least, which is the direction that separates
+     * them.
+     *
+     * @param first  the sorted index of the first object.
+     * @param second the sorted index of the second object.
+     * @return the unit axis pointing from the second object to the first one.
+     */
+    private Vector2 overlapNormal(int first, int second) {
+        float overlapX = Math.min(rights[first], rights[second]) - Math.max(lefts[first], lefts[second]);
+        float overlapY = Math.min(bottoms[first], bottoms[second]) - Math.max(tops[first], tops[second]);
+        if (overlapX < overlapY) {
+            return lefts[first] + rights[first] < lefts[second] + rights[second] ? Vector2.LEFT : Vector2.RIGHT;
+        }
+        return tops[first] + bottoms[first] < tops[second] + bottoms[second] ? Vector2.UP : Vector2.DOWN;
+    }
+
+    /**
+     * Combines the ids of two objects into a key identifying their pair.
+     *
+     * @param firstId  the id of the first object.
+     * @param secondId the id of the second object.
+     * @return the key of the pair, the same in whichever order the ids are given.
+     */
+    private static long pairKey(int firstId, int secondId) {
+        int low = Math.min(firstId, secondId);
+        int high = Math.max(firstId, secondId);
+        return ((long) high << ID_BITS) | (low & 0xFFFFFFFFL);
+    }
+}
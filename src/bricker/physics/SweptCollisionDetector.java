@@ -0,0 +1,336 @@
+package bricker.physics;
+
+import bricker.gameobjects.Ball;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SweptCollisionDetector class performs continuous (swept) collision detection for balls in the Bricker game.
+ * The engine only detects collisions between objects that already overlap at the end of a step, so a fast ball
+ * or a long step can carry a ball straight through a thin brick, wall or paddle. This class sweeps the ball's
+ * circle along its displacement and finds the earliest time of impact against the static and paddle obstacles,
+ * so the ball can be stopped at the contact point and the regular collision handling takes over.
+ * The obstacles of the indexed layer, which holds the bricks, are kept in a uniform grid, so a sweep only tests
+ * the obstacles in the cells covered by its bounds. The grid is built by indexObstacles and is told about removed
+ * obstacles, so it must be rebuilt after obstacles of the indexed layer are added or moved. The scanned layers
+ * hold the few walls and paddles, which move every step, so their objects are tested directly.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class SweptCollisionDetector {
+    /**
+     * The time of impact returned when the swept ball does not hit any obstacle during the step.
+     */
+    public static final float NO_IMPACT = 1f;
+
+    private final GameObjectCollection gameObjects;
+    private final float sweepThreshold;
+    private final float cellSize;
+    private final int gridCols;
+    private final int gridRows;
+    private final List<List<Obstacle>> cells;
+    private final Map<GameObject, Obstacle> indexedObstacles = new IdentityHashMap<>();
+    private final int indexedLayer;
+    private final int[] scannedLayers;
+    private int sweepStamp = 0;
+
+    /**
+     * Constructs a SweptCollisionDetector over the specified game objects.
+     *
+     * @param gameObjects     the collection of game objects holding the obstacles.
+     * @param sweepThreshold  the displacement length below which a step is short enough for discrete detection.
+     * @param worldDimensions the dimensions of the area covered by the grid. Obstacles outside it are kept in the
+     *                        cells at its border.
+     * @param cellSize        the side of a grid cell.
+     * @param indexedLayer    the layer whose objects are swept against through the grid.
+     * @param scannedLayers   the layers whose objects are swept against one by one.
+     */
+    public SweptCollisionDetector(GameObjectCollection gameObjects, float sweepThreshold, Vector2 worldDimensions,
+                                  float cellSize, int indexedLayer, int... scannedLayers) {
+        this.gameObjects = gameObjects;
+        this.sweepThreshold = sweepThreshold;
+        this.cellSize = cellSize;
+        this.gridCols = Math.max(1, (int) Math.ceil(worldDimensions.x() / cellSize));
+        this.gridRows = Math.max(1, (int) Math.ceil(worldDimensions.y() / cellSize));
+        this.cells = new ArrayList<>(gridCols * gridRows);
+        for (int i = 0; i < gridCols * gridRows; i++) {
+            cells.add(new ArrayList<>());
+        }
+        this.indexedLayer = indexedLayer;
+        this.scannedLayers = scannedLayers;
+    }
+
+    /**
+     * Rebuilds the grid from the objects currently in the indexed layer, at their current positions.
+     */
+    public void indexObstacles() {
+        for (List<Obstacle> cell : cells) {
+            cell.clear();
+        }
+        indexedObstacles.clear();
+        for (GameObject object : gameObjects.objectsInLayer(indexedLayer)) {
+            Vector2 topLeft = object.getTopLeftCorner();
+            Vector2 dimensions = object.getDimensions();
+            Obstacle obstacle = new Obstacle(object, cellCol(topLeft.x()), cellRow(topLeft.y()),
+                    cellCol(topLeft.x() + dimensions.x()), cellRow(topLeft.y() + dimensions.y()));
+            indexedObstacles.put(object, obstacle);
+            for (int row = obstacle.minRow; row <= obstacle.maxRow; row++) {
+                for (int col = obstacle.minCol; col <= obstacle.maxCol; col++) {
+                    cells.get(row * gridCols + col).add(obstacle);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes an object from the grid, once it was removed from the indexed layer. Objects that are not in the
+     * grid are ignored.
+     *
+     * @param object the removed object.
+     */
+    public void removeObstacle(GameObject object) {
+        Obstacle obstacle = indexedObstacles.remove(object);
+        if (obstacle == null) {
+            return;
+        }
+        for (int row = obstacle.minRow; row <= obstacle.maxRow; row++) {
+            for (int col = obstacle.minCol; col <= obstacle.maxCol; col++) {
+                cells.get(row * gridCols + col).remove(obstacle);
+            }
+        }
+    }
+
+    /**
+     * Finds the earliest time of impact of a ball moving from the specified center along the displacement.
+     * Obstacles the ball already overlaps at the start, other balls, and objects that should not collide with
+     * the ball are ignored, since the engine handles them.
+     *
+     * @param mover        the ball being swept.
+     * @param startCenter  the center of the ball at the start of the step.
+     * @param displacement the displacement of the ball during the step.
+     * @return the fraction of the displacement at which the ball first touches an obstacle, or NO_IMPACT.
+     */
+    public float timeOfImpact(GameObject mover, Vector2 startCenter, Vector2 displacement) {
+        if (displacement.magnitude() < sweepThreshold) {
+            return NO_IMPACT;
+        }
+        float radius = mover.getDimensions().x() / 2;
+        float startX = startCenter.x();
+        float startY = startCenter.y();
+        float dirX = displacement.x();
+        float dirY = displacement.y();
+        float sweepLeft = Math.min(startX, startX + dirX) - radius;
+        float sweepRight = Math.max(startX, startX + dirX) + radius;
+        float sweepTop = Math.min(startY, startY + dirY) - radius;
+        float sweepBottom = Math.max(startY, startY + dirY) + radius;
+
+        float earliest = NO_IMPACT;
+        sweepStamp++;
+        int maxRow = cellRow(sweepBottom);
+        int maxCol = cellCol(sweepRight);
+        for (int row = cellRow(sweepTop); row <= maxRow; row++) {
+            for (int col = cellCol(sweepLeft); col <= maxCol; col++) {
+                for (Obstacle obstacle : cells.get(row * gridCols + col)) {
+                    // an obstacle spanning several cells is tested once per sweep
+                    if (obstacle.sweepStamp == sweepStamp) {
+                        continue;
+                    }
+                    obstacle.sweepStamp = sweepStamp;
+                    float time = sweepAgainstObstacle(mover, obstacle.object, startX, startY, dirX, dirY, radius,
+                            sweepLeft, sweepTop, sweepRight, sweepBottom);
+                    if (time < earliest) {
+                        earliest = time;
+                    }
+                }
+            }
+        }
+        for (int layer : scannedLayers) {
+            for (GameObject obstacle : gameObjects.objectsInLayer(layer)) {
+                float time = sweepAgainstObstacle(mover, obstacle, startX, startY, dirX, dirY, radius, sweepLeft,
+                        sweepTop, sweepRight, sweepBottom);
+                if (time < earliest) {
+                    earliest = time;
+                }
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Sweeps a ball against a single obstacle, skipping obstacles the ball does not collide with and obstacles
+     * outside the bounds of the sweep.
+     *
+     * @param mover       the ball being swept.
+     * @param obstacle    the obstacle to sweep against.
+     * @param startX      the x coordinate of the ball center at the start of the step.
+     * @param startY      the y coordinate of the ball center at the start of the step.
+     * @param dirX        the x displacement of the ball during the step.
+     * @param dirY        the y displacement of the ball during the step.
+     * @param radius      the radius of the ball.
+     * @param sweepLeft   the left edge of the bounds of the sweep.
+     * @param sweepTop    the top edge of the bounds of the sweep.
+     * @param sweepRight  the right edge of the bounds of the sweep.
+     * @param sweepBottom the bottom edge of the bounds of the sweep.
+     * @return the fraction of the displacement at which the ball touches the obstacle, or NO_IMPACT.
+     */
+    private static float sweepAgainstObstacle(GameObject mover, GameObject obstacle, float startX, float startY,
+                                              float dirX, float dirY, float radius, float sweepLeft,
+                                              float sweepTop, float sweepRight, float sweepBottom) {
+        if (obstacle == mover || obstacle instanceof Ball || !mover.shouldCollideWith(obstacle) ||
+                !obstacle.shouldCollideWith(mover)) {
+            return NO_IMPACT;
+        }
+        Vector2 topLeft = obstacle.getTopLeftCorner();
+        Vector2 dimensions = obstacle.getDimensions();
+        float left = topLeft.x();
+        float top = topLeft.y();
+        float right = left + dimensions.x();
+        float bottom = top + dimensions.y();
+        if (right < sweepLeft || left > sweepRight || bottom < sweepTop || top > sweepBottom) {
+            return NO_IMPACT;
+        }
+        return sweepCircleAgainstBox(startX, startY, dirX, dirY, radius, left, top, right, bottom);
+    }
+
+    /**
+     * Gets the grid column holding an x coordinate, clamped to the grid.
+     *
+     * @param x the x coordinate.
+     * @return the column of the cell holding the coordinate.
+     */
+    private int cellCol(float x) {
+        return Math.max(0, Math.min(gridCols - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    /**
+     * Gets the grid row holding a y coordinate, clamped to the grid.
+     *
+     * @param y the y coordinate.
+     * @return the row of the cell holding the coordinate.
+     */
+    private int cellRow(float y) {
+        return Math.max(0, Math.min(gridRows - 1, (int) Math.floor(y / cellSize)));
+    }
+
+    /**
+     * Sweeps a circle against an axis aligned box by casting its center against the box expanded by the radius,
+     * with rounded corners.
+     *
+     * @param startX the x coordinate of the circle center at the start of the step.
+     * @param startY the y coordinate of the circle center at the start of the step.
+     * @param dirX   the x displacement of the circle during the step.
+     * @param dirY   the y displacement of the circle during the step.
+     * @param radius the radius of the circle.
+     * @param left   the left edge of the box.
+     * @param top    the top edge of the box.
+     * @param right  the right edge of the box.
+     * @param bottom the bottom edge of the box.
+     * @return the fraction of the displacement at which the circle touches the box, or NO_IMPACT.
+     */
+    static float sweepCircleAgainstBox(float startX, float startY, float dirX, float dirY, float radius,
+                                       float left, float top, float right, float bottom) {
+        float enter = Float.NEGATIVE_INFINITY;
+        float exit = Float.POSITIVE_INFINITY;
+        if (dirX == 0) {
+            if (startX < left - radius || startX > right + radius) {
+                return NO_IMPACT;
+            }
+        } else {
+            float near = (left - radius - startX) / dirX;
+            float far = (right + radius - startX) / dirX;
+            enter = Math.max(enter, Math.min(near, far));
+            exit = Math.min(exit, Math.max(near, far));
+        }
+        if (dirY == 0) {
+            if (startY < top - radius || startY > bottom + radius) {
+                return NO_IMPACT;
+            }
+        } else {
+            float near = (top - radius - startY) / dirY;
+            float far = (bottom + radius - startY) / dirY;
+            enter = Math.max(enter, Math.min(near, far));
+            exit = Math.min(exit, Math.max(near, far));
+        }
+        // overlapping at the start, missing the box, or reaching it only after this step
+        if (enter > exit || enter < 0 || enter >= NO_IMPACT) {
+            return NO_IMPACT;
+        }
+
+        float hitX = startX + dirX * enter;
+        float hitY = startY + dirY * enter;
+        boolean outsideX = hitX < left || hitX > right;
+        boolean outsideY = hitY < top || hitY > bottom;
+        if (outsideX && outsideY) {
+            // the hit lies in a corner region of the expanded box, so test against the rounded corner
+            float cornerX = hitX < left ? left : right;
+            float cornerY = hitY < top ? top : bottom;
+            return sweepCircleAgainstPoint(startX, startY, dirX, dirY, radius, cornerX, cornerY);
+        }
+        return enter;
+    }
+
+    /**
+     * Sweeps a circle against a single point, used for the rounded corners of a box.
+     *
+     * @param startX  the x coordinate of the circle center at the start of the step.
+     * @param startY  the y coordinate of the circle center at the start of the step.
+     * @param dirX    the x displacement of the circle during the step.
+     * @param dirY    the y displacement of the circle during the step.
+     * @param radius  the radius of the circle.
+     * @param pointX  the x coordinate of the point.
+     * @param pointY  the y coordinate of the point.
+     * @return the fraction of the displacement at which the circle touches the point, or NO_IMPACT.
+     */
+    private static float sweepCircleAgainstPoint(float startX, float startY, float dirX, float dirY,
+                                                 float radius, float pointX, float pointY) {
+        float offsetX = startX - pointX;
+        float offsetY = startY - pointY;
+        float a = dirX * dirX + dirY * dirY;
+        float b = offsetX * dirX + offsetY * dirY;
+        float c = offsetX * offsetX + offsetY * offsetY - radius * radius;
+        if (c <= 0 || b >= 0) {
+            return NO_IMPACT;
+        }
+        float discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return NO_IMPACT;
+        }
+        float time = (-b - (float) Math.sqrt(discriminant)) / a;
+        return time >= 0 && time < NO_IMPACT ? time : NO_IMPACT;
+    }
+
+    /**
+     * Obstacle class is an object kept in the grid, with the range of cells covering it.
+     */
+    private static class Obstacle {
+        private final GameObject object;
+        private final int minCol;
+        private final int minRow;
+        private final int maxCol;
+        private final int maxRow;
+        private int sweepStamp = 0;
+
+        /**
+         * Constructs an Obstacle covering the specified range of cells.
+         *
+         * @param object the object in the grid.
+         * @param minCol the first column covering the object.
+         * @param minRow the first row covering the object.
+         * @param maxCol the last column covering the object.
+         * @param maxRow the last row covering the object.
+         */
+        Obstacle(GameObject object, int minCol, int minRow, int maxCol, int maxRow) {
+            this.object = object;
+            this.minCol = minCol;
+            this.minRow = minRow;
+            this.maxCol = maxCol;
+            this.maxRow = maxRow;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package bricker.rendering;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * AtlasRegionRenderable class draws a single region of a texture atlas, scaled to the object it renders.
+ * All the regions of an atlas draw from the same image, so rendering many different sprites never switches the
+ * source image. Rendering a region that is neither rotated nor translucent only draws the region; rotation and
+ * opaqueness change the graphics state for the draw and restore it afterwards.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AtlasRegionRenderable implements Renderable {
+    private final BufferedImage atlasImage;
+    private final int sourceX1;
+    private final int sourceY1;
+    private final int sourceX2;
+    private final int sourceY2;
+
+    /**
+     * Constructs an AtlasRegionRenderable drawing the specified region of an atlas image.
+     *
+     * @param atlasImage the atlas image.
+     * @param region     the region of the sprite in the atlas image.
+     */
+    public AtlasRegionRenderable(BufferedImage atlasImage, Rectangle region) {
+        this.atlasImage = atlasImage;
+        this.sourceX1 = region.x;
+        this.sourceY1 = region.y;
+        this.sourceX2 = region.x + region.width;
+        this.sourceY2 = region.y + region.height;
+    }
+
+    /**
+     * Renders the region into the specified rectangle.
+     *
+     * @param graphics              the graphics to render with.
+     * @param topLeftCorner         the top-left corner of the rendered rectangle.
+     * @param dimensions            the dimensions of the rendered rectangle.
+     * @param rotation              the rotation of the rendered rectangle around its center, in degrees.
+     * @param isFlippedHorizontally whether the region is mirrored horizontally.
+     * @param isFlippedVertically   whether the region is mirrored vertically.
+     * @param opaqueness            the opaqueness of the rendered region, between 0 and 1.
+     */
+    @Override
+    public void render(Graphics2D graphics, Vector2 topLeftCorner, Vector2 dimensions, double rotation,
+                       boolean isFlippedHorizontally, boolean isFlippedVertically, double opaqueness) {
+        int left = Math.round(topLeftCorner.x());
+        int top = Math.round(topLeftCorner.y());
+        int right = Math.round(topLeftCorner.x() + dimensions.x());
+        int bottom = Math.round(topLeftCorner.y() + dimensions.y());
+        int destinationX1 = isFlippedHorizontally ? right : left;
+        int destinationX2 = isFlippedHorizontally ? left : right;
+        int destinationY1 = isFlippedVertically ? bottom : top;
+        int destinationY2 = isFlippedVertically ? top : bottom;
+        if (rotation == 0 && opaqueness >= 1) {
+            graphics.drawImage(atlasImage, destinationX1, destinationY1, destinationX2, destinationY2, sourceX1,
+                    sourceY1, sourceX2, sourceY2, null);
+            return;
+        }
+        AffineTransform savedTransform = graphics.getTransform();
+        Composite savedComposite = graphics.getComposite();
+        if (rotation != 0) {
+            graphics.rotate(Math.toRadians(rotation), topLeftCorner.x() + dimensions.x() / 2,
+                    topLeftCorner.y() + dimensions.y() / 2);
+        }
+        if (opaqueness < 1) {
+            graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                    (float) Math.max(0, opaqueness)));
+        }
+        graphics.drawImage(atlasImage, destinationX1, destinationY1, destinationX2, destinationY2, sourceX1,
+                sourceY1, sourceX2, sourceY2, null);
+        graphics.setComposite(savedComposite);
+        graphics.setTransform(savedTransform);
+    }
+}
@@ -0,0 +1,104 @@
+package bricker.rendering;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * ImageDiff class compares a rendered frame with a golden image pixel by pixel.
+ * Two pixels match when none of their color channels differ by more than the tolerance, which absorbs the small
+ * rounding differences of scaling and blending. The comparison counts the mismatching pixels, keeps the largest
+ * channel difference, and paints a diff image where matching pixels are dimmed and mismatching pixels are red.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class ImageDiff {
+    private static final int CHANNEL_MASK = 0xFF;
+    private static final int MISMATCH_COLOR = 0xFF0000;
+    private static final int DIM_SHIFT = 2;
+    private static final int DIM_MASK = 0x3F3F3F;
+
+    private final int mismatchedPixels;
+    private final int maxChannelDelta;
+    private final BufferedImage diffImage;
+
+    /**
+     * Compares two images.
+     *
+     * @param actual           the rendered image.
+     * @param expected         the golden image.
+     * @param channelTolerance the largest tolerated difference of a single color channel.
+     */
+    public ImageDiff(BufferedImage actual, BufferedImage expected, int channelTolerance) {
+        int width = Math.max(actual.getWidth(), expected.getWidth());
+        int height = Math.max(actual.getHeight(), expected.getHeight());
+        diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int mismatches = 0;
+        int maxDelta = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean isInBoth = x < actual.getWidth() && y < actual.getHeight() && x < expected.getWidth() &&
+                        y < expected.getHeight();
+                int delta = isInBoth ? channelDelta(actual.getRGB(x, y), expected.getRGB(x, y)) : CHANNEL_MASK;
+                maxDelta = Math.max(maxDelta, delta);
+                if (delta > channelTolerance) {
+                    mismatches++;
+                    diffImage.setRGB(x, y, MISMATCH_COLOR);
+                } else {
+                    diffImage.setRGB(x, y, (expected.getRGB(x, y) >> DIM_SHIFT) & DIM_MASK);
+                }
+            }
+        }
+        this.mismatchedPixels = mismatches;
+        this.maxChannelDelta = maxDelta;
+    }
+
+    /**
+     * Checks whether the images match within the tolerance.
+     *
+     * @return true if no pixel mismatches, false otherwise.
+     */
+    public boolean isMatch() {
+        return mismatchedPixels == 0;
+    }
+
+    /**
+     * Gets the number of mismatching pixels.
+     *
+     * @return the number of mismatching pixels.
+     */
+    public int getMismatchedPixels() {
+        return mismatchedPixels;
+    }
+
+    /**
+     * Gets the largest difference of a single color channel between the images.
+     *
+     * @return the largest channel difference.
+     */
+    public int getMaxChannelDelta() {
+        return maxChannelDelta;
+    }
+
+    /**
+     * Gets the diff image, where mismatching pixels are red.
+     *
+     * @return the diff image.
+     */
+    public BufferedImage getDiffImage() {
+        return diffImage;
+    }
+
+    /**
+     * Computes the largest difference of a single color channel between two pixels.
+     *
+     * @param first  the first pixel.
+     * @param second the second pixel.
+     * @return the largest channel difference.
+     */
+    private static int channelDelta(int first, int second) {
+        int delta = 0;
+        for (int shift = 0; shift < Integer.SIZE - Byte.SIZE; shift += Byte.SIZE) {
+            delta = Math.max(delta, Math.abs(((first >> shift) & CHANNEL_MASK) - ((second >> shift) & CHANNEL_MASK)));
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,103 @@
+package bricker.rendering;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.components.CoordinateSpace;
+import danogl.gui.rendering.Camera;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * OffscreenRenderer class draws the frames of a game into an image instead of a window, so rendering can be
+ * measured and checked on machines without a display.
+ * A frame is drawn like the window draws it: the layers in the specified order, and in every layer the objects in
+ * their collection order, each through its own renderable. Objects in world coordinates are moved and scaled by the
+ * camera when there is one, and objects in camera coordinates are drawn where they are. The frame image is reused
+ * between frames, and the time spent on every layer of the last frame is kept, to tell which part of a frame is
+ * expensive.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class OffscreenRenderer {
+    private final Vector2 windowDimensions;
+    private final int[] layers;
+    private final long[] layerNanos;
+    private final BufferedImage frame;
+
+    /**
+     * Constructs an OffscreenRenderer drawing the specified layers of a game.
+     *
+     * @param windowDimensions the dimensions of the frame.
+     * @param layers           the layers to draw, from the bottom one up.
+     */
+    public OffscreenRenderer(Vector2 windowDimensions, int... layers) {
+        this.windowDimensions = windowDimensions;
+        this.layers = layers.clone();
+        this.layerNanos = new long[layers.length];
+        this.frame = new BufferedImage((int) windowDimensions.x(), (int) windowDimensions.y(),
+                BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Draws a frame of the game.
+     *
+     * @param gameObjects the objects of the game, which are replaced whenever a game restarts.
+     * @param camera the camera of the game, or null if the world is drawn as is.
+     * @return the frame image, which is drawn over by the next frame.
+     */
+    public BufferedImage render(GameObjectCollection gameObjects, Camera camera) {
+        Graphics2D graphics = frame.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, frame.getWidth(), frame.getHeight());
+        Vector2 cameraTopLeft = Vector2.ZERO;
+        Vector2 cameraScale = Vector2.ONES;
+        if (camera != null) {
+            cameraTopLeft = camera.getTopLeftCorner();
+            cameraScale = new Vector2(windowDimensions.x() / camera.getDimensions().x(),
+                    windowDimensions.y() / camera.getDimensions().y());
+        }
+        for (int i = 0; i < layers.length; i++) {
+            long start = System.nanoTime();
+            for (GameObject object : gameObjects.objectsInLayer(layers[i])) {
+                Renderable renderable = object.renderer().getRenderable();
+                if (renderable == null) {
+                    continue;
+                }
+                Vector2 topLeft = object.getTopLeftCorner();
+                Vector2 dimensions = object.getDimensions();
+                if (camera != null && object.getCoordinateSpace() == CoordinateSpace.WORLD_COORDINATES) {
+                    topLeft = new Vector2((topLeft.x() - cameraTopLeft.x()) * cameraScale.x(),
+                            (topLeft.y() - cameraTopLeft.y()) * cameraScale.y());
+                    dimensions = new Vector2(dimensions.x() * cameraScale.x(), dimensions.y() * cameraScale.y());
+                }
+                renderable.render(graphics, topLeft, dimensions, object.renderer().getRenderableAngle(), false,
+                        false, 1);
+            }
+            layerNanos[i] = System.nanoTime() - start;
+        }
+        graphics.dispose();
+        return frame;
+    }
+
+    /**
+     * Gets the time spent on drawing a layer in the last frame.
+     *
+     * @param layerIndex the index of the layer, in the order the layers were given.
+     * @return the drawing time of the layer in nanoseconds.
+     */
+    public long getLayerNanos(int layerIndex) {
+        return layerNanos[layerIndex];
+    }
+
+    /**
+     * Gets the number of layers the renderer draws.
+     *
+     * @return the number of layers.
+     */
+    public int getLayerCount() {
+        return layers.length;
+    }
+}
@@ -0,0 +1,209 @@
+package bricker.rendering;
+
+import danogl.gui.rendering.Renderable;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TextureAtlas class packs the sprite images of the Bricker game into a single image at startup.
+ * Images are added by path, each either opaque or with the color of its top-left pixel treated as transparent,
+ * the way the image reader of the game reads them. Packing places the images on shelves of a single atlas image,
+ * tallest first, with a pixel of padding around each image so scaled sprites do not bleed into their neighbours.
+ * After packing, every image is available as an AtlasRegionRenderable drawing its region of the shared atlas.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class TextureAtlas {
+    private static final int PADDING = 1;
+    private static final int TRANSPARENT_PIXEL = 0;
+    private static final int RGB_MASK = 0xFFFFFF;
+
+    private final int maxWidth;
+    private final List<String> keys = new ArrayList<>();
+    private final List<BufferedImage> images = new ArrayList<>();
+    private final Map<String, Renderable> regions = new HashMap<>();
+    private BufferedImage atlasImage;
+
+    /**
+     * Constructs an empty TextureAtlas whose image is at most the specified width.
+     *
+     * @param maxWidth the maximum width of the atlas image.
+     */
+    public TextureAtlas(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    /**
+     * Reads an image and adds it to the images to pack. Images must be added before the atlas is packed.
+     *
+     * @param path                      the path of the image file, on disk or on the class path.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @throws IOException if the image cannot be read.
+     */
+    public void add(String path, boolean isTopLeftPixelTransparent) throws IOException {
+        add(path, isTopLeftPixelTransparent, toArgb(readImage(path), isTopLeftPixelTransparent));
+    }
+
+    /**
+     * Adds an image that was already read and converted to the images to pack.
+     *
+     * @param path                      the path the image is found by.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel of the image is transparent.
+     * @param image                     the ARGB image to pack.
+     */
+    public void add(String path, boolean isTopLeftPixelTransparent, BufferedImage image) {
+        String key = key(path, isTopLeftPixelTransparent);
+        if (atlasImage != null) {
+            throw new IllegalStateException("The atlas is already packed");
+        }
+        if (image.getWidth() + 2 * PADDING > maxWidth) {
+            throw new IllegalArgumentException("The image " + key + " is wider than the atlas");
+        }
+        keys.add(key);
+        images.add(image);
+    }
+
+    /**
+     * Packs the added images into the atlas image and creates the renderable of each region.
+     */
+    public void pack() {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < images.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt((Integer i) -> images.get(i).getHeight()).reversed());
+        Rectangle[] placements = new Rectangle[images.size()];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        int width = 0;
+        for (int index : order) {
+            BufferedImage image = images.get(index);
+            int cellWidth = image.getWidth() + 2 * PADDING;
+            if (shelfX + cellWidth > maxWidth) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            placements[index] = new Rectangle(shelfX + PADDING, shelfY + PADDING, image.getWidth(),
+                    image.getHeight());
+            shelfX += cellWidth;
+            shelfHeight = Math.max(shelfHeight, image.getHeight() + 2 * PADDING);
+            width = Math.max(width, shelfX);
+        }
+        atlasImage = new BufferedImage(Math.max(width, 1), Math.max(shelfY + shelfHeight, 1),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = atlasImage.createGraphics();
+        for (int i = 0; i < images.size(); i++) {
+            graphics.drawImage(images.get(i), placements[i].x, placements[i].y, null);
+        }
+        graphics.dispose();
+        for (int i = 0; i < images.size(); i++) {
+            regions.put(keys.get(i), new AtlasRegionRenderable(atlasImage, placements[i]));
+        }
+        images.clear();
+    }
+
+    /**
+     * Gets the renderable of a packed image.
+     *
+     * @param path                      the path the image was added by.
+     * @param isTopLeftPixelTransparent whether the image was added with its top-left pixel color transparent.
+     * @return the renderable drawing the image's region of the atlas, or null if the image is not in the atlas.
+     */
+    public Renderable region(String path, boolean isTopLeftPixelTransparent) {
+        return regions.get(key(path, isTopLeftPixelTransparent));
+    }
+
+    /**
+     * Gets the packed atlas image.
+     *
+     * @return the atlas image, or null if the atlas is not packed yet.
+     */
+    public BufferedImage getAtlasImage() {
+        return atlasImage;
+    }
+
+    /**
+     * Gets the number of packed images.
+     *
+     * @return the number of regions of the atlas.
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Converts an image to the atlas pixel format, treating the color of its top-left pixel as transparent if
+     * requested.
+     *
+     * @param image                     the image to convert.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @return the converted image.
+     */
+    public static BufferedImage toArgb(BufferedImage image, boolean isTopLeftPixelTransparent) {
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = converted.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        if (isTopLeftPixelTransparent) {
+            int transparentColor = converted.getRGB(0, 0) & RGB_MASK;
+            for (int y = 0; y < converted.getHeight(); y++) {
+                for (int x = 0; x < converted.getWidth(); x++) {
+                    if ((converted.getRGB(x, y) & RGB_MASK) == transparentColor) {
+                        converted.setRGB(x, y, TRANSPARENT_PIXEL);
+                    }
+                }
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Reads an image from disk, or from the class path when there is no such file.
+     *
+     * @param path the path of the image.
+     * @return the image.
+     * @throws IOException if the image cannot be read.
+     */
+    public static BufferedImage readImage(String path) throws IOException {
+        File file = new File(path);
+        BufferedImage image;
+        if (file.exists()) {
+            image = ImageIO.read(file);
+        } else {
+            try (InputStream stream = TextureAtlas.class.getClassLoader().getResourceAsStream(path)) {
+                if (stream == null) {
+                    throw new IOException("Image not found: " + path);
+                }
+                image = ImageIO.read(stream);
+            }
+        }
+        if (image == null) {
+            throw new IOException("Unsupported image format: " + path);
+        }
+        return image;
+    }
+
+    /**
+     * Builds the key of an image read with the specified transparency.
+     *
+     * @param path                      the path of the image.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @return the key of the image.
+     */
+    private static String key(String path, boolean isTopLeftPixelTransparent) {
+        return isTopLeftPixelTransparent ? path + "#transparent" : path;
+    }
+}
@@ -0,0 +1,244 @@
+package bricker.state;
+
+import danogl.GameObject;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameStateSnapshot class holds a copy of the state of the Bricker game at the end of a single logic step: the
+ * positions of the ball, the pucks and the paddle, the velocities of the ball and the pucks, which bricks are still
+ * alive, and the values shown on the UI.
+ * Snapshots are written by the game thread and published through a SnapshotBuffer, and a published snapshot is
+ * never written again while a reader holds it, so it can be read from another thread without locking.
+ * The arrays of a snapshot only grow, so writing a snapshot does not allocate once it has reached the size of
+ * the game.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class GameStateSnapshot {
+    private static final int INITIAL_PUCK_CAPACITY = 16;
+    /*
+     * The values kept for every puck: the coordinates of its center and of its velocity.
+     */
+    private static final int PUCK_FIELDS = 4;
+    private long tick;
+    private int lives;
+    private int brickCount;
+    private float ballX;
+    private float ballY;
+    private float ballVelocityX;
+    private float ballVelocityY;
+    private float paddleX;
+    private float[] puckStates = new float[INITIAL_PUCK_CAPACITY * PUCK_FIELDS];
+    private int puckCount;
+    private long[] brickAliveBits = new long[0];
+    private int brickAliveWords;
+
+    /**
+     * Writes the scalar values of the game state.
+     *
+     * @param tick          the number of the logic step.
+     * @param lives         the number of lives left.
+     * @param brickCount    the number of bricks left.
+     * @param ballX         the x coordinate of the ball's center.
+     * @param ballY         the y coordinate of the ball's center.
+     * @param ballVelocityX the x coordinate of the ball's velocity.
+     * @param ballVelocityY the y coordinate of the ball's velocity.
+     * @param paddleX       the x coordinate of the paddle's center.
+     */
+    public void write(long tick, int lives, int brickCount, float ballX, float ballY, float ballVelocityX,
+                      float ballVelocityY, float paddleX) {
+        this.tick = tick;
+        this.lives = lives;
+        this.brickCount = brickCount;
+        this.ballX = ballX;
+        this.ballY = ballY;
+        this.ballVelocityX = ballVelocityX;
+        this.ballVelocityY = ballVelocityY;
+        this.paddleX = paddleX;
+    }
+
+    /**
+     * Writes the centers and velocities of the live pucks.
+     *
+     * @param pucks the live pucks.
+     */
+    public void writePucks(List<GameObject> pucks) {
+        puckCount = pucks.size();
+        if (puckStates.length < puckCount * PUCK_FIELDS) {
+            puckStates = new float[Math.max(puckCount * PUCK_FIELDS, puckStates.length * 2)];
+        }
+        for (int i = 0; i < puckCount; i++) {
+            GameObject puck = pucks.get(i);
+            puckStates[i * PUCK_FIELDS] = puck.getCenter().x();
+            puckStates[i * PUCK_FIELDS + 1] = puck.getCenter().y();
+            puckStates[i * PUCK_FIELDS + 2] = puck.getVelocity().x();
+            puckStates[i * PUCK_FIELDS + 3] = puck.getVelocity().y();
+        }
+    }
+
+    /**
+     * Writes the alive state of the bricks, one bit per brick in row-major order.
+     *
+     * @param aliveBits the bits of the alive bricks.
+     */
+    public void writeBrickAliveBits(long[] aliveBits) {
+        if (brickAliveBits.length < aliveBits.length) {
+            brickAliveBits = Arrays.copyOf(brickAliveBits, aliveBits.length);
+        }
+        System.arraycopy(aliveBits, 0, brickAliveBits, 0, aliveBits.length);
+        brickAliveWords = aliveBits.length;
+    }
+
+    /**
+     * Gets the number of the logic step the snapshot was taken at.
+     *
+     * @return the tick of the snapshot.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of lives left.
+     *
+     * @return the number of lives.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets the number of bricks left.
+     *
+     * @return the number of bricks.
+     */
+    public int getBrickCount() {
+        return brickCount;
+    }
+
+    /**
+     * Gets the x coordinate of the ball's center.
+     *
+     * @return the ball's x coordinate.
+     */
+    public float getBallX() {
+        return ballX;
+    }
+
+    /**
+     * Gets the y coordinate of the ball's center.
+     *
+     * @return the ball's y coordinate.
+     */
+    public float getBallY() {
+        return ballY;
+    }
+
+    /**
+     * Gets the x coordinate of the ball's velocity.
+     *
+     * @return the x coordinate of the ball's velocity.
+     */
+    public float getBallVelocityX() {
+        return ballVelocityX;
+    }
+
+    /**
+     * Gets the y coordinate of the ball's velocity.
+     *
+     * @return the y coordinate of the ball's velocity.
+     */
+    public float getBallVelocityY() {
+        return ballVelocityY;
+    }
+
+    /**
+     * Gets the x coordinate of the paddle's center.
+     *
+     * @return the paddle's x coordinate.
+     */
+    public float getPaddleX() {
+        return paddleX;
+    }
+
+    /**
+     * Gets the number of live pucks.
+     *
+     * @return the number of pucks.
+     */
+    public int getPuckCount() {
+        return puckCount;
+    }
+
+    /**
+     * Gets the x coordinate of a puck's center.
+     *
+     * @param index the index of the puck.
+     * @return the puck's x coordinate.
+     */
+    public float getPuckX(int index) {
+        return puckStates[index * PUCK_FIELDS];
+    }
+
+    /**
+     * Gets the y coordinate of a puck's center.
+     *
+     * @param index the index of the puck.
+     * @return the puck's y coordinate.
+     */
+    public float getPuckY(int index) {
+        return puckStates[index * PUCK_FIELDS + 1];
+    }
+
+    /**
+     * Gets the x coordinate of a puck's velocity.
+     *
+     * @param index the index of the puck.
+     * @return the x coordinate of the puck's velocity.
+     */
+    public float getPuckVelocityX(int index) {
+        return puckStates[index * PUCK_FIELDS + 2];
+    }
+
+    /**
+     * Gets the y coordinate of a puck's velocity.
+     *
+     * @param index the index of the puck.
+     * @return the y coordinate of the puck's velocity.
+     */
+    public float getPuckVelocityY(int index) {
+        return puckStates[index * PUCK_FIELDS + 3];
+    }
+
+    /**
+     * Checks whether a brick is still alive.
+     *
+     * @param brickIndex the row-major index of the brick.
+     * @return true if the brick is alive, false otherwise.
+     */
+    public boolean isBrickAlive(int brickIndex) {
+        int word = brickIndex >>> 6;
+        return word < brickAliveWords && (brickAliveBits[word] & (1L << brickIndex)) != 0;
+    }
+
+    /**
+     * Gets the number of 64-bit words of the brick alive bits.
+     *
+     * @return the number of words of the brick alive bits.
+     */
+    public int getBrickAliveWordCount() {
+        return brickAliveWords;
+    }
+
+    /**
+     * Gets a 64-bit word of the brick alive bits, holding the bits of 64 consecutive bricks.
+     *
+     * @param word the index of the word.
+     * @return the word of the brick alive bits.
+     */
+    public long getBrickAliveWord(int word) {
+        return brickAliveBits[word];
+    }
+}
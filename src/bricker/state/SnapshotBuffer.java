@@ -0,0 +1,51 @@
+package bricker.state;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SnapshotBuffer class passes GameStateSnapshots from the game thread to a single reader on another thread.
+ * The game writes into its back snapshot and publishes it, and the reader takes the latest published snapshot
+ * as its front snapshot. A third snapshot sits between the two, so publishing never waits for the reader and the
+ * reader never sees a snapshot that is being written: the front and back snapshots are double buffered, and the
+ * exchange between them is a single atomic swap.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class SnapshotBuffer {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH_FLAG = 0b100;
+    private final GameStateSnapshot[] snapshots = {new GameStateSnapshot(), new GameStateSnapshot(),
+            new GameStateSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Returns the snapshot the game thread writes the next state into.
+     *
+     * @return the back snapshot.
+     */
+    public GameStateSnapshot backSnapshot() {
+        return snapshots[back];
+    }
+
+    /**
+     * Publishes the back snapshot as the latest state. Called by the game thread after writing the snapshot.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH_FLAG) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published snapshot. Called by the single reader thread; the returned snapshot stays
+     * unchanged until the reader calls this method again.
+     *
+     * @return the latest published snapshot.
+     */
+    public GameStateSnapshot latest() {
+        if ((middle.get() & FRESH_FLAG) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return snapshots[front];
+    }
+}
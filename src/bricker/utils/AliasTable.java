@@ -0,0 +1,97 @@
+package bricker.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * AliasTable class samples an index from a fixed discrete distribution in constant time, using Vose's alias
+ * method.
+ * The table has one column per outcome, each holding the probability of keeping its own outcome and the alias
+ * outcome taken otherwise. A sample draws a single random number: its integer part chooses the column and its
+ * fraction decides between the column's outcome and its alias. Building the table takes linear time in the number
+ * of outcomes.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AliasTable {
+    private final double[] keepProbabilities;
+    private final int[] aliases;
+
+    /**
+     * Constructs an AliasTable for the distribution given by the specified weights.
+     *
+     * @param weights the non-negative weight of each outcome, not all zero.
+     * @throws IllegalArgumentException if a weight is negative or all weights are zero.
+     */
+    public AliasTable(double[] weights) {
+        int size = weights.length;
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Negative weight: " + weight);
+            }
+            sum += weight;
+        }
+        if (size == 0 || sum <= 0) {
+            throw new IllegalArgumentException("The weights must not all be zero");
+        }
+        keepProbabilities = new double[size];
+        aliases = new int[size];
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / sum;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            keepProbabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // whatever is left is full up to rounding errors
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            keepProbabilities[index] = 1;
+            aliases[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            keepProbabilities[index] = 1;
+            aliases[index] = index;
+        }
+    }
+
+    /**
+     * Gets the number of outcomes of the table.
+     *
+     * @return the number of outcomes.
+     */
+    public int size() {
+        return aliases.length;
+    }
+
+    /**
+     * Samples an outcome of the distribution.
+     *
+     * @param random the random generator to draw from.
+     * @return the index of the sampled outcome.
+     */
+    public int sample(SplittableRandom random) {
+        double scaled = random.nextDouble() * aliases.length;
+        int column = (int) scaled;
+        return scaled - column < keepProbabilities[column] ? column : aliases[column];
+    }
+}
@@ -0,0 +1,240 @@
+package bricker.utils;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AssetBundle class gives the game its assets from a memory-mapped bundle of pre-decoded images and sounds,
+ * written by AssetBundleBuilder.
+ * Opening a bundle maps the file and reads only its index. An image is made by bulk copying its ARGB pixels from
+ * the mapped data into the pixel array of a new image, treating the color of its top-left pixel as transparent if
+ * requested, and a sound by wrapping its PCM samples in an audio stream, so no asset is decoded at runtime.
+ * Every entry records the size and modification time of the file it was decoded from, so entries whose source
+ * changed after the bundle was built can be dropped, and their assets read from the files again.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AssetBundle {
+    /**
+     * The magic number at the start of every bundle.
+     */
+    public static final int MAGIC = 0x42524B42;
+
+    /**
+     * The version of the bundle format.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The size of the bundle header: the magic number, the version, the entry count and the data offset.
+     */
+    public static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * The kind of an image entry.
+     */
+    public static final byte IMAGE_KIND = 0;
+
+    /**
+     * The kind of a sound entry.
+     */
+    public static final byte SOUND_KIND = 1;
+
+    private static final int RED_MASK = 0x00FF0000;
+    private static final int GREEN_MASK = 0x0000FF00;
+    private static final int BLUE_MASK = 0x000000FF;
+    private static final int ALPHA_MASK = 0xFF000000;
+    private static final int RGB_MASK = 0x00FFFFFF;
+    private static final int TRANSPARENT_PIXEL = 0;
+
+    private final MappedByteBuffer buffer;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Entry class holds the index entry of a single asset.
+     */
+    private static class Entry {
+        private byte kind;
+        private long sourceSize;
+        private long sourceModifiedTime;
+        private int offset;
+        private int length;
+        private int width;
+        private int height;
+        private AudioFormat audioFormat;
+    }
+
+    /**
+     * Constructs an AssetBundle over a mapped bundle file and reads its index.
+     *
+     * @param buffer the mapped bundle file.
+     * @throws IOException if the file is not a bundle of the supported version.
+     */
+    private AssetBundle(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        ByteBuffer index = buffer.duplicate();
+        if (index.getInt() != MAGIC || index.getInt() != VERSION) {
+            throw new IOException("Not an asset bundle of version " + VERSION);
+        }
+        int count = index.getInt();
+        int dataStart = index.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] pathBytes = new byte[Short.toUnsignedInt(index.getShort())];
+            index.get(pathBytes);
+            Entry entry = new Entry();
+            entry.kind = index.get();
+            entry.sourceSize = index.getLong();
+            entry.sourceModifiedTime = index.getLong();
+            entry.offset = Math.toIntExact(dataStart + index.getLong());
+            entry.length = index.getInt();
+            if (entry.kind == IMAGE_KIND) {
+                entry.width = index.getInt();
+                entry.height = index.getInt();
+            } else {
+                float sampleRate = index.getFloat();
+                int sampleSize = index.getInt();
+                int channels = index.getInt();
+                boolean isBigEndian = index.get() != 0;
+                entry.audioFormat = new AudioFormat(sampleRate, sampleSize, channels, true, isBigEndian);
+            }
+            entries.put(new String(pathBytes, StandardCharsets.UTF_8), entry);
+        }
+    }
+
+    /**
+     * Opens a bundle file by mapping it into memory.
+     *
+     * @param bundleFile the bundle file.
+     * @return the opened AssetBundle.
+     * @throws IOException if the file cannot be mapped or is not a bundle.
+     */
+    public static AssetBundle open(Path bundleFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(bundleFile, StandardOpenOption.READ)) {
+            return new AssetBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Drops every entry whose source file changed since the bundle was built, so the asset is read from its file
+     * instead. An entry is stale when the size or modification time of its source file differs from the ones the
+     * bundle recorded. Entries whose source file does not exist are kept, since there is nothing newer to read.
+     *
+     * @param sourceRoot the directory the asset paths are resolved against.
+     * @return the paths of the dropped entries.
+     * @throws IOException if the attributes of a source file cannot be read.
+     */
+    public List<String> dropStaleEntries(Path sourceRoot) throws IOException {
+        List<String> stalePaths = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> indexEntry = iterator.next();
+            Path source = sourceRoot.resolve(indexEntry.getKey());
+            if (!Files.exists(source)) {
+                continue;
+            }
+            Entry entry = indexEntry.getValue();
+            if (Files.size(source) != entry.sourceSize ||
+                    Files.getLastModifiedTime(source).toMillis() != entry.sourceModifiedTime) {
+                stalePaths.add(indexEntry.getKey());
+                iterator.remove();
+            }
+        }
+        return stalePaths;
+    }
+
+    /**
+     * Checks whether the bundle holds an image at the specified path.
+     *
+     * @param path the path of the image.
+     * @return true if the bundle holds the image, false otherwise.
+     */
+    public boolean containsImage(String path) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.kind == IMAGE_KIND;
+    }
+
+    /**
+     * Makes the image at the specified path from its pre-decoded pixels.
+     *
+     * @param path                      the path of the image.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @return the ARGB image, or null if the bundle holds no image at the path.
+     */
+    public BufferedImage readImage(String path, boolean isTopLeftPixelTransparent) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.kind != IMAGE_KIND) {
+            return null;
+        }
+        int[] pixels = new int[entry.width * entry.height];
+        buffer.duplicate().position(entry.offset).asIntBuffer().get(pixels);
+        if (isTopLeftPixelTransparent && pixels.length > 0) {
+            int transparentColor = pixels[0] & RGB_MASK;
+            for (int i = 0; i < pixels.length; i++) {
+                if ((pixels[i] & RGB_MASK) == transparentColor) {
+                    pixels[i] = TRANSPARENT_PIXEL;
+                }
+            }
+        }
+        ColorModel colorModel = new DirectColorModel(Integer.SIZE, RED_MASK, GREEN_MASK, BLUE_MASK, ALPHA_MASK);
+        WritableRaster raster = Raster.createPackedRaster(new DataBufferInt(pixels, pixels.length), entry.width,
+                entry.height, entry.width, new int[]{RED_MASK, GREEN_MASK, BLUE_MASK, ALPHA_MASK}, null);
+        return new BufferedImage(colorModel, raster, false, null);
+    }
+
+    /**
+     * Opens the PCM samples of the sound at the specified path as an audio stream.
+     *
+     * @param path the path of the sound.
+     * @return the audio stream of the sound, or null if the bundle holds no sound at the path.
+     */
+    public AudioInputStream openSound(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.kind != SOUND_KIND) {
+            return null;
+        }
+        byte[] samples = new byte[entry.length];
+        buffer.duplicate().position(entry.offset).get(samples);
+        return new AudioInputStream(new ByteArrayInputStream(samples), entry.audioFormat,
+                samples.length / entry.audioFormat.getFrameSize());
+    }
+
+    /**
+     * Gets the paths of all assets in the bundle.
+     *
+     * @return an unmodifiable view of the bundled paths.
+     */
+    public Set<String> paths() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Gets the number of assets in the bundle.
+     *
+     * @return the number of bundled assets.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
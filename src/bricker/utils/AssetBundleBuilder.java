@@ -0,0 +1,224 @@
+package bricker.utils;
+
+import bricker.rendering.TextureAtlas;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * AssetBundleBuilder class is the build step packing the assets of the Bricker game into a single asset bundle.
+ * Every PNG and JPEG image of the assets directory is decoded into ARGB pixels, and every WAV sound into signed
+ * PCM samples, and the decoded data is written after an index of the entries, so the game can memory-map the
+ * bundle with AssetBundle and use the assets without decoding them.
+ * The bundle is written with a header holding the magic number, the format version, the entry count and the
+ * offset of the data section. Each index entry holds the asset path, its kind, the size and modification time of
+ * its source file, the offset and length of its data relative to the data section and its image dimensions or
+ * audio format. The data of every entry starts at an
+ * eight byte boundary.
+ * Usage: java bricker.utils.AssetBundleBuilder &lt;assets directory&gt; &lt;bundle file&gt;
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AssetBundleBuilder {
+    private static final int DATA_ALIGNMENT = 8;
+    private static final int USAGE_ARGS_NUM = 2;
+
+    private final List<String> paths = new ArrayList<>();
+    private final List<Byte> kinds = new ArrayList<>();
+    private final List<int[]> imageSizes = new ArrayList<>();
+    private final List<AudioFormat> audioFormats = new ArrayList<>();
+    private final List<byte[]> data = new ArrayList<>();
+    private final List<Long> sourceSizes = new ArrayList<>();
+    private final List<Long> sourceModifiedTimes = new ArrayList<>();
+
+    /**
+     * Default constructor for the AssetBundleBuilder class.
+     */
+    public AssetBundleBuilder() {
+        // No explicit logic is needed for the default constructor.
+    }
+
+    /**
+     * Builds a bundle from the assets directory given on the command line.
+     *
+     * @param args the assets directory and the bundle file to write.
+     * @throws IOException if an asset cannot be read or the bundle cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != USAGE_ARGS_NUM) {
+            System.err.println("Usage: java bricker.utils.AssetBundleBuilder <assets directory> <bundle file>");
+            System.exit(1);
+        }
+        AssetBundleBuilder builder = new AssetBundleBuilder();
+        int added = builder.addDirectory(Paths.get(args[0]));
+        builder.write(Paths.get(args[1]));
+        System.out.println("Bundled " + added + " assets into " + args[1] + " (" +
+                Files.size(Paths.get(args[1])) + " bytes)");
+    }
+
+    /**
+     * Decodes and adds every image and sound of a directory. The assets are added by the path the game reads
+     * them by, the directory name followed by the file name.
+     *
+     * @param directory the assets directory.
+     * @return the number of added assets.
+     * @throws IOException if an asset cannot be decoded.
+     */
+    public int addDirectory(Path directory) throws IOException {
+        File[] files = directory.toFile().listFiles();
+        if (files == null) {
+            throw new IOException("Not a directory: " + directory);
+        }
+        Arrays.sort(files);
+        int added = 0;
+        for (File file : files) {
+            String name = file.getName().toLowerCase(Locale.ROOT);
+            String path = directory.getFileName() + "/" + file.getName();
+            if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+                addImage(path, file);
+                added++;
+            } else if (name.endsWith(".wav")) {
+                addSound(path, file);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Decodes an image file and adds its pixels.
+     *
+     * @param path the path the image is found by.
+     * @param file the image file.
+     * @throws IOException if the image cannot be decoded.
+     */
+    public void addImage(String path, File file) throws IOException {
+        BufferedImage image = TextureAtlas.readImage(file.getPath());
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        byte[] bytes = new byte[pixels.length * Integer.BYTES];
+        for (int i = 0; i < pixels.length; i++) {
+            bytes[i * Integer.BYTES] = (byte) (pixels[i] >>> 24);
+            bytes[i * Integer.BYTES + 1] = (byte) (pixels[i] >>> 16);
+            bytes[i * Integer.BYTES + 2] = (byte) (pixels[i] >>> 8);
+            bytes[i * Integer.BYTES + 3] = (byte) pixels[i];
+        }
+        addEntry(path, file, AssetBundle.IMAGE_KIND, new int[]{width, height}, null, bytes);
+    }
+
+    /**
+     * Decodes a sound file into signed PCM samples and adds them.
+     *
+     * @param path the path the sound is found by.
+     * @param file the sound file.
+     * @throws IOException if the sound cannot be decoded.
+     */
+    public void addSound(String path, File file) throws IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat sourceFormat = source.getFormat();
+            AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                    sourceFormat.getSampleRate(), sourceFormat.getSampleSizeInBits(), sourceFormat.getChannels(),
+                    sourceFormat.getFrameSize(), sourceFormat.getFrameRate(), sourceFormat.isBigEndian());
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                addEntry(path, file, AssetBundle.SOUND_KIND, null, pcmFormat, pcm.readAllBytes());
+            }
+        } catch (UnsupportedAudioFileException e) {
+            throw new IOException("Unsupported sound format: " + file, e);
+        }
+    }
+
+    /**
+     * Writes the bundle of all added assets.
+     *
+     * @param bundleFile the bundle file to write.
+     * @throws IOException if the bundle cannot be written.
+     */
+    public void write(Path bundleFile) throws IOException {
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        long offset = 0;
+        for (int i = 0; i < paths.size(); i++) {
+            index.writeUTF(paths.get(i));
+            index.writeByte(kinds.get(i));
+            index.writeLong(sourceSizes.get(i));
+            index.writeLong(sourceModifiedTimes.get(i));
+            index.writeLong(offset);
+            index.writeInt(data.get(i).length);
+            if (kinds.get(i) == AssetBundle.IMAGE_KIND) {
+                index.writeInt(imageSizes.get(i)[0]);
+                index.writeInt(imageSizes.get(i)[1]);
+            } else {
+                AudioFormat format = audioFormats.get(i);
+                index.writeFloat(format.getSampleRate());
+                index.writeInt(format.getSampleSizeInBits());
+                index.writeInt(format.getChannels());
+                index.writeBoolean(format.isBigEndian());
+            }
+            offset = align(offset + data.get(i).length);
+        }
+        index.flush();
+        int dataStart = (int) align(AssetBundle.HEADER_SIZE + indexBytes.size());
+        try (OutputStream file = Files.newOutputStream(bundleFile);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            output.writeInt(AssetBundle.MAGIC);
+            output.writeInt(AssetBundle.VERSION);
+            output.writeInt(paths.size());
+            output.writeInt(dataStart);
+            indexBytes.writeTo(output);
+            output.write(new byte[dataStart - AssetBundle.HEADER_SIZE - indexBytes.size()]);
+            for (byte[] entryData : data) {
+                output.write(entryData);
+                output.write(new byte[(int) (align(entryData.length) - entryData.length)]);
+            }
+        }
+    }
+
+    /**
+     * Adds an entry to the bundle.
+     *
+     * @param path        the path of the asset.
+     * @param file        the source file of the asset.
+     * @param kind        the kind of the asset.
+     * @param imageSize   the width and height of an image, or null for a sound.
+     * @param audioFormat the PCM format of a sound, or null for an image.
+     * @param bytes       the decoded data of the asset.
+     * @throws IOException if the attributes of the source file cannot be read.
+     */
+    private void addEntry(String path, File file, byte kind, int[] imageSize, AudioFormat audioFormat,
+                          byte[] bytes) throws IOException {
+        paths.add(path);
+        sourceSizes.add(Files.size(file.toPath()));
+        sourceModifiedTimes.add(Files.getLastModifiedTime(file.toPath()).toMillis());
+        kinds.add(kind);
+        imageSizes.add(imageSize);
+        audioFormats.add(audioFormat);
+        data.add(bytes);
+    }
+
+    /**
+     * Rounds an offset up to the data alignment.
+     *
+     * @param offset the offset.
+     * @return the aligned offset.
+     */
+    private static long align(long offset) {
+        return (offset + DATA_ALIGNMENT - 1) / DATA_ALIGNMENT * DATA_ALIGNMENT;
+    }
+}
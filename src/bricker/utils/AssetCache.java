@@ -0,0 +1,154 @@
+package bricker.utils;
+
+import bricker.rendering.TextureAtlas;
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AssetCache class keeps the images and sounds of the Bricker game once they were read, so objects that are
+ * created many times during the game, such as pucks and hearts, do not read their assets again on every spawn.
+ * It also counts the cache hits and misses, which are shown on the performance overlay.
+ * When a texture atlas is set, images packed into the atlas are drawn from their atlas region instead of being
+ * read on their own, and when an asset bundle is set, the other images are made from their pre-decoded pixels in
+ * the bundle instead of being decoded by the image reader. Sounds are always read by the sound reader, since the
+ * sounds of the game can only be created by it.
+ * A headless game has no readers, so it decodes the images that are neither in the atlas nor in the bundle from
+ * their files itself, and gets null for all sounds.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class AssetCache {
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private final Map<String, Renderable> opaqueImages = new HashMap<>();
+    private final Map<String, Renderable> transparentImages = new HashMap<>();
+    private final Map<String, Sound> sounds = new HashMap<>();
+    private TextureAtlas textureAtlas;
+    private AssetBundle assetBundle;
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * Constructs an AssetCache reading its assets with the specified readers.
+     *
+     * @param imageReader the image reader for loading game images, or null in a headless game.
+     * @param soundReader the sound reader for loading game sounds, or null in a headless game.
+     */
+    public AssetCache(ImageReader imageReader, SoundReader soundReader) {
+        this.imageReader = imageReader;
+        this.soundReader = soundReader;
+    }
+
+    /**
+     * Sets the texture atlas images are looked up in before they are read on their own.
+     *
+     * @param textureAtlas the packed TextureAtlas, or null to read every image on its own.
+     */
+    public void setTextureAtlas(TextureAtlas textureAtlas) {
+        this.textureAtlas = textureAtlas;
+    }
+
+    /**
+     * Sets the bundle of pre-decoded assets images are made from before they are read by the image reader.
+     *
+     * @param assetBundle the opened AssetBundle, or null to read every image with the image reader.
+     */
+    public void setAssetBundle(AssetBundle assetBundle) {
+        this.assetBundle = assetBundle;
+    }
+
+    /**
+     * Returns the image at the specified path, reading it only the first time it is requested.
+     *
+     * @param path                      the path of the image file.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @return the Renderable of the image.
+     */
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        Map<String, Renderable> images = isTopLeftPixelTransparent ? transparentImages : opaqueImages;
+        Renderable image = images.get(path);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+        misses++;
+        image = textureAtlas != null ? textureAtlas.region(path, isTopLeftPixelTransparent) : null;
+        if (image == null && assetBundle != null && assetBundle.containsImage(path)) {
+            image = new ImageRenderable(assetBundle.readImage(path, isTopLeftPixelTransparent));
+        }
+        if (image == null) {
+            image = imageReader != null ? imageReader.readImage(path, isTopLeftPixelTransparent) :
+                    decodeImage(path, isTopLeftPixelTransparent);
+        }
+        images.put(path, image);
+        return image;
+    }
+
+    /**
+     * Decodes an image from its file without an image reader, as a headless game does.
+     *
+     * @param path                      the path of the image file.
+     * @param isTopLeftPixelTransparent whether the color of the top-left pixel is treated as transparent.
+     * @return the Renderable of the image, or null if the image cannot be read.
+     */
+    private static Renderable decodeImage(String path, boolean isTopLeftPixelTransparent) {
+        try {
+            return new ImageRenderable(TextureAtlas.toArgb(TextureAtlas.readImage(path),
+                    isTopLeftPixelTransparent));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the sound at the specified path, reading it only the first time it is requested.
+     *
+     * @param path the path of the sound file.
+     * @return the Sound read from the file.
+     */
+    public Sound readSound(String path) {
+        Sound sound = sounds.get(path);
+        if (sound != null) {
+            hits++;
+            return sound;
+        }
+        misses++;
+        sound = soundReader != null ? soundReader.readSound(path) : null;
+        sounds.put(path, sound);
+        return sound;
+    }
+
+    /**
+     * Gets the number of requests answered from the cache.
+     *
+     * @return the number of cache hits.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that had to read the asset.
+     *
+     * @return the number of cache misses.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of assets held by the cache.
+     *
+     * @return the number of cached images and sounds.
+     */
+    public int size() {
+        return opaqueImages.size() + transparentImages.size() + sounds.size();
+    }
+}
@@ -0,0 +1,83 @@
+package bricker.utils;
+
+import java.util.PriorityQueue;
+
+/**
+ * CollisionTrigger class counts the collisions of a game object and runs tasks once the object has collided a
+ * given number of times. Tasks are kept ordered by the collision count they wait for, so a collision only looks
+ * at the task that is due first, and nothing has to be polled on every frame.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class CollisionTrigger {
+    private final PriorityQueue<PendingTask> pendingTasks = new PriorityQueue<>();
+    private int collisionCount = 0;
+    private long scheduledCount = 0;
+
+    /**
+     * Counts a collision and runs the tasks waiting for the new collision count.
+     */
+    public void onCollision() {
+        collisionCount++;
+        while (!pendingTasks.isEmpty() && pendingTasks.peek().collisionCount <= collisionCount) {
+            pendingTasks.poll().task.run();
+        }
+    }
+
+    /**
+     * Schedules a task to run after the object collides the specified number of further times.
+     *
+     * @param collisions the number of further collisions to wait for.
+     * @param task       the task to run.
+     */
+    public void scheduleAfter(int collisions, Runnable task) {
+        pendingTasks.add(new PendingTask(collisionCount + collisions, scheduledCount++, task));
+    }
+
+    /**
+     * Gets the number of collisions counted so far.
+     *
+     * @return the collision count.
+     */
+    public int getCollisionCount() {
+        return collisionCount;
+    }
+
+    /**
+     * PendingTask class holds a task together with the collision count it waits for. Tasks waiting for the same
+     * count run in the order they were scheduled.
+     */
+    private static class PendingTask implements Comparable<PendingTask> {
+        private final int collisionCount;
+        private final long order;
+        private final Runnable task;
+
+        /**
+         * Constructs a PendingTask.
+         *
+         * @param collisionCount the collision count the task waits for.
+         * @param order          the order in which the task was scheduled.
+         * @param task           the task to run.
+         */
+        private PendingTask(int collisionCount, long order, Runnable task) {
+            this.collisionCount = collisionCount;
+            this.order = order;
+            this.task = task;
+        }
+
+        /**
+         * Compares the pending tasks by the collision count they wait for, then by scheduling order.
+         *
+         * @param other the other pending task.
+         * @return a negative number, zero or a positive number as this task is due before, with or after the
+         * other.
+         */
+        @Override
+        public int compareTo(PendingTask other) {
+            if (collisionCount != other.collisionCount) {
+                return Integer.compare(collisionCount, other.collisionCount);
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+}
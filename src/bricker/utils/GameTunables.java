@@ -0,0 +1,758 @@
+package bricker.utils;
+
+import bricker.brick_strategies.StrategyWeights;
+import bricker.perf.DegradationMeasure;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * GameTunables class is the registry of the values that drive the load of the Bricker game, such as the ball
+ * speed, the number of pucks per brick and the board size, together with the live metrics of the running game.
+ * The tunables start from built-in defaults, can be overridden at startup from a properties file, and can be
+ * changed while the game runs through JMX once the registry is registered with the platform MBean server.
+ * Changed values apply to the objects created after the change; the board size and the physics rate apply to the
+ * next game.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class GameTunables implements GameTunablesMBean {
+    /**
+     * The JMX object name the tunables are registered under.
+     */
+    public static final String OBJECT_NAME = "bricker:type=GameTunables";
+
+    /**
+     * The default initial speed of the ball in the game.
+     */
+    private static final int DEFAULT_BALL_SPEED = 200;
+
+    /**
+     * The default speed of the heart object in the game.
+     */
+    private static final int DEFAULT_HEART_SPEED = 100;
+
+    /**
+     * The default number of puck objects to create in the game.
+     */
+    private static final int DEFAULT_PUCKS_PER_BRICK = 2;
+
+    /**
+     * The default number of times the extra paddle must collide before removing him from the game.
+     */
+    private static final int DEFAULT_EXTRA_PADDLE_COLLISIONS = 4;
+
+    /**
+     * The default number of times the ball must collide before deactivating the camera in the game.
+     */
+    private static final int DEFAULT_CAMERA_COLLISIONS = 4;
+
+    /**
+     * The default number of rows for bricks in the game.
+     */
+    private static final int DEFAULT_BOARD_ROWS = 7;
+
+    /**
+     * The default number of bricks in a row in the game.
+     */
+    private static final int DEFAULT_BOARD_COLS = 8;
+
+    /**
+     * The default time after which an endless board pushes its rows down, in seconds.
+     */
+    private static final int DEFAULT_BOARD_PUSH_SECONDS = 15;
+
+    /**
+     * The default number of game logic steps per second, independent of the rendering rate.
+     */
+    private static final int DEFAULT_PHYSICS_RATE = 120;
+
+    /**
+     * The default maximum number of game logic steps run in a single rendered frame.
+     */
+    private static final int DEFAULT_MAX_PHYSICS_SUBSTEPS = 5;
+
+    /**
+     * The default target of the time a frame spends in the game logic, over which the frame-budget governor starts
+     * to degrade the game.
+     */
+    private static final int DEFAULT_GOVERNOR_TARGET_MICROS = 4000;
+
+    /**
+     * The default number of live pucks over which no pucks are spawned while the governor caps them.
+     */
+    private static final int DEFAULT_GOVERNOR_PUCK_CAP = 32;
+
+    /**
+     * The highest ball or heart speed, in pixels per second, which keeps a fixed-point logic step well inside the
+     * range of its integer position.
+     */
+    public static final int MAX_SPEED = 10_000;
+
+    /**
+     * The highest number of pucks a single brick spawns.
+     */
+    public static final int MAX_PUCKS_PER_BRICK = 1000;
+
+    /**
+     * The highest number of brick rows, or of bricks in a row, of a board.
+     */
+    public static final int MAX_BOARD_SIDE = 1000;
+
+    /**
+     * The longest time after which an endless board pushes its rows down, in seconds.
+     */
+    public static final int MAX_BOARD_PUSH_SECONDS = 24 * 60 * 60;
+
+    /**
+     * The highest number of game logic steps per second.
+     */
+    public static final int MAX_PHYSICS_RATE = 1000;
+
+    /**
+     * The highest number of game logic steps run in a single rendered frame.
+     */
+    public static final int MAX_PHYSICS_SUBSTEPS = 100;
+
+    /*
+     * The weight of the newest tick in the moving average of the tick time.
+     */
+    private static final double TICK_AVERAGE_WEIGHT = 0.05;
+    private static final long NANOS_IN_MICRO = 1000;
+
+    private volatile int ballSpeed = DEFAULT_BALL_SPEED;
+    private volatile int heartSpeed = DEFAULT_HEART_SPEED;
+    private volatile int pucksPerBrick = DEFAULT_PUCKS_PER_BRICK;
+    private volatile int extraPaddleCollisions = DEFAULT_EXTRA_PADDLE_COLLISIONS;
+    private volatile int cameraCollisions = DEFAULT_CAMERA_COLLISIONS;
+    private volatile int boardRows = DEFAULT_BOARD_ROWS;
+    private volatile int boardCols = DEFAULT_BOARD_COLS;
+    private volatile long boardSeed = 0;
+    private volatile boolean isEndlessBoard = false;
+    private volatile int boardPushSeconds = DEFAULT_BOARD_PUSH_SECONDS;
+    private volatile StrategyWeights strategyWeights = StrategyWeights.DEFAULT;
+    private volatile int physicsRate = DEFAULT_PHYSICS_RATE;
+    private volatile int maxPhysicsSubsteps = DEFAULT_MAX_PHYSICS_SUBSTEPS;
+    private volatile boolean isFixedPointPhysics = false;
+    private volatile int governorTargetMicros = DEFAULT_GOVERNOR_TARGET_MICROS;
+    private volatile DegradationMeasure[] governorMeasures = DegradationMeasure.values();
+    private volatile int governorPuckCap = DEFAULT_GOVERNOR_PUCK_CAP;
+    private volatile long lastTickNanos = 0;
+    private volatile double averageTickNanos = 0;
+    private volatile int brickCount = 0;
+    private volatile int puckCount = 0;
+    private volatile int heartCount = 0;
+
+    /**
+     * Constructs a GameTunables holding the default values.
+     */
+    public GameTunables() {
+        // All tunables start from their defaults.
+    }
+
+    /**
+     * Creates a GameTunables from the defaults overridden by the specified properties file. A missing file leaves
+     * all values at their defaults.
+     *
+     * @param path the path of the properties file.
+     * @return the loaded GameTunables.
+     * @throws UncheckedIOException    if the file exists but cannot be read.
+     * @throws NumberFormatException    if a value in the file is not a number.
+     * @throws IllegalArgumentException if a value in the file is out of the range of its tunable.
+     */
+    public static GameTunables load(Path path) {
+        GameTunables tunables = new GameTunables();
+        if (!Files.isRegularFile(path)) {
+            return tunables;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read tunables from " + path, e);
+        }
+        tunables.apply(properties);
+        return tunables;
+    }
+
+    /**
+     * Overrides the tunables present in the specified properties. Every value is read and checked before any is
+     * applied, so properties with an invalid value leave all tunables unchanged.
+     *
+     * @param properties the properties holding the overridden values.
+     * @throws NumberFormatException    if a value is not a number.
+     * @throws IllegalArgumentException if a value is out of the range of its tunable.
+     */
+    public void apply(Properties properties) {
+        int newBallSpeed = readInt(properties, "ball.speed", ballSpeed, 1, MAX_SPEED);
+        int newHeartSpeed = readInt(properties, "heart.speed", heartSpeed, 1, MAX_SPEED);
+        int newPucksPerBrick = readInt(properties, "pucks.perBrick", pucksPerBrick, 0, MAX_PUCKS_PER_BRICK);
+        int newExtraPaddleCollisions = readInt(properties, "extraPaddle.collisions", extraPaddleCollisions, 1,
+                Integer.MAX_VALUE);
+        int newCameraCollisions = readInt(properties, "camera.collisions", cameraCollisions, 1, Integer.MAX_VALUE);
+        int newBoardRows = readInt(properties, "board.rows", boardRows, 1, MAX_BOARD_SIDE);
+        int newBoardCols = readInt(properties, "board.cols", boardCols, 1, MAX_BOARD_SIDE);
+        long newBoardSeed = readLong(properties, "board.seed", boardSeed);
+        boolean newIsEndlessBoard = readBoolean(properties, "board.endless", isEndlessBoard);
+        int newBoardPushSeconds = readInt(properties, "board.pushSeconds", boardPushSeconds, 0,
+                MAX_BOARD_PUSH_SECONDS);
+        String weights = properties.getProperty("strategy.weights");
+        StrategyWeights newStrategyWeights = weights != null ? StrategyWeights.parse(weights) : strategyWeights;
+        int newPhysicsRate = readInt(properties, "physics.rate", physicsRate, 1, MAX_PHYSICS_RATE);
+        int newMaxPhysicsSubsteps = readInt(properties, "physics.maxSubsteps", maxPhysicsSubsteps, 1,
+                MAX_PHYSICS_SUBSTEPS);
+        boolean newIsFixedPointPhysics = readBoolean(properties, "physics.fixedPoint", isFixedPointPhysics);
+        int newGovernorTargetMicros = readInt(properties, "governor.targetMicros", governorTargetMicros, 0,
+                Integer.MAX_VALUE);
+        String measures = properties.getProperty("governor.measures");
+        DegradationMeasure[] newGovernorMeasures = measures != null ? DegradationMeasure.parseList(measures) :
+                governorMeasures;
+        int newGovernorPuckCap = readInt(properties, "governor.puckCap", governorPuckCap, 0, Integer.MAX_VALUE);
+
+        ballSpeed = newBallSpeed;
+        heartSpeed = newHeartSpeed;
+        pucksPerBrick = newPucksPerBrick;
+        extraPaddleCollisions = newExtraPaddleCollisions;
+        cameraCollisions = newCameraCollisions;
+        boardRows = newBoardRows;
+        boardCols = newBoardCols;
+        boardSeed = newBoardSeed;
+        isEndlessBoard = newIsEndlessBoard;
+        boardPushSeconds = newBoardPushSeconds;
+        strategyWeights = newStrategyWeights;
+        physicsRate = newPhysicsRate;
+        maxPhysicsSubsteps = newMaxPhysicsSubsteps;
+        isFixedPointPhysics = newIsFixedPointPhysics;
+        governorTargetMicros = newGovernorTargetMicros;
+        governorMeasures = newGovernorMeasures;
+        governorPuckCap = newGovernorPuckCap;
+    }
+
+    /**
+     * Registers the tunables with the platform MBean server under OBJECT_NAME.
+     *
+     * @throws IllegalStateException if the registration fails, for example when it was already registered.
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the game tunables", e);
+        }
+    }
+
+    /**
+     * Records the duration of a single game logic step.
+     *
+     * @param tickNanos the duration of the step in nanoseconds.
+     */
+    public void recordTick(long tickNanos) {
+        lastTickNanos = tickNanos;
+        averageTickNanos += (tickNanos - averageTickNanos) * TICK_AVERAGE_WEIGHT;
+    }
+
+    /**
+     * Records the current number of live objects of the game.
+     *
+     * @param brickCount the number of bricks left on the board.
+     * @param puckCount  the number of live pucks.
+     * @param heartCount the number of falling hearts.
+     */
+    public void recordObjectCounts(int brickCount, int puckCount, int heartCount) {
+        this.brickCount = brickCount;
+        this.puckCount = puckCount;
+        this.heartCount = heartCount;
+    }
+
+    /**
+     * Gets the speed of a newly launched ball or puck, on each axis.
+     *
+     * @return the ball speed in pixels per second.
+     */
+    @Override
+    public int getBallSpeed() {
+        return ballSpeed;
+    }
+
+    /**
+     * Sets the speed of a newly launched ball or puck, on each axis.
+     *
+     * @param ballSpeed the ball speed in pixels per second.
+     * @throws IllegalArgumentException if the value is not between 1 and MAX_SPEED.
+     */
+    @Override
+    public void setBallSpeed(int ballSpeed) {
+        this.ballSpeed = checkRange("ball.speed", ballSpeed, 1, MAX_SPEED);
+    }
+
+    /**
+     * Gets the speed of a falling heart.
+     *
+     * @return the heart speed in pixels per second.
+     */
+    @Override
+    public int getHeartSpeed() {
+        return heartSpeed;
+    }
+
+    /**
+     * Sets the speed of a falling heart.
+     *
+     * @param heartSpeed the heart speed in pixels per second.
+     * @throws IllegalArgumentException if the value is not between 1 and MAX_SPEED.
+     */
+    @Override
+    public void setHeartSpeed(int heartSpeed) {
+        this.heartSpeed = checkRange("heart.speed", heartSpeed, 1, MAX_SPEED);
+    }
+
+    /**
+     * Gets the number of pucks released by a puck brick.
+     *
+     * @return the number of pucks per brick.
+     */
+    @Override
+    public int getPucksPerBrick() {
+        return pucksPerBrick;
+    }
+
+    /**
+     * Sets the number of pucks released by a puck brick.
+     *
+     * @param pucksPerBrick the number of pucks per brick.
+     * @throws IllegalArgumentException if the value is not between 0 and MAX_PUCKS_PER_BRICK.
+     */
+    @Override
+    public void setPucksPerBrick(int pucksPerBrick) {
+        this.pucksPerBrick = checkRange("pucks.perBrick", pucksPerBrick, 0, MAX_PUCKS_PER_BRICK);
+    }
+
+    /**
+     * Gets the number of collisions an extra paddle takes before it is removed.
+     *
+     * @return the extra paddle collisions.
+     */
+    @Override
+    public int getExtraPaddleCollisions() {
+        return extraPaddleCollisions;
+    }
+
+    /**
+     * Sets the number of collisions an extra paddle takes before it is removed.
+     *
+     * @param extraPaddleCollisions the extra paddle collisions.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    @Override
+    public void setExtraPaddleCollisions(int extraPaddleCollisions) {
+        this.extraPaddleCollisions = checkRange("extraPaddle.collisions", extraPaddleCollisions, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of ball collisions the camera follows the ball for.
+     *
+     * @return the camera collisions.
+     */
+    @Override
+    public int getCameraCollisions() {
+        return cameraCollisions;
+    }
+
+    /**
+     * Sets the number of ball collisions the camera follows the ball for.
+     *
+     * @param cameraCollisions the camera collisions.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    @Override
+    public void setCameraCollisions(int cameraCollisions) {
+        this.cameraCollisions = checkRange("camera.collisions", cameraCollisions, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of brick rows of a new board.
+     *
+     * @return the number of brick rows.
+     */
+    @Override
+    public int getBoardRows() {
+        return boardRows;
+    }
+
+    /**
+     * Sets the number of brick rows of a new board.
+     *
+     * @param boardRows the number of brick rows.
+     * @throws IllegalArgumentException if the value is not between 1 and MAX_BOARD_SIDE.
+     */
+    @Override
+    public void setBoardRows(int boardRows) {
+        this.boardRows = checkRange("board.rows", boardRows, 1, MAX_BOARD_SIDE);
+    }
+
+    /**
+     * Gets the number of bricks in a row of a new board.
+     *
+     * @return the number of bricks in a row.
+     */
+    @Override
+    public int getBoardCols() {
+        return boardCols;
+    }
+
+    /**
+     * Sets the number of bricks in a row of a new board.
+     *
+     * @param boardCols the number of bricks in a row.
+     * @throws IllegalArgumentException if the value is not between 1 and MAX_BOARD_SIDE.
+     */
+    @Override
+    public void setBoardCols(int boardCols) {
+        this.boardCols = checkRange("board.cols", boardCols, 1, MAX_BOARD_SIDE);
+    }
+
+    /**
+     * Gets the seed the strategies of a new board and the random choices of its game are drawn from.
+     *
+     * @return the board seed, or 0 if every board gets a random seed.
+     */
+    @Override
+    public long getBoardSeed() {
+        return boardSeed;
+    }
+
+    /**
+     * Sets the seed the strategies of a new board and the random choices of its game are drawn from.
+     *
+     * @param boardSeed the board seed, or 0 to give every board a random seed.
+     */
+    @Override
+    public void setBoardSeed(long boardSeed) {
+        this.boardSeed = boardSeed;
+    }
+
+    /**
+     * Checks whether a new board is endless: cleared brick rows are replaced by new rows streaming in from the top,
+     * and the game is never won.
+     *
+     * @return true if a new board is endless, false otherwise.
+     */
+    @Override
+    public boolean isEndlessBoard() {
+        return isEndlessBoard;
+    }
+
+    /**
+     * Sets whether a new board is endless.
+     *
+     * @param isEndlessBoard whether a new board replaces its cleared rows with new rows.
+     */
+    @Override
+    public void setEndlessBoard(boolean isEndlessBoard) {
+        this.isEndlessBoard = isEndlessBoard;
+    }
+
+    /**
+     * Gets the time after which an endless board pushes its rows down and a new row comes in at the top.
+     *
+     * @return the time between two pushes in seconds, or 0 if rows only come in once others are cleared.
+     */
+    @Override
+    public int getBoardPushSeconds() {
+        return boardPushSeconds;
+    }
+
+    /**
+     * Sets the time after which an endless board pushes its rows down and a new row comes in at the top.
+     *
+     * @param boardPushSeconds the time between two pushes in seconds, or 0 to only bring in rows once others are
+     *                         cleared.
+     * @throws IllegalArgumentException if the value is not between 0 and MAX_BOARD_PUSH_SECONDS.
+     */
+    @Override
+    public void setBoardPushSeconds(int boardPushSeconds) {
+        this.boardPushSeconds = checkRange("board.pushSeconds", boardPushSeconds, 0, MAX_BOARD_PUSH_SECONDS);
+    }
+
+    /**
+     * Gets the distribution the strategies of a new board are drawn from.
+     *
+     * @return the strategy weights, written as name=value entries.
+     */
+    @Override
+    public String getStrategyWeights() {
+        return strategyWeights.toString();
+    }
+
+    /**
+     * Sets the distribution the strategies of a new board are drawn from. Entries that are left out get their
+     * default value.
+     *
+     * @param strategyWeights the strategy weights, written as name=value entries.
+     * @throws IllegalArgumentException if an entry is malformed or the weights are invalid.
+     */
+    @Override
+    public void setStrategyWeights(String strategyWeights) {
+        this.strategyWeights = StrategyWeights.parse(strategyWeights);
+    }
+
+    /**
+     * Gets the distribution the strategies of a new board are drawn from.
+     *
+     * @return the strategy weights.
+     */
+    public StrategyWeights getStrategyDistribution() {
+        return strategyWeights;
+    }
+
+    /**
+     * Gets the number of game logic steps per second of a new game.
+     *
+     * @return the physics rate.
+     */
+    @Override
+    public int getPhysicsRate() {
+        return physicsRate;
+    }
+
+    /**
+     * Sets the number of game logic steps per second of a new game.
+     *
+     * @param physicsRate the physics rate.
+     * @throws IllegalArgumentException if the value is not between 1 and MAX_PHYSICS_RATE.
+     */
+    @Override
+    public void setPhysicsRate(int physicsRate) {
+        this.physicsRate = checkRange("physics.rate", physicsRate, 1, MAX_PHYSICS_RATE);
+    }
+
+    /**
+     * Gets the maximum number of game logic steps run in a single frame.
+     *
+     * @return the maximum number of substeps.
+     */
+    @Override
+    public int getMaxPhysicsSubsteps() {
+        return maxPhysicsSubsteps;
+    }
+
+    /**
+     * Sets the maximum number of game logic steps run in a single frame.
+     *
+     * @param maxPhysicsSubsteps the maximum number of substeps.
+     * @throws IllegalArgumentException if the value is not between 1 and MAX_PHYSICS_SUBSTEPS.
+     */
+    @Override
+    public void setMaxPhysicsSubsteps(int maxPhysicsSubsteps) {
+        this.maxPhysicsSubsteps = checkRange("physics.maxSubsteps", maxPhysicsSubsteps, 1, MAX_PHYSICS_SUBSTEPS);
+    }
+
+    /**
+     * Checks whether a new game moves its balls, pucks, paddles and falling hearts in fixed point, so it plays the
+     * same on every machine.
+     *
+     * @return true if a new game uses the fixed-point physics mode, false otherwise.
+     */
+    @Override
+    public boolean isFixedPointPhysics() {
+        return isFixedPointPhysics;
+    }
+
+    /**
+     * Sets whether a new game moves its balls, pucks, paddles and falling hearts in fixed point.
+     *
+     * @param isFixedPointPhysics whether a new game uses the fixed-point physics mode.
+     */
+    @Override
+    public void setFixedPointPhysics(boolean isFixedPointPhysics) {
+        this.isFixedPointPhysics = isFixedPointPhysics;
+    }
+
+    /**
+     * Gets the target of the time a frame of a new game spends in the game logic.
+     *
+     * @return the governor target in microseconds, or 0 if the governor never degrades the game.
+     */
+    @Override
+    public int getGovernorTargetMicros() {
+        return governorTargetMicros;
+    }
+
+    /**
+     * Sets the target of the time a frame of a new game spends in the game logic.
+     *
+     * @param governorTargetMicros the governor target in microseconds, or 0 to never degrade the game.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    @Override
+    public void setGovernorTargetMicros(int governorTargetMicros) {
+        this.governorTargetMicros = checkRange("governor.targetMicros", governorTargetMicros, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the degradation measures of a new game, in the order the governor takes them.
+     *
+     * @return the comma separated names of the measures.
+     */
+    @Override
+    public String getGovernorMeasures() {
+        return DegradationMeasure.toList(governorMeasures);
+    }
+
+    /**
+     * Sets the degradation measures of a new game, in the order the governor takes them.
+     *
+     * @param governorMeasures the comma separated names of the measures.
+     * @throws IllegalArgumentException if a name is unknown or appears twice.
+     */
+    @Override
+    public void setGovernorMeasures(String governorMeasures) {
+        this.governorMeasures = DegradationMeasure.parseList(governorMeasures);
+    }
+
+    /**
+     * Gets the degradation measures of a new game, in the order the governor takes them.
+     *
+     * @return the degradation measures.
+     */
+    public DegradationMeasure[] getGovernorMeasureOrder() {
+        return governorMeasures.clone();
+    }
+
+    /**
+     * Gets the number of live pucks over which no pucks are spawned while the governor caps them.
+     *
+     * @return the puck cap.
+     */
+    @Override
+    public int getGovernorPuckCap() {
+        return governorPuckCap;
+    }
+
+    /**
+     * Sets the number of live pucks over which no pucks are spawned while the governor caps them.
+     *
+     * @param governorPuckCap the puck cap.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    @Override
+    public void setGovernorPuckCap(int governorPuckCap) {
+        this.governorPuckCap = checkRange("governor.puckCap", governorPuckCap, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the duration of the last game logic step.
+     *
+     * @return the last tick time in microseconds.
+     */
+    @Override
+    public long getLastTickMicros() {
+        return lastTickNanos / NANOS_IN_MICRO;
+    }
+
+    /**
+     * Gets the moving average of the game logic step duration.
+     *
+     * @return the average tick time in microseconds.
+     */
+    @Override
+    public long getAverageTickMicros() {
+        return (long) averageTickNanos / NANOS_IN_MICRO;
+    }
+
+    /**
+     * Gets the number of bricks left on the board.
+     *
+     * @return the number of bricks.
+     */
+    @Override
+    public int getBrickCount() {
+        return brickCount;
+    }
+
+    /**
+     * Gets the number of live pucks.
+     *
+     * @return the number of pucks.
+     */
+    @Override
+    public int getPuckCount() {
+        return puckCount;
+    }
+
+    /**
+     * Gets the number of falling hearts.
+     *
+     * @return the number of hearts.
+     */
+    @Override
+    public int getHeartCount() {
+        return heartCount;
+    }
+
+    /**
+     * Reads an integer property, falling back to the current value when the property is absent.
+     *
+     * @param properties   the properties to read from.
+     * @param key          the key of the property.
+     * @param currentValue the value to keep when the property is absent.
+     * @param min          the lowest valid value.
+     * @param max          the highest valid value.
+     * @return the value of the property, or the current value.
+     * @throws IllegalArgumentException if the value of the property is out of range.
+     */
+    private static int readInt(Properties properties, String key, int currentValue, int min, int max) {
+        String value = properties.getProperty(key);
+        return value == null ? currentValue : checkRange(key, Integer.parseInt(value.trim()), min, max);
+    }
+
+    /**
+     * Checks that the value of a tunable is in its range.
+     *
+     * @param key   the property key of the tunable, used in the error message.
+     * @param value the value to check.
+     * @param min   the lowest valid value.
+     * @param max   the highest valid value.
+     * @return the value.
+     * @throws IllegalArgumentException if the value is out of range.
+     */
+    private static int checkRange(String key, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(key + " must be between " + min + " and " + max + ", got " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a long property, falling back to the current value when the property is absent.
+     *
+     * @param properties   the properties to read from.
+     * @param key          the key of the property.
+     * @param currentValue the value to keep when the property is absent.
+     * @return the value of the property, or the current value.
+     */
+    private static long readLong(Properties properties, String key, long currentValue) {
+        String value = properties.getProperty(key);
+        return value == null ? currentValue : Long.parseLong(value.trim());
+    }
+
+    /**
+     * Reads a boolean property, falling back to the current value when the property is absent.
+     *
+     * @param properties   the properties to read from.
+     * @param key          the key of the property.
+     * @param currentValue the value to keep when the property is absent.
+     * @return the value of the property, or the current value.
+     */
+    private static boolean readBoolean(Properties properties, String key, boolean currentValue) {
+        String value = properties.getProperty(key);
+        return value == null ? currentValue : Boolean.parseBoolean(value.trim());
+    }
+}
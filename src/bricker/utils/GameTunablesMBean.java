@@ -0,0 +1,302 @@
+package bricker.utils;
+
+/**
+ * GameTunablesMBean is the management interface of the Bricker game's tunables, exposed over JMX.
+ * It lists the values that drive the load of the game, which can be read and changed on a running instance, and
+ * the live metrics of the game, which can only be read.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public interface GameTunablesMBean {
+
+    /**
+     * Gets the speed of a newly launched ball or puck, on each axis.
+     *
+     * @return the ball speed in pixels per second.
+     */
+    int getBallSpeed();
+
+    /**
+     * Sets the speed of a newly launched ball or puck, on each axis.
+     *
+     * @param ballSpeed the ball speed in pixels per second.
+     * @throws IllegalArgumentException if the value is not between 1 and GameTunables.MAX_SPEED.
+     */
+    void setBallSpeed(int ballSpeed);
+
+    /**
+     * Gets the speed of a falling heart.
+     *
+     * @return the heart speed in pixels per second.
+     */
+    int getHeartSpeed();
+
+    /**
+     * Sets the speed of a falling heart.
+     *
+     * @param heartSpeed the heart speed in pixels per second.
+     * @throws IllegalArgumentException if the value is not between 1 and GameTunables.MAX_SPEED.
+     */
+    void setHeartSpeed(int heartSpeed);
+
+    /**
+     * Gets the number of pucks released by a puck brick.
+     *
+     * @return the number of pucks per brick.
+     */
+    int getPucksPerBrick();
+
+    /**
+     * Sets the number of pucks released by a puck brick.
+     *
+     * @param pucksPerBrick the number of pucks per brick.
+     * @throws IllegalArgumentException if the value is not between 0 and GameTunables.MAX_PUCKS_PER_BRICK.
+     */
+    void setPucksPerBrick(int pucksPerBrick);
+
+    /**
+     * Gets the number of collisions an extra paddle takes before it is removed.
+     *
+     * @return the extra paddle collisions.
+     */
+    int getExtraPaddleCollisions();
+
+    /**
+     * Sets the number of collisions an extra paddle takes before it is removed.
+     *
+     * @param extraPaddleCollisions the extra paddle collisions.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    void setExtraPaddleCollisions(int extraPaddleCollisions);
+
+    /**
+     * Gets the number of ball collisions the camera follows the ball for.
+     *
+     * @return the camera collisions.
+     */
+    int getCameraCollisions();
+
+    /**
+     * Sets the number of ball collisions the camera follows the ball for.
+     *
+     * @param cameraCollisions the camera collisions.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    void setCameraCollisions(int cameraCollisions);
+
+    /**
+     * Gets the number of brick rows of a new board.
+     *
+     * @return the number of brick rows.
+     */
+    int getBoardRows();
+
+    /**
+     * Sets the number of brick rows of a new board.
+     *
+     * @param boardRows the number of brick rows.
+     * @throws IllegalArgumentException if the value is not between 1 and GameTunables.MAX_BOARD_SIDE.
+     */
+    void setBoardRows(int boardRows);
+
+    /**
+     * Gets the number of bricks in a row of a new board.
+     *
+     * @return the number of bricks in a row.
+     */
+    int getBoardCols();
+
+    /**
+     * Sets the number of bricks in a row of a new board.
+     *
+     * @param boardCols the number of bricks in a row.
+     * @throws IllegalArgumentException if the value is not between 1 and GameTunables.MAX_BOARD_SIDE.
+     */
+    void setBoardCols(int boardCols);
+
+    /**
+     * Gets the seed the strategies of a new board and the random choices of its game are drawn from.
+     *
+     * @return the board seed, or 0 if every board gets a random seed.
+     */
+    long getBoardSeed();
+
+    /**
+     * Sets the seed the strategies of a new board and the random choices of its game are drawn from.
+     *
+     * @param boardSeed the board seed, or 0 to give every board a random seed.
+     */
+    void setBoardSeed(long boardSeed);
+
+    /**
+     * Checks whether a new board is endless: cleared brick rows are replaced by new rows streaming in from the top,
+     * and the game is never won.
+     *
+     * @return true if a new board is endless, false otherwise.
+     */
+    boolean isEndlessBoard();
+
+    /**
+     * Sets whether a new board is endless.
+     *
+     * @param isEndlessBoard whether a new board replaces its cleared rows with new rows.
+     */
+    void setEndlessBoard(boolean isEndlessBoard);
+
+    /**
+     * Gets the time after which an endless board pushes its rows down and a new row comes in at the top.
+     *
+     * @return the time between two pushes in seconds, or 0 if rows only come in once others are cleared.
+     */
+    int getBoardPushSeconds();
+
+    /**
+     * Sets the time after which an endless board pushes its rows down and a new row comes in at the top.
+     *
+     * @param boardPushSeconds the time between two pushes in seconds, or 0 to only bring in rows once others are
+     *                         cleared.
+     * @throws IllegalArgumentException if the value is not between 0 and GameTunables.MAX_BOARD_PUSH_SECONDS.
+     */
+    void setBoardPushSeconds(int boardPushSeconds);
+
+    /**
+     * Gets the distribution the strategies of a new board are drawn from.
+     *
+     * @return the strategy weights, written as name=value entries.
+     */
+    String getStrategyWeights();
+
+    /**
+     * Sets the distribution the strategies of a new board are drawn from. Entries that are left out get their
+     * default value.
+     *
+     * @param strategyWeights the strategy weights, written as name=value entries.
+     * @throws IllegalArgumentException if an entry is malformed or the weights are invalid.
+     */
+    void setStrategyWeights(String strategyWeights);
+
+    /**
+     * Gets the number of game logic steps per second of a new game.
+     *
+     * @return the physics rate.
+     */
+    int getPhysicsRate();
+
+    /**
+     * Sets the number of game logic steps per second of a new game.
+     *
+     * @param physicsRate the physics rate.
+     * @throws IllegalArgumentException if the value is not between 1 and GameTunables.MAX_PHYSICS_RATE.
+     */
+    void setPhysicsRate(int physicsRate);
+
+    /**
+     * Gets the maximum number of game logic steps run in a single frame.
+     *
+     * @return the maximum number of substeps.
+     */
+    int getMaxPhysicsSubsteps();
+
+    /**
+     * Sets the maximum number of game logic steps run in a single frame.
+     *
+     * @param maxPhysicsSubsteps the maximum number of substeps.
+     * @throws IllegalArgumentException if the value is not between 1 and GameTunables.MAX_PHYSICS_SUBSTEPS.
+     */
+    void setMaxPhysicsSubsteps(int maxPhysicsSubsteps);
+
+    /**
+     * Checks whether a new game moves its balls, pucks, paddles and falling hearts in fixed point, so it plays the
+     * same on every machine.
+     *
+     * @return true if a new game uses the fixed-point physics mode, false otherwise.
+     */
+    boolean isFixedPointPhysics();
+
+    /**
+     * Sets whether a new game moves its balls, pucks, paddles and falling hearts in fixed point.
+     *
+     * @param isFixedPointPhysics whether a new game uses the fixed-point physics mode.
+     */
+    void setFixedPointPhysics(boolean isFixedPointPhysics);
+
+    /**
+     * Gets the target of the time a frame of a new game spends in the game logic.
+     *
+     * @return the governor target in microseconds, or 0 if the governor never degrades the game.
+     */
+    int getGovernorTargetMicros();
+
+    /**
+     * Sets the target of the time a frame of a new game spends in the game logic.
+     *
+     * @param governorTargetMicros the governor target in microseconds, or 0 to never degrade the game.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    void setGovernorTargetMicros(int governorTargetMicros);
+
+    /**
+     * Gets the degradation measures of a new game, in the order the governor takes them.
+     *
+     * @return the comma separated names of the measures.
+     */
+    String getGovernorMeasures();
+
+    /**
+     * Sets the degradation measures of a new game, in the order the governor takes them.
+     *
+     * @param governorMeasures the comma separated names of the measures.
+     * @throws IllegalArgumentException if a name is unknown or appears twice.
+     */
+    void setGovernorMeasures(String governorMeasures);
+
+    /**
+     * Gets the number of live pucks over which no pucks are spawned while the governor caps them.
+     *
+     * @return the puck cap.
+     */
+    int getGovernorPuckCap();
+
+    /**
+     * Sets the number of live pucks over which no pucks are spawned while the governor caps them.
+     *
+     * @param governorPuckCap the puck cap.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    void setGovernorPuckCap(int governorPuckCap);
+
+    /**
+     * Gets the duration of the last game logic step.
+     *
+     * @return the last tick time in microseconds.
+     */
+    long getLastTickMicros();
+
+    /**
+     * Gets the moving average of the game logic step duration.
+     *
+     * @return the average tick time in microseconds.
+     */
+    long getAverageTickMicros();
+
+    /**
+     * Gets the number of bricks left on the board.
+     *
+     * @return the number of bricks.
+     */
+    int getBrickCount();
+
+    /**
+     * Gets the number of live pucks.
+     *
+     * @return the number of pucks.
+     */
+    int getPuckCount();
+
+    /**
+     * Gets the number of falling hearts.
+     *
+     * @return the number of hearts.
+     */
+    int getHeartCount();
+}
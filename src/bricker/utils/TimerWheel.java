@@ -0,0 +1,94 @@
+package bricker.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TimerWheel class schedules tasks to run after a number of game logic ticks.
+ * Tasks are kept in a ring of slots indexed by their due tick, so advancing the wheel by a tick only looks at the
+ * single slot of that tick, and does nothing at all while no task is pending. Tasks due further away than the
+ * size of the ring simply stay in their slot until the wheel comes around to their due tick.
+ *
+ * @author Rotem Aharoni and Dana Bar Zakay
+ */
+public class TimerWheel {
+    private final List<List<ScheduledTask>> slots;
+    private final int mask;
+    private long currentTick = 0;
+    private int pendingCount = 0;
+
+    /**
+     * Constructs a TimerWheel with at least the specified number of slots.
+     *
+     * @param minSlots the minimum number of slots, rounded up to a power of two.
+     */
+    public TimerWheel(int minSlots) {
+        int slotCount = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1;
+        this.mask = slotCount - 1;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a task to run after the specified number of ticks. A task is never run during the tick it was
+     * scheduled in, so a delay of 0 runs it on the next tick.
+     *
+     * @param delayTicks the number of ticks to wait.
+     * @param task       the task to run.
+     */
+    public void schedule(int delayTicks, Runnable task) {
+        long dueTick = currentTick + Math.max(1, delayTicks);
+        slots.get((int) (dueTick & mask)).add(new ScheduledTask(dueTick, task));
+        pendingCount++;
+    }
+
+    /**
+     * Advances the wheel by a single tick and runs the tasks that are due.
+     */
+    public void advance() {
+        currentTick++;
+        if (pendingCount == 0) {
+            return;
+        }
+        List<ScheduledTask> slot = slots.get((int) (currentTick & mask));
+        for (int i = slot.size() - 1; i >= 0; i--) {
+            ScheduledTask scheduledTask = slot.get(i);
+            if (scheduledTask.dueTick <= currentTick) {
+                slot.set(i, slot.get(slot.size() - 1));
+                slot.remove(slot.size() - 1);
+                pendingCount--;
+                scheduledTask.task.run();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tasks waiting to run.
+     *
+     * @return the number of pending tasks.
+     */
+    public int pendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * ScheduledTask class holds a task together with the tick it is due at.
+     */
+    private static class ScheduledTask {
+        private final long dueTick;
+        private final Runnable task;
+
+        /**
+         * Constructs a ScheduledTask.
+         *
+         * @param dueTick the tick the task is due at.
+         * @param task    the task to run.
+         */
+        private ScheduledTask(long dueTick, Runnable task) {
+            this.dueTick = dueTick;
+            this.task = task;
+        }
+    }
+}